@@ -2,6 +2,7 @@ package dev.klepto.unreflect.benchmark;
 
 import dev.klepto.unreflect.ParameterAccess;
 import dev.klepto.unreflect.Unreflect;
+import dev.klepto.unreflect.engine.LambdaEngine;
 import dev.klepto.unreflect.property.Invokable;
 import lombok.SneakyThrows;
 import one.util.streamex.StreamEx;
@@ -23,6 +24,7 @@ public class ConstructorBenchmarks {
     private final Invokable direct;
     private final Invokable reflect;
     private final Invokable unreflect;
+    private final Invokable unreflectLambda;
 
     @SneakyThrows
     public ConstructorBenchmarks() {
@@ -39,6 +41,7 @@ public class ConstructorBenchmarks {
         };
         this.reflect = Unreflect.reflect(Subject.class).constructor();
         this.unreflect = Unreflect.unreflect(Subject.class).constructor();
+        this.unreflectLambda = Unreflect.reflect(Subject.class).constructor().unreflect(LambdaEngine.getInstance());
     }
 
     @Benchmark
@@ -57,6 +60,11 @@ public class ConstructorBenchmarks {
         unreflect.invoke();
     }
 
+    @Benchmark
+    public void unreflectLambda() {
+        unreflectLambda.invoke();
+    }
+
     private static class Subject {
         public Subject() {
         }
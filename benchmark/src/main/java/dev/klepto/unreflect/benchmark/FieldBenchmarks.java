@@ -2,6 +2,7 @@ package dev.klepto.unreflect.benchmark;
 
 import dev.klepto.unreflect.FieldAccess;
 import dev.klepto.unreflect.Unreflect;
+import dev.klepto.unreflect.engine.UnsafeEngine;
 import dev.klepto.unreflect.property.Mutable;
 import lombok.SneakyThrows;
 import lombok.val;
@@ -25,6 +26,8 @@ public class FieldBenchmarks {
     private final Mutable direct;
     private final Mutable reflect;
     private final Mutable unreflect;
+    private final FieldAccess unreflectPrimitive;
+    private final FieldAccess unreflectUnsafe;
 
     @SneakyThrows
     public FieldBenchmarks() {
@@ -44,6 +47,8 @@ public class FieldBenchmarks {
 
         this.reflect = Unreflect.reflect(subject).field("value");
         this.unreflect = Unreflect.unreflect(subject).field("value");
+        this.unreflectPrimitive = Unreflect.unreflect(subject).field("value");
+        this.unreflectUnsafe = Unreflect.reflect(subject).field("value").unreflect(UnsafeEngine.getInstance());
     }
 
     @Benchmark
@@ -66,6 +71,24 @@ public class FieldBenchmarks {
         unreflect.set(value + 1);
     }
 
+    @Benchmark
+    public void unreflectPrimitive() {
+        val value = unreflectPrimitive.getInt();
+        unreflectPrimitive.setInt(value + 1);
+    }
+
+    @Benchmark
+    public void unreflectUnsafe() {
+        val value = (int) unreflectUnsafe.get();
+        unreflectUnsafe.set(value + 1);
+    }
+
+    @Benchmark
+    public void unreflectUnsafePrimitive() {
+        val value = unreflectUnsafe.getInt();
+        unreflectUnsafe.setInt(value + 1);
+    }
+
     private static class Subject {
         private int value = 0;
     }
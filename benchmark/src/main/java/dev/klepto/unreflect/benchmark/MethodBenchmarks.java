@@ -1,7 +1,9 @@
 package dev.klepto.unreflect.benchmark;
 
+import dev.klepto.unreflect.ClassAccess;
 import dev.klepto.unreflect.ParameterAccess;
 import dev.klepto.unreflect.Unreflect;
+import dev.klepto.unreflect.engine.LambdaEngine;
 import dev.klepto.unreflect.property.Invokable;
 import lombok.SneakyThrows;
 import one.util.streamex.StreamEx;
@@ -24,6 +26,9 @@ public class MethodBenchmarks {
     private final Invokable direct;
     private final Invokable reflect;
     private final Invokable unreflect;
+    private final Invokable unreflectLambda;
+    private final ClassAccess<Subject> reflectClass;
+    private final ClassAccess<Subject> unreflectClass;
 
     @SneakyThrows
     public MethodBenchmarks() {
@@ -42,6 +47,9 @@ public class MethodBenchmarks {
         };
         this.reflect = Unreflect.reflect(subject).method(0);
         this.unreflect = Unreflect.unreflect(subject).method(0);
+        this.unreflectLambda = Unreflect.reflect(subject).method(0).unreflect(LambdaEngine.getInstance());
+        this.reflectClass = Unreflect.reflect(subject);
+        this.unreflectClass = Unreflect.unreflect(subject);
     }
 
     @Benchmark
@@ -60,6 +68,31 @@ public class MethodBenchmarks {
         unreflect.invoke(1);
     }
 
+    @Benchmark
+    public void unreflectFixedArity() {
+        unreflect.invoke1(1);
+    }
+
+    @Benchmark
+    public void unreflectLambda() {
+        unreflectLambda.invoke(1);
+    }
+
+    @Benchmark
+    public void unreflectLambdaFixedArity() {
+        unreflectLambda.invoke1(1);
+    }
+
+    @Benchmark
+    public void reflectionByName() {
+        reflectClass.invoke("increaseValue", 1);
+    }
+
+    @Benchmark
+    public void unreflectByName() {
+        unreflectClass.invoke("increaseValue", 1);
+    }
+
     private static class Subject {
         private int value = 0;
         public void increaseValue(int amount) {
@@ -1,12 +1,18 @@
 package dev.klepto.unreflect;
 
 import dev.klepto.unreflect.property.Accessible;
+import dev.klepto.unreflect.property.Invokable;
 import dev.klepto.unreflect.property.Named;
 import dev.klepto.unreflect.property.Reflectable;
 import dev.klepto.unreflect.util.Parameters;
+import lombok.val;
 import one.util.streamex.StreamEx;
 
 import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * Represents access to a class and it's members. Enables type, annotation, name, modifiers and members access.
@@ -40,6 +46,42 @@ public interface ClassAccess<T> extends Reflectable, Named, Accessible<ClassAcce
      */
     T create(Object... args);
 
+    /**
+     * Invokes a method by name on the bound object, using runtime method lookup based on given arguments. Static
+     * methods can be invoked without binding the class access. Bytecode class access dispatches methods that are
+     * uniquely identified by name and number of arguments directly, without method lookup.
+     *
+     * @param name the method name
+     * @param args the method arguments
+     * @param <R>  the generic return type
+     * @return the result of method invocation, or null if method returns void
+     * @throws IllegalArgumentException if method by given name that accepts given arguments doesn't exist
+     */
+    <R> R invoke(String name, Object... args) throws IllegalArgumentException;
+
+    /**
+     * Gets the value of a field by name from the bound object. Static fields can be read without binding the class
+     * access.
+     *
+     * @param name the field name
+     * @param <R>  the generic field type
+     * @return the field value
+     * @throws IllegalArgumentException if field by given name doesn't exist
+     * @see ClassAccess#field(String)
+     */
+    <R> R get(String name) throws IllegalArgumentException;
+
+    /**
+     * Sets the value of a field by name in the bound object. Static fields can be written without binding the class
+     * access.
+     *
+     * @param name  the field name
+     * @param value the field value
+     * @throws IllegalArgumentException if field by given name doesn't exist
+     * @see ClassAccess#field(String)
+     */
+    void set(String name, Object value) throws IllegalArgumentException;
+
     /**
      * Returns a stream of all declared constructors in the represented class. Represented by {@link ConstructorAccess}.
      *
@@ -47,6 +89,17 @@ public interface ClassAccess<T> extends Reflectable, Named, Accessible<ClassAcce
      */
     StreamEx<ConstructorAccess<T>> constructors();
 
+    /**
+     * Returns an immutable list of all declared constructors in the represented class. Unlike {@link #constructors()},
+     * the list is cached once per class and is shared between all class accesses of that class, making repeated
+     * iteration allocation-free.
+     *
+     * @return an immutable list of constructors in the represented class
+     */
+    default List<ConstructorAccess<T>> constructorList() {
+        return constructors().toImmutableList();
+    }
+
     /**
      * Returns a constructor by index, or null if constructor by given index doesn't exist. Note that declaration order
      * in the source code is not guaranteed to be preserved during runtime.
@@ -95,12 +148,87 @@ public interface ClassAccess<T> extends Reflectable, Named, Accessible<ClassAcce
     }
 
     /**
-     * Returns a stream of declared fields in the represented class. Represented by {@link FieldAccess}.
+     * Returns a stream of declared fields in the represented class. Represented by {@link FieldAccess}. The class
+     * hierarchy is walked lazily, level by level, starting with fields of the represented class, so short-circuiting
+     * operations don't touch superclasses and interfaces that are never reached.
      *
      * @return a stream of fields in the represented class
      */
     StreamEx<FieldAccess> fields();
 
+    /**
+     * Returns a stream of fields declared by the represented class itself, excluding fields of superclasses and
+     * interfaces.
+     *
+     * @return a stream of fields declared by the represented class
+     */
+    default StreamEx<FieldAccess> declaredFields() {
+        return fields().filter(field -> field.source().getDeclaringClass() == source());
+    }
+
+    /**
+     * Returns an immutable list of fields in the represented class, in the order of {@link #fields()}. Unlike
+     * {@link #fields()}, the list is cached once per class and is shared between all class accesses of that class,
+     * making repeated iteration allocation-free. Since the list is shared, fields in the list are never bound to an
+     * object, use {@link #forEachField(Object, FieldVisitor)} to read values of a given object.
+     *
+     * @return an immutable list of fields in the represented class
+     */
+    default List<FieldAccess> fieldList() {
+        return fields().toImmutableList();
+    }
+
+    /**
+     * Returns the field table of the represented class. Field table is a single generated class that reads and writes
+     * every field of the class by slot, where slot is the index of the field in {@link #fieldList()}. Field table is
+     * generated once per class and is shared between all class accesses of that class.
+     *
+     * @return the field table of the represented class
+     */
+    FieldTable fieldTable();
+
+    /**
+     * Performs a given action for every field in the represented class, in the order of {@link #fields()}. Iterates
+     * over {@link #fieldList()} without creating a stream.
+     *
+     * @param action the action to perform on every field
+     */
+    default void forEachField(Consumer<FieldAccess> action) {
+        val fields = fieldList();
+        for (int i = 0; i < fields.size(); i++) {
+            action.accept(fields.get(i));
+        }
+    }
+
+    /**
+     * Performs a given action for every field and its value in the represented class, in the order of
+     * {@link #fields()}. Values of instance fields are read from the bound object, so class access has to be bound
+     * unless class only contains static fields. Values of primitive fields are boxed.
+     *
+     * @param action the action to perform on every field and its value
+     * @see #forEachField(Object, FieldVisitor)
+     */
+    default void forEachField(BiConsumer<FieldAccess, Object> action) {
+        fields().forEach(field -> action.accept(field, field.get()));
+    }
+
+    /**
+     * Visits every field and its value in a given object, in the order of {@link #fields()}. Iterates over
+     * {@link #fieldList()}, which is shared by all class accesses of the class, so class access doesn't have to be
+     * bound and visiting many objects of the same class doesn't allocate. Values of primitive fields are passed to the
+     * typed methods of the visitor without boxing.
+     *
+     * @param target  the object to read field values from, ignored for static fields
+     * @param visitor the visitor of every field and its value
+     */
+    default void forEachField(Object target, FieldVisitor visitor) {
+        val fields = fieldList();
+        for (int i = 0; i < fields.size(); i++) {
+            val field = fields.get(i);
+            visitor.visit(field, field.bind(target).get());
+        }
+    }
+
     /**
      * Returns a field by index, or null if field by given index doesn't exist. Field order in source code should always
      * match field order during runtime, which makes it rather safe to use source code as a reference for an index.
@@ -115,7 +243,8 @@ public interface ClassAccess<T> extends Reflectable, Named, Accessible<ClassAcce
 
     /**
      * Returns a field by name, or null if field by given name doesn't exist. Field names are in classes guaranteed to
-     * be unique.
+     * be unique. If superclass or interface declares a field with the same name, the field that comes first in
+     * {@link ClassAccess#fields()} order is returned.
      *
      * @param name the field name
      * @return the declared field with a given name in the represented class
@@ -125,12 +254,47 @@ public interface ClassAccess<T> extends Reflectable, Named, Accessible<ClassAcce
     }
 
     /**
-     * Returns a stream of declared methods in the represented class. Represented by {@link MethodAccess}.
+     * Returns a stream of fields that have given names, in the order of given names. Names that don't match any field
+     * are skipped.
+     *
+     * @param names the field names
+     * @return a stream of fields that have given names
+     * @see ClassAccess#field(String)
+     */
+    default StreamEx<FieldAccess> fields(String... names) {
+        return StreamEx.of(names).map(this::field).nonNull();
+    }
+
+    /**
+     * Returns a stream of declared methods in the represented class. Represented by {@link MethodAccess}. The class
+     * hierarchy is walked lazily, level by level, starting with methods of the represented class.
      *
      * @return a stream of methods in the represented class
      */
     StreamEx<MethodAccess> methods();
 
+    /**
+     * Returns a stream of methods declared by the represented class itself, excluding methods of superclasses and
+     * interfaces.
+     *
+     * @return a stream of methods declared by the represented class
+     */
+    default StreamEx<MethodAccess> declaredMethods() {
+        return methods().filter(method -> method.source().getDeclaringClass() == source());
+    }
+
+    /**
+     * Returns an immutable list of methods in the represented class, in the order of {@link #methods()}. Unlike
+     * {@link #methods()}, the list is cached once per class and is shared between all class accesses of that class,
+     * making repeated iteration allocation-free. Since the list is shared, methods in the list are never bound to an
+     * object.
+     *
+     * @return an immutable list of methods in the represented class
+     */
+    default List<MethodAccess> methodList() {
+        return methods().toImmutableList();
+    }
+
     /**
      * Returns a stream of methods that loosely matches given parameter values or parameter types. Can be either supplied
      * with array of values that you are going to pass to the method or array of classes that represent value types.
@@ -216,6 +380,49 @@ public interface ClassAccess<T> extends Reflectable, Named, Accessible<ClassAcce
         return methods(name, argsOrTypes).findFirst().orElse(null);
     }
 
+    /**
+     * Returns a stream of constructors annotated with a given annotation.
+     *
+     * @param annotationClass the annotation type
+     * @return a stream of constructors annotated with a given annotation
+     */
+    default StreamEx<ConstructorAccess<T>> constructorsAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return constructors().filter(constructor -> constructor.containsAnnotation(annotationClass));
+    }
+
+    /**
+     * Returns a stream of fields annotated with a given annotation.
+     *
+     * @param annotationClass the annotation type
+     * @return a stream of fields annotated with a given annotation
+     */
+    default StreamEx<FieldAccess> fieldsAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return fields().filter(field -> field.containsAnnotation(annotationClass));
+    }
+
+    /**
+     * Returns a stream of methods annotated with a given annotation.
+     *
+     * @param annotationClass the annotation type
+     * @return a stream of methods annotated with a given annotation
+     */
+    default StreamEx<MethodAccess> methodsAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return methods().filter(method -> method.containsAnnotation(annotationClass));
+    }
+
+    /**
+     * Returns a stream of constructor and method parameters annotated with a given annotation.
+     *
+     * @param annotationClass the annotation type
+     * @return a stream of parameters annotated with a given annotation
+     */
+    default StreamEx<ParameterAccess> parametersAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return constructors().<Invokable>map(constructor -> constructor)
+                .append(methods())
+                .flatMap(Invokable::parameters)
+                .filter(parameter -> parameter.containsAnnotation(annotationClass));
+    }
+
     /**
      * Returns class access of a superclass. Can be null if this class access represents {@link java.lang.Object}.
      *
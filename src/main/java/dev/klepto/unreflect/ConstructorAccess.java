@@ -1,9 +1,11 @@
 package dev.klepto.unreflect;
 
+import dev.klepto.unreflect.engine.AccessEngine;
 import dev.klepto.unreflect.property.Accessible;
 import dev.klepto.unreflect.property.Invokable;
 import dev.klepto.unreflect.property.Reflectable;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 
 /**
@@ -31,6 +33,34 @@ public interface ConstructorAccess<T> extends Reflectable, Invokable, Accessible
         return UnreflectType.of(source().getDeclaringClass());
     }
 
+    /**
+     * Returns an implementation of a given functional interface that directly invokes this constructor (e.g.
+     * {@link java.util.function.Supplier} for a no-argument constructor). Arguments are converted only where interface
+     * and constructor types differ.
+     *
+     * @param functionalInterface the functional interface
+     * @param <I>                 the generic functional interface type
+     * @return the functional interface implementation
+     * @throws IllegalArgumentException if interface is not functional or its method signature doesn't fit this
+     *                                  constructor
+     */
+    <I> I as(Class<I> functionalInterface) throws IllegalArgumentException;
+
+    /**
+     * Returns representation of this constructor that is directly invoked through a given access engine.
+     *
+     * @param engine the access engine
+     * @return a directly invoked representation of this constructor
+     */
+    ConstructorAccess<T> unreflect(AccessEngine engine);
+
+    /**
+     * Returns a method handle that invokes this constructor, acquired with private access to the declaring class.
+     *
+     * @return the method handle
+     */
+    MethodHandle toMethodHandle();
+
     /**
      * Invokes constructor with given argument values and returns the new instance of the class.
      *
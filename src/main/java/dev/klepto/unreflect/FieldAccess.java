@@ -1,10 +1,13 @@
 package dev.klepto.unreflect;
 
+import dev.klepto.unreflect.bytecode.asm.Conversions;
+import dev.klepto.unreflect.engine.AccessEngine;
 import dev.klepto.unreflect.property.Accessible;
 import dev.klepto.unreflect.property.Mutable;
 import dev.klepto.unreflect.property.Named;
 import dev.klepto.unreflect.property.Reflectable;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 
 /**
@@ -32,4 +35,195 @@ public interface FieldAccess extends Reflectable, Mutable, Named, Accessible<Fie
         return UnreflectType.of(source().getDeclaringClass());
     }
 
+    /**
+     * Returns an implementation of a given functional interface that directly reads this field. Instance fields are
+     * read from the only argument of the interface method if it accepts one (e.g.
+     * {@link java.util.function.ToIntFunction}), otherwise from the bound object (e.g.
+     * {@link java.util.function.IntSupplier}).
+     *
+     * @param functionalInterface the functional interface
+     * @param <I>                 the generic functional interface type
+     * @return the functional interface implementation
+     * @throws IllegalArgumentException if interface is not functional or its method signature doesn't fit this field
+     */
+    <I> I getterAs(Class<I> functionalInterface) throws IllegalArgumentException;
+
+    /**
+     * Returns representation of this field that is directly accessed through a given access engine.
+     *
+     * @param engine the access engine
+     * @return a directly accessed representation of this field
+     */
+    FieldAccess unreflect(AccessEngine engine);
+
+    /**
+     * Returns a method handle that reads this field, acquired with private access to the declaring class. Getter of
+     * an instance field takes the instance as its only argument, regardless of the bound object.
+     *
+     * @return the getter method handle
+     */
+    MethodHandle toGetterHandle();
+
+    /**
+     * Returns a method handle that writes this field, acquired with private access to the declaring class. Setter of
+     * an instance field takes the instance as its first argument, regardless of the bound object.
+     *
+     * @return the setter method handle
+     */
+    MethodHandle toSetterHandle();
+
+    /**
+     * Returns a {@code java.lang.invoke.VarHandle} of this field, acquired with private access to the declaring class.
+     * Var handle type is generic, because var handles are only available since JDK 9.
+     *
+     * @param <V> the generic var handle type
+     * @return the var handle
+     * @throws UnsupportedOperationException if current JDK version doesn't support var handles
+     */
+    <V> V toVarHandle() throws UnsupportedOperationException;
+
+    /**
+     * Gets value of this {@code boolean} field without boxing.
+     *
+     * @return the value of this field
+     */
+    default boolean getBoolean() {
+        return Conversions.toBoolean(get());
+    }
+
+    /**
+     * Sets value of this {@code boolean} field without boxing.
+     *
+     * @param value the value of this field
+     */
+    default void setBoolean(boolean value) {
+        set(value);
+    }
+
+    /**
+     * Gets value of this {@code byte} field without boxing.
+     *
+     * @return the value of this field
+     */
+    default byte getByte() {
+        return Conversions.toByte(get());
+    }
+
+    /**
+     * Sets value of this {@code byte} field without boxing.
+     *
+     * @param value the value of this field
+     */
+    default void setByte(byte value) {
+        set(value);
+    }
+
+    /**
+     * Gets value of this {@code char} field without boxing.
+     *
+     * @return the value of this field
+     */
+    default char getChar() {
+        return Conversions.toChar(get());
+    }
+
+    /**
+     * Sets value of this {@code char} field without boxing.
+     *
+     * @param value the value of this field
+     */
+    default void setChar(char value) {
+        set(value);
+    }
+
+    /**
+     * Gets value of this {@code short} field without boxing.
+     *
+     * @return the value of this field
+     */
+    default short getShort() {
+        return Conversions.toShort(get());
+    }
+
+    /**
+     * Sets value of this {@code short} field without boxing.
+     *
+     * @param value the value of this field
+     */
+    default void setShort(short value) {
+        set(value);
+    }
+
+    /**
+     * Gets value of this {@code int} field without boxing.
+     *
+     * @return the value of this field
+     */
+    default int getInt() {
+        return Conversions.toInt(get());
+    }
+
+    /**
+     * Sets value of this {@code int} field without boxing.
+     *
+     * @param value the value of this field
+     */
+    default void setInt(int value) {
+        set(value);
+    }
+
+    /**
+     * Gets value of this {@code long} field without boxing.
+     *
+     * @return the value of this field
+     */
+    default long getLong() {
+        return Conversions.toLong(get());
+    }
+
+    /**
+     * Sets value of this {@code long} field without boxing.
+     *
+     * @param value the value of this field
+     */
+    default void setLong(long value) {
+        set(value);
+    }
+
+    /**
+     * Gets value of this {@code float} field without boxing.
+     *
+     * @return the value of this field
+     */
+    default float getFloat() {
+        return Conversions.toFloat(get());
+    }
+
+    /**
+     * Sets value of this {@code float} field without boxing.
+     *
+     * @param value the value of this field
+     */
+    default void setFloat(float value) {
+        set(value);
+    }
+
+    /**
+     * Gets value of this {@code double} field without boxing.
+     *
+     * @return the value of this field
+     */
+    default double getDouble() {
+        return Conversions.toDouble(get());
+    }
+
+    /**
+     * Sets value of this {@code double} field without boxing.
+     *
+     * @param value the value of this field
+     */
+    default void setDouble(double value) {
+        set(value);
+    }
+
 }
@@ -0,0 +1,196 @@
+package dev.klepto.unreflect;
+
+/**
+ * Direct access to all fields of a class through a single generated class. Every field in the class hierarchy has an
+ * integer slot, which is the index of the field in {@link dev.klepto.unreflect.util.MemberTable#fields()}. Field access
+ * by slot is implemented with a {@code tableswitch}, so a class with any number of fields is accessed by one generated
+ * class instead of a generated class per field.
+ * <p>
+ * Typed methods read and write fields of the exact primitive type without boxing, other fields are converted the same
+ * way as by {@link dev.klepto.unreflect.bytecode.asm.MutableAccessor}.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public interface FieldTable {
+
+    /**
+     * Returns the number of fields in this table.
+     *
+     * @return the number of field slots
+     */
+    int size();
+
+    /**
+     * Returns the slot of a field by name. If superclass or interface declares a field with the same name, the slot
+     * of the field that comes first in the class hierarchy is returned.
+     *
+     * @param name the field name
+     * @return the field slot, or -1 if field by given name doesn't exist
+     */
+    int slot(String name);
+
+    /**
+     * Gets the value of a field.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @return the field value
+     * @throws IndexOutOfBoundsException if slot is out of bounds
+     */
+    Object get(Object target, int slot);
+
+    /**
+     * Sets the value of a field.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @param value  the field value
+     * @throws IndexOutOfBoundsException if slot is out of bounds
+     */
+    void set(Object target, int slot, Object value);
+
+    /**
+     * Gets the value of a field, without boxing if field is of {@code boolean} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @return the field value
+     */
+    boolean getBoolean(Object target, int slot);
+
+    /**
+     * Sets the value of a field, without boxing if field is of {@code boolean} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @param value  the field value
+     */
+    void setBoolean(Object target, int slot, boolean value);
+
+    /**
+     * Gets the value of a field, without boxing if field is of {@code byte} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @return the field value
+     */
+    byte getByte(Object target, int slot);
+
+    /**
+     * Sets the value of a field, without boxing if field is of {@code byte} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @param value  the field value
+     */
+    void setByte(Object target, int slot, byte value);
+
+    /**
+     * Gets the value of a field, without boxing if field is of {@code char} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @return the field value
+     */
+    char getChar(Object target, int slot);
+
+    /**
+     * Sets the value of a field, without boxing if field is of {@code char} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @param value  the field value
+     */
+    void setChar(Object target, int slot, char value);
+
+    /**
+     * Gets the value of a field, without boxing if field is of {@code short} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @return the field value
+     */
+    short getShort(Object target, int slot);
+
+    /**
+     * Sets the value of a field, without boxing if field is of {@code short} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @param value  the field value
+     */
+    void setShort(Object target, int slot, short value);
+
+    /**
+     * Gets the value of a field, without boxing if field is of {@code int} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @return the field value
+     */
+    int getInt(Object target, int slot);
+
+    /**
+     * Sets the value of a field, without boxing if field is of {@code int} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @param value  the field value
+     */
+    void setInt(Object target, int slot, int value);
+
+    /**
+     * Gets the value of a field, without boxing if field is of {@code long} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @return the field value
+     */
+    long getLong(Object target, int slot);
+
+    /**
+     * Sets the value of a field, without boxing if field is of {@code long} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @param value  the field value
+     */
+    void setLong(Object target, int slot, long value);
+
+    /**
+     * Gets the value of a field, without boxing if field is of {@code float} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @return the field value
+     */
+    float getFloat(Object target, int slot);
+
+    /**
+     * Sets the value of a field, without boxing if field is of {@code float} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @param value  the field value
+     */
+    void setFloat(Object target, int slot, float value);
+
+    /**
+     * Gets the value of a field, without boxing if field is of {@code double} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @return the field value
+     */
+    double getDouble(Object target, int slot);
+
+    /**
+     * Sets the value of a field, without boxing if field is of {@code double} type.
+     *
+     * @param target the instance of declaring class, ignored for static fields
+     * @param slot   the field slot
+     * @param value  the field value
+     */
+    void setDouble(Object target, int slot, double value);
+
+}
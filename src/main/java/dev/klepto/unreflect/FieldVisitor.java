@@ -0,0 +1,102 @@
+package dev.klepto.unreflect;
+
+/**
+ * Visitor of field values, used by {@link ClassAccess#forEachField(Object, FieldVisitor)}. Values of primitive fields
+ * are passed to the typed visit methods without boxing, which by default box the value and pass it to
+ * {@link #visit(FieldAccess, Object)}. Override typed methods of the primitive types that need to be read without
+ * boxing.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+@FunctionalInterface
+public interface FieldVisitor {
+
+    /**
+     * Visits a field and its value.
+     *
+     * @param field the field
+     * @param value the field value, boxed if field is of primitive type
+     */
+    void visit(FieldAccess field, Object value);
+
+    /**
+     * Visits a {@code boolean} field and its value.
+     *
+     * @param field the field
+     * @param value the field value
+     */
+    default void visitBoolean(FieldAccess field, boolean value) {
+        visit(field, value);
+    }
+
+    /**
+     * Visits a {@code byte} field and its value.
+     *
+     * @param field the field
+     * @param value the field value
+     */
+    default void visitByte(FieldAccess field, byte value) {
+        visit(field, value);
+    }
+
+    /**
+     * Visits a {@code char} field and its value.
+     *
+     * @param field the field
+     * @param value the field value
+     */
+    default void visitChar(FieldAccess field, char value) {
+        visit(field, value);
+    }
+
+    /**
+     * Visits a {@code short} field and its value.
+     *
+     * @param field the field
+     * @param value the field value
+     */
+    default void visitShort(FieldAccess field, short value) {
+        visit(field, value);
+    }
+
+    /**
+     * Visits an {@code int} field and its value.
+     *
+     * @param field the field
+     * @param value the field value
+     */
+    default void visitInt(FieldAccess field, int value) {
+        visit(field, value);
+    }
+
+    /**
+     * Visits a {@code long} field and its value.
+     *
+     * @param field the field
+     * @param value the field value
+     */
+    default void visitLong(FieldAccess field, long value) {
+        visit(field, value);
+    }
+
+    /**
+     * Visits a {@code float} field and its value.
+     *
+     * @param field the field
+     * @param value the field value
+     */
+    default void visitFloat(FieldAccess field, float value) {
+        visit(field, value);
+    }
+
+    /**
+     * Visits a {@code double} field and its value.
+     *
+     * @param field the field
+     * @param value the field value
+     */
+    default void visitDouble(FieldAccess field, double value) {
+        visit(field, value);
+    }
+
+}
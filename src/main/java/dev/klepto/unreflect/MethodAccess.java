@@ -1,10 +1,13 @@
 package dev.klepto.unreflect;
 
+import dev.klepto.unreflect.bytecode.asm.Conversions;
+import dev.klepto.unreflect.engine.AccessEngine;
 import dev.klepto.unreflect.property.Accessible;
 import dev.klepto.unreflect.property.Invokable;
 import dev.klepto.unreflect.property.Named;
 import dev.klepto.unreflect.property.Reflectable;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 /**
@@ -32,4 +35,183 @@ public interface MethodAccess extends Reflectable, Invokable, Named, Accessible<
         return UnreflectType.of(source().getDeclaringClass());
     }
 
+    /**
+     * Returns an implementation of a given functional interface that directly invokes this method. Instance methods
+     * are invoked on the first argument of the interface method if it accepts one more argument than this method,
+     * otherwise on the bound object. Arguments and result are converted only where interface and method types differ,
+     * interfaces with exact types (e.g. {@link java.util.function.IntUnaryOperator}) neither box nor allocate.
+     *
+     * @param functionalInterface the functional interface
+     * @param <I>                 the generic functional interface type
+     * @return the functional interface implementation
+     * @throws IllegalArgumentException if interface is not functional or its method signature doesn't fit this method
+     */
+    <I> I as(Class<I> functionalInterface) throws IllegalArgumentException;
+
+    /**
+     * Returns representation of this method that is directly invoked through a given access engine.
+     *
+     * @param engine the access engine
+     * @return a directly invoked representation of this method
+     */
+    MethodAccess unreflect(AccessEngine engine);
+
+    /**
+     * Returns a method handle that invokes this method, acquired with private access to the declaring class. Handle of
+     * an instance method takes the instance as its first argument, regardless of the bound object.
+     *
+     * @return the method handle
+     */
+    MethodHandle toMethodHandle();
+
+    /**
+     * Invokes this method with 0 arguments and returns {@code int} result. When method is accessed via
+     * bytecode, neither arguments array nor boxed result is allocated.
+     *
+     * @return the result of method invocation
+     * @throws RuntimeException if exception occurred during invocation, or if method doesn't accept given arguments
+     */
+    default int invokeInt() throws RuntimeException {
+        return Conversions.toInt(invoke());
+    }
+
+    /**
+     * Invokes this method with 1 argument and returns {@code int} result. When method is accessed via
+     * bytecode, neither arguments array nor boxed result is allocated.
+     *
+     * @param a   the first argument
+     * @return the result of method invocation
+     * @throws RuntimeException if exception occurred during invocation, or if method doesn't accept given arguments
+     */
+    default int invokeInt(Object a) throws RuntimeException {
+        return Conversions.toInt(invoke(a));
+    }
+
+    /**
+     * Invokes this method with 2 arguments and returns {@code int} result. When method is accessed via
+     * bytecode, neither arguments array nor boxed result is allocated.
+     *
+     * @param a   the first argument
+     * @param b   the second argument
+     * @return the result of method invocation
+     * @throws RuntimeException if exception occurred during invocation, or if method doesn't accept given arguments
+     */
+    default int invokeInt(Object a, Object b) throws RuntimeException {
+        return Conversions.toInt(invoke(a, b));
+    }
+
+    /**
+     * Invokes this method with 3 arguments and returns {@code int} result. When method is accessed via
+     * bytecode, neither arguments array nor boxed result is allocated.
+     *
+     * @param a   the first argument
+     * @param b   the second argument
+     * @param c   the third argument
+     * @return the result of method invocation
+     * @throws RuntimeException if exception occurred during invocation, or if method doesn't accept given arguments
+     */
+    default int invokeInt(Object a, Object b, Object c) throws RuntimeException {
+        return Conversions.toInt(invoke(a, b, c));
+    }
+
+    /**
+     * Invokes this method with 0 arguments and returns {@code long} result. When method is accessed via
+     * bytecode, neither arguments array nor boxed result is allocated.
+     *
+     * @return the result of method invocation
+     * @throws RuntimeException if exception occurred during invocation, or if method doesn't accept given arguments
+     */
+    default long invokeLong() throws RuntimeException {
+        return Conversions.toLong(invoke());
+    }
+
+    /**
+     * Invokes this method with 1 argument and returns {@code long} result. When method is accessed via
+     * bytecode, neither arguments array nor boxed result is allocated.
+     *
+     * @param a   the first argument
+     * @return the result of method invocation
+     * @throws RuntimeException if exception occurred during invocation, or if method doesn't accept given arguments
+     */
+    default long invokeLong(Object a) throws RuntimeException {
+        return Conversions.toLong(invoke(a));
+    }
+
+    /**
+     * Invokes this method with 2 arguments and returns {@code long} result. When method is accessed via
+     * bytecode, neither arguments array nor boxed result is allocated.
+     *
+     * @param a   the first argument
+     * @param b   the second argument
+     * @return the result of method invocation
+     * @throws RuntimeException if exception occurred during invocation, or if method doesn't accept given arguments
+     */
+    default long invokeLong(Object a, Object b) throws RuntimeException {
+        return Conversions.toLong(invoke(a, b));
+    }
+
+    /**
+     * Invokes this method with 3 arguments and returns {@code long} result. When method is accessed via
+     * bytecode, neither arguments array nor boxed result is allocated.
+     *
+     * @param a   the first argument
+     * @param b   the second argument
+     * @param c   the third argument
+     * @return the result of method invocation
+     * @throws RuntimeException if exception occurred during invocation, or if method doesn't accept given arguments
+     */
+    default long invokeLong(Object a, Object b, Object c) throws RuntimeException {
+        return Conversions.toLong(invoke(a, b, c));
+    }
+
+    /**
+     * Invokes this method with 0 arguments and returns {@code boolean} result. When method is accessed via
+     * bytecode, neither arguments array nor boxed result is allocated.
+     *
+     * @return the result of method invocation
+     * @throws RuntimeException if exception occurred during invocation, or if method doesn't accept given arguments
+     */
+    default boolean invokeBoolean() throws RuntimeException {
+        return Conversions.toBoolean(invoke());
+    }
+
+    /**
+     * Invokes this method with 1 argument and returns {@code boolean} result. When method is accessed via
+     * bytecode, neither arguments array nor boxed result is allocated.
+     *
+     * @param a   the first argument
+     * @return the result of method invocation
+     * @throws RuntimeException if exception occurred during invocation, or if method doesn't accept given arguments
+     */
+    default boolean invokeBoolean(Object a) throws RuntimeException {
+        return Conversions.toBoolean(invoke(a));
+    }
+
+    /**
+     * Invokes this method with 2 arguments and returns {@code boolean} result. When method is accessed via
+     * bytecode, neither arguments array nor boxed result is allocated.
+     *
+     * @param a   the first argument
+     * @param b   the second argument
+     * @return the result of method invocation
+     * @throws RuntimeException if exception occurred during invocation, or if method doesn't accept given arguments
+     */
+    default boolean invokeBoolean(Object a, Object b) throws RuntimeException {
+        return Conversions.toBoolean(invoke(a, b));
+    }
+
+    /**
+     * Invokes this method with 3 arguments and returns {@code boolean} result. When method is accessed via
+     * bytecode, neither arguments array nor boxed result is allocated.
+     *
+     * @param a   the first argument
+     * @param b   the second argument
+     * @param c   the third argument
+     * @return the result of method invocation
+     * @throws RuntimeException if exception occurred during invocation, or if method doesn't accept given arguments
+     */
+    default boolean invokeBoolean(Object a, Object b, Object c) throws RuntimeException {
+        return Conversions.toBoolean(invoke(a, b, c));
+    }
+
 }
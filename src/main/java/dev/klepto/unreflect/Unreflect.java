@@ -1,14 +1,24 @@
 package dev.klepto.unreflect;
 
 import dev.klepto.unreflect.property.Accessible;
+import dev.klepto.unreflect.engine.AccessEngine;
+import dev.klepto.unreflect.engine.AccessEngines;
 import dev.klepto.unreflect.reflection.*;
+import dev.klepto.unreflect.util.Caches;
+import dev.klepto.unreflect.util.MemberCache;
 import lombok.SneakyThrows;
 import lombok.val;
+import one.util.streamex.StreamEx;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.Collection;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
 
 /**
  * Unreflect is small but very powerful alternative to java reflection API. Provides easy to use type, class, field,
@@ -23,6 +33,18 @@ import java.lang.reflect.Parameter;
  */
 public final class Unreflect {
 
+    private static final ClassValue<ClassAccess<?>> classAccesses = new ClassValue<ClassAccess<?>>() {
+        @Override
+        protected ClassAccess<?> computeValue(Class<?> type) {
+            Caches.register(type);
+            return new ReflectionClassAccess<>(type, null);
+        }
+    };
+
+    static {
+        Caches.onEvict(classAccesses::remove);
+    }
+
     private Unreflect() {
     }
 
@@ -55,6 +77,34 @@ public final class Unreflect {
         return reflect(targetClass).unreflect();
     }
 
+    /**
+     * Converts many fields, methods and constructors to code-generated access at once. Accessors of all members are
+     * prepared in a batch by the default engines, which in case of bytecode engine generates a few classes in total
+     * instead of a class per member. Batching is never done implicitly, {@link Accessible#unreflect()} and class
+     * accesses always create accessors per member. Unreflecting members one by one is advised if only some of them
+     * will be accessed.
+     *
+     * @param members the target fields, methods and constructors
+     * @return the code-generated accessors of given members, in the same order
+     * @throws IllegalArgumentException if a given member is not a field, method or constructor
+     */
+    public static List<Accessible<?>> unreflectAll(Collection<? extends Member> members) {
+        AccessEngines.getFieldDefault().prepareAccessors(StreamEx.of(members).select(Field.class).toList());
+        AccessEngines.getMethodDefault().prepareAccessors(StreamEx.of(members).select(Method.class).toList());
+        AccessEngines.getConstructorDefault().prepareAccessors(StreamEx.of(members).select(Constructor.class).toList());
+        return StreamEx.of(members).<Accessible<?>>map(Unreflect::unreflectMember).toImmutableList();
+    }
+
+    private static Accessible<?> unreflectMember(Member member) {
+        if (member instanceof Field) {
+            return reflect((Field) member).unreflect();
+        } else if (member instanceof Method) {
+            return reflect((Method) member).unreflect();
+        }
+        checkArgument(member instanceof Constructor, "Member %s is not a field, method or constructor.", member);
+        return reflect((Constructor<?>) member).unreflect();
+    }
+
     /**
      * Creates {@link ClassAccess} for a given object that use reflection API to access its members. This method
      * automatically calls {@link Accessible#bind(Object)} on created accessor in order to skip on supplying instance
@@ -87,14 +137,79 @@ public final class Unreflect {
     /**
      * Creates {@link ClassAccess} for a given class that use reflection API to access its members. All members are
      * automatically set to accessible upon lookup to prevent any security checks by the JVM. This allows for
-     * unrestricted access to anything regardless of module or visibility.
+     * unrestricted access to anything regardless of module or visibility. Class accessors are immutable, unbound
+     * accessor is created only once per class and shared between all callers.
      *
      * @param targetClass the target class
      * @param <T>         type that represents the class
      * @return a class accessor that will use reflection API for accessing its members
      */
+    @SuppressWarnings("unchecked")
     public static <T> ClassAccess<T> reflect(Class<T> targetClass) {
-        return new ReflectionClassAccess<>(targetClass, null);
+        return (ClassAccess<T>) classAccesses.get(targetClass);
+    }
+
+    /**
+     * Evicts all cached accessors, member tables and types of a given class. Cached values are recomputed on next
+     * access. Caches are bound to classes and are released together with their class loader, eviction is only needed
+     * to release memory of classes that stay loaded.
+     *
+     * @param targetClass the target class
+     */
+    public static void evict(Class<?> targetClass) {
+        Caches.evict(targetClass);
+    }
+
+    /**
+     * Evicts all cached values of classes loaded by a given class loader or its child class loaders, including cached
+     * lookups of other classes that reference classes of a given class loader. Should be called before unloading a
+     * class loader to make sure no cache references its classes.
+     *
+     * @param classLoader the target class loader
+     */
+    public static void evictAll(ClassLoader classLoader) {
+        Caches.evictAll(classLoader);
+    }
+
+    /**
+     * Limits the amount of cached accessors of every access engine, evicting the least recently generated or accessed
+     * accessors once the limit is exceeded. Accessors are unbounded by default.
+     *
+     * @param maxSize the maximum amount of cached accessors per engine, or 0 for unbounded cache
+     */
+    public static void setAccessorCacheLimit(int maxSize) {
+        MemberCache.setLimit(maxSize);
+    }
+
+    /**
+     * Sets the access engine used by {@link Accessible#unreflect()} of fields, methods and constructors, e.g.
+     * {@link dev.klepto.unreflect.engine.LambdaEngine}. Engine of a single member can be chosen by calling
+     * {@code unreflect(AccessEngine)} on the member instead.
+     *
+     * @param engine the default access engine
+     */
+    public static void setDefaultEngine(AccessEngine engine) {
+        AccessEngines.setDefault(engine);
+    }
+
+    /**
+     * Sets the access engine used by {@link Accessible#unreflect()} of fields, e.g.
+     * {@link dev.klepto.unreflect.engine.UnsafeEngine}, which accesses fields without generating any classes.
+     *
+     * @param engine the default field access engine, or null to access fields through the default engine
+     */
+    public static void setDefaultFieldEngine(AccessEngine engine) {
+        AccessEngines.setFieldDefault(engine);
+    }
+
+    /**
+     * Measures the built-in code generating access engines and sets the fastest engine as the default engine of
+     * fields, methods and constructors. Calibration only runs when called.
+     *
+     * @see AccessEngines#calibrate()
+     */
+    public static void calibrateEngines() {
+        AccessEngines.calibrate();
     }
 
     /**
@@ -1,29 +1,93 @@
 package dev.klepto.unreflect;
 
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.MapMaker;
+import com.google.common.primitives.Primitives;
 import com.google.common.reflect.TypeToken;
 import dev.klepto.unreflect.property.Named;
+import dev.klepto.unreflect.util.Caches;
 import dev.klepto.unreflect.util.JdkInternals;
 import lombok.val;
 import one.util.streamex.StreamEx;
 
 import javax.annotation.Nullable;
 import java.lang.reflect.*;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
 
 /**
  * A wrapper for java types enabling simple generic lookup, instance allocation and superclass and subtype resolving.
+ * Types of raw classes are interned, there is exactly one instance per class and guava's {@link TypeToken} is only
+ * created once generic resolution is requested.
  *
  * @author <a href="http://github.com/klepto">Augustinas R.</a>
  */
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class UnreflectType implements Named {
 
+    private static final ClassValue<UnreflectType> rawTypes = new ClassValue<UnreflectType>() {
+        @Override
+        protected UnreflectType computeValue(Class<?> type) {
+            Caches.register(type);
+            return new UnreflectType(type, type, null);
+        }
+    };
 
-    private final TypeToken typeToken;
-
-    private UnreflectType(TypeToken<?> typeToken) {
+    private static final ClassValue<Map<Class<?>, Boolean>> assignability = new ClassValue<Map<Class<?>, Boolean>>() {
+        @Override
+        protected Map<Class<?>, Boolean> computeValue(Class<?> type) {
+            Caches.register(type);
+            return new MapMaker().weakKeys().makeMap();
+        }
+    };
+    private static final ImmutableSetMultimap<Class<?>, Class<?>> primitiveWidening =
+            ImmutableSetMultimap.<Class<?>, Class<?>>builder()
+                    .putAll(byte.class, short.class, int.class, long.class, float.class, double.class)
+                    .putAll(short.class, int.class, long.class, float.class, double.class)
+                    .putAll(char.class, int.class, long.class, float.class, double.class)
+                    .putAll(int.class, long.class, float.class, double.class)
+                    .putAll(long.class, float.class, double.class)
+                    .putAll(float.class, double.class)
+                    .build();
+
+    static {
+        Caches.onEvict(rawTypes::remove);
+        Caches.onEvict(assignability::remove);
+    }
+
+    private final Type type;
+    private final Class<?> rawType;
+    private volatile TypeToken typeToken;
+    private volatile Hierarchy hierarchy;
+
+    private UnreflectType(Type type, Class<?> rawType, TypeToken<?> typeToken) {
+        this.type = type;
+        this.rawType = rawType;
         this.typeToken = typeToken;
     }
 
+    private TypeToken typeToken() {
+        TypeToken result = typeToken;
+        if (result == null) {
+            typeToken = result = TypeToken.of(type);
+        }
+        return result;
+    }
+
+    private boolean isRaw() {
+        return type == rawType;
+    }
+
+    private Hierarchy hierarchy() {
+        Hierarchy result = hierarchy;
+        if (result == null) {
+            hierarchy = result = new Hierarchy(typeToken().getTypes());
+        }
+        return result;
+    }
+
     /**
      * Returns a reflection-based {@link ClassAccess} for this type.
      *
@@ -71,9 +135,7 @@ public class UnreflectType implements Named {
      */
     @Nullable
     public UnreflectType superType() {
-        return superTypes()
-                .findFirst()
-                .orElse(null);
+        return superType(0);
     }
 
     /**
@@ -85,10 +147,8 @@ public class UnreflectType implements Named {
      */
     @Nullable
     public UnreflectType superType(int index) {
-        return superTypes()
-                .skip(index)
-                .findFirst()
-                .orElse(null);
+        checkArgument(index >= 0, "Superclass index cannot be negative.");
+        return Hierarchy.get(hierarchy().classes, index + 1);
     }
 
     /**
@@ -97,9 +157,8 @@ public class UnreflectType implements Named {
      * @return a stream containing all superclass types
      */
     public StreamEx<UnreflectType> superTypes() {
-        return StreamEx.of(typeToken.getTypes().classes())
-                .skip(1)
-                .map(UnreflectType::of);
+        val classes = hierarchy().classes;
+        return StreamEx.of(classes, Math.min(1, classes.length), classes.length);
     }
 
     /**
@@ -109,9 +168,7 @@ public class UnreflectType implements Named {
      */
     @Nullable
     public UnreflectType subType() {
-        return subTypes()
-                .findFirst()
-                .orElse(null);
+        return subType(0);
     }
 
     /**
@@ -122,10 +179,7 @@ public class UnreflectType implements Named {
      */
     @Nullable
     public UnreflectType subType(int index) {
-        return subTypes()
-                .skip(index)
-                .findFirst()
-                .orElse(null);
+        return Hierarchy.get(hierarchy().types, index);
     }
 
     /**
@@ -134,10 +188,8 @@ public class UnreflectType implements Named {
      *
      * @return a stream containing all implemented or extended types
      */
-    @SuppressWarnings("unchecked")
     public StreamEx<UnreflectType> subTypes() {
-        return StreamEx.of(typeToken.getTypes())
-                .map(UnreflectType::of);
+        return StreamEx.of(hierarchy().types);
     }
 
     /**
@@ -147,9 +199,7 @@ public class UnreflectType implements Named {
      */
     @Nullable
     public UnreflectType interfaceType() {
-        return interfaceTypes()
-                .findFirst()
-                .orElse(null);
+        return interfaceType(0);
     }
 
     /**
@@ -160,10 +210,7 @@ public class UnreflectType implements Named {
      */
     @Nullable
     public UnreflectType interfaceType(int index) {
-        return interfaceTypes()
-                .skip(index)
-                .findFirst()
-                .orElse(null);
+        return Hierarchy.get(hierarchy().interfaces, index);
     }
 
     /**
@@ -171,10 +218,8 @@ public class UnreflectType implements Named {
      *
      * @return a stream containing all implemented types
      */
-    @SuppressWarnings("unchecked")
     public StreamEx<UnreflectType> interfaceTypes() {
-        return StreamEx.of(typeToken.getTypes().interfaces())
-                .map(UnreflectType::of);
+        return StreamEx.of(hierarchy().interfaces);
     }
 
     /**
@@ -184,11 +229,11 @@ public class UnreflectType implements Named {
      * @return a stream containing generic types associated with this type
      */
     public StreamEx<UnreflectType> genericTypes() {
-        if (!(typeToken.getType() instanceof ParameterizedType)) {
+        if (!(type instanceof ParameterizedType)) {
             return StreamEx.empty();
         }
 
-        val parameterizedType = (ParameterizedType) typeToken.getType();
+        val parameterizedType = (ParameterizedType) type;
         return StreamEx.of(parameterizedType.getActualTypeArguments()).map(UnreflectType::of);
     }
 
@@ -227,7 +272,12 @@ public class UnreflectType implements Named {
      * @see UnreflectType#isArray()
      */
     public UnreflectType componentType() {
-        val componentType = typeToken.getComponentType();
+        if (isRaw()) {
+            val componentType = rawType.getComponentType();
+            return componentType != null ? of(componentType) : null;
+        }
+
+        val componentType = typeToken().getComponentType();
         if (componentType == null) {
             return null;
         }
@@ -236,7 +286,10 @@ public class UnreflectType implements Named {
     }
 
     /**
-     * Loosely checks if this type matches the given value or type.
+     * Loosely checks if this type matches the given value or type. Type matches if given type is present in the
+     * hierarchy of this type, or if this type can be converted to given type by boxing, unboxing or primitive widening
+     * (e.g. {@link Integer} matches {@code int}, {@code long} and {@link Number}). Results are cached per pair of
+     * classes.
      *
      * @param object the value or type
      * @return true if this type is assignable as a given type
@@ -246,9 +299,28 @@ public class UnreflectType implements Named {
             return false;
         }
 
-        return subTypes()
-                .map(UnreflectType::toClass)
-                .has((Class) of(object).toClass());
+        val target = of(object).toClass();
+        val cache = assignability.get(rawType);
+        Boolean result = cache.get(target);
+        if (result == null) {
+            result = isAssignable(target);
+            cache.put(target, result);
+        }
+        return result;
+    }
+
+    private boolean isAssignable(Class<?> target) {
+        if (hierarchy().rawTypes.contains(target)) {
+            return true;
+        }
+
+        if (target.isPrimitive()) {
+            val primitive = Primitives.unwrap(rawType);
+            return primitive == target || primitiveWidening.containsEntry(primitive, target);
+        } else if (rawType.isPrimitive() && rawType != void.class) {
+            return of(Primitives.wrap(rawType)).hierarchy().rawTypes.contains(target);
+        }
+        return false;
     }
 
     /**
@@ -267,7 +339,7 @@ public class UnreflectType implements Named {
      * @return true if this type is an array type
      */
     public boolean isArray() {
-        return typeToken.isArray();
+        return isRaw() ? rawType.isArray() : typeToken().isArray();
     }
 
     /**
@@ -276,7 +348,7 @@ public class UnreflectType implements Named {
      * @return true if this type is a primitive type
      */
     public boolean isPrimitive() {
-        return typeToken.isPrimitive();
+        return isRaw() ? rawType.isPrimitive() : typeToken().isPrimitive();
     }
 
     /**
@@ -294,7 +366,7 @@ public class UnreflectType implements Named {
      * @return the corresponding wrapper type
      */
     public UnreflectType wrap() {
-        return of(typeToken.wrap());
+        return isRaw() ? of(Primitives.wrap(rawType)) : of(typeToken().wrap());
     }
 
     /**
@@ -303,7 +375,7 @@ public class UnreflectType implements Named {
      * @return the corresponding primitive type
      */
     public UnreflectType unwrap() {
-        return of(typeToken.unwrap());
+        return isRaw() ? of(Primitives.unwrap(rawType)) : of(typeToken().unwrap());
     }
 
     /**
@@ -312,7 +384,7 @@ public class UnreflectType implements Named {
      * @return a reflection representation of this type
      */
     public Type toType() {
-        return typeToken.getType();
+        return type;
     }
 
     /**
@@ -321,7 +393,7 @@ public class UnreflectType implements Named {
      * @return a class representation of this type
      */
     public Class<?> toClass() {
-        return typeToken.getRawType();
+        return rawType;
     }
 
     @Override
@@ -336,15 +408,24 @@ public class UnreflectType implements Named {
 
     @Override
     public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
         if (!(object instanceof UnreflectType)) {
             return false;
         }
-        return typeToken.equals(((UnreflectType) object).typeToken);
+
+        val other = (UnreflectType) object;
+        if (isRaw() && other.isRaw()) {
+            // Raw types are interned, but evicted instances may still be compared with new ones.
+            return rawType == other.rawType;
+        }
+        return type.equals(other.type);
     }
 
     @Override
     public int hashCode() {
-        return typeToken.hashCode();
+        return type.hashCode();
     }
 
     /**
@@ -381,7 +462,7 @@ public class UnreflectType implements Named {
      * @return the type representation of a given reflective parameter
      */
     public static UnreflectType of(Parameter parameter) {
-        return of(TypeToken.of(parameter.getParameterizedType()));
+        return of(parameter.getParameterizedType());
     }
 
     /**
@@ -391,7 +472,7 @@ public class UnreflectType implements Named {
      * @return the type representation of a given reflective method
      */
     public static UnreflectType of(Method method) {
-        return of(TypeToken.of(method.getGenericReturnType()));
+        return of(method.getGenericReturnType());
     }
 
     /**
@@ -401,7 +482,7 @@ public class UnreflectType implements Named {
      * @return the type representation of a given reflective field
      */
     public static UnreflectType of(Field field) {
-        return of(TypeToken.of(field.getGenericType()));
+        return of(field.getGenericType());
     }
 
     /**
@@ -411,17 +492,21 @@ public class UnreflectType implements Named {
      * @return the type representation of a given reflective type
      */
     public static UnreflectType of(Type type) {
+        if (type instanceof Class) {
+            return of((Class<?>) type);
+        }
         return of(TypeToken.of(type));
     }
 
     /**
-     * Creates a type representation for a given {@link Class}.
+     * Creates a type representation for a given {@link Class}. Class types are interned, so this always returns the
+     * same instance for the same class.
      *
      * @param type the class type
      * @return the type representation of a given class type
      */
     public static UnreflectType of(Class<?> type) {
-        return of(TypeToken.of(type));
+        return rawTypes.get(type);
     }
 
     /**
@@ -431,7 +516,39 @@ public class UnreflectType implements Named {
      * @return the type representation of a given guava type
      */
     public static UnreflectType of(TypeToken<?> type) {
-        return new UnreflectType(type);
+        if (type.getType() instanceof Class) {
+            return of((Class<?>) type.getType());
+        }
+        return new UnreflectType(type.getType(), type.getRawType(), type);
+    }
+
+    /**
+     * Flattened type hierarchy, computed once per type.
+     */
+    private static class Hierarchy {
+
+        private final UnreflectType[] types;
+        private final UnreflectType[] classes;
+        private final UnreflectType[] interfaces;
+        private final Set<Class<?>> rawTypes;
+
+        private Hierarchy(TypeToken.TypeSet typeSet) {
+            this.types = toArray(typeSet);
+            this.classes = toArray(typeSet.classes());
+            this.interfaces = toArray(typeSet.interfaces());
+            this.rawTypes = StreamEx.of(types).<Class<?>>map(UnreflectType::toClass).toImmutableSet();
+        }
+
+        private static UnreflectType[] toArray(Iterable<TypeToken> types) {
+            return StreamEx.of(types.iterator()).map(UnreflectType::of).toArray(UnreflectType.class);
+        }
+
+        @Nullable
+        private static UnreflectType get(UnreflectType[] types, int index) {
+            checkArgument(index >= 0, "Type index cannot be negative.");
+            return index < types.length ? types[index] : null;
+        }
+
     }
 
-}
\ No newline at end of file
+}
@@ -5,17 +5,35 @@ import dev.klepto.unreflect.property.Reflectable;
 import dev.klepto.unreflect.ClassAccess;
 import dev.klepto.unreflect.ConstructorAccess;
 import dev.klepto.unreflect.FieldAccess;
+import dev.klepto.unreflect.FieldTable;
+import dev.klepto.unreflect.FieldVisitor;
 import dev.klepto.unreflect.MethodAccess;
+import dev.klepto.unreflect.Unreflect;
+import dev.klepto.unreflect.bytecode.asm.AccessorGenerator;
+import dev.klepto.unreflect.bytecode.asm.FieldSlotAccessor;
+import dev.klepto.unreflect.bytecode.asm.MethodDispatcher;
 import dev.klepto.unreflect.reflection.ReflectionClassAccess;
+import dev.klepto.unreflect.reflection.ReflectionFieldAccess;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.Delegate;
+import lombok.val;
+import one.util.streamex.IntStreamEx;
 import one.util.streamex.StreamEx;
 
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
  * Bytecode version of {@link ClassAccess}. All members returned by this class generate bytecode for direct access.
  * Since bytecode generation is very costly use this only when you need direct access to the entire class, otherwise
  * use of {@link ReflectionClassAccess} is advised and selectively converting members to bytecode access by calling
  * {@link Accessible#unreflect()}.
+ * <p>
+ * Fields are accessed through the {@link #fieldTable()} of the class, so all fields share a single generated class.
  *
  * @author <a href="http://github.com/klepto">Augustinas R.</a>
  */
@@ -24,6 +42,10 @@ public class BytecodeClassAccess<T> implements ClassAccess<T> {
 
     @Delegate(excludes = Overrides.class)
     private final ReflectionClassAccess<T> delegate;
+    private final Object object;
+    private volatile List<ConstructorAccess<T>> constructorList;
+    private volatile List<FieldAccess> fieldList;
+    private volatile List<MethodAccess> methodList;
 
     @Override
     public ClassAccess<T> unreflect() {
@@ -45,14 +67,123 @@ public class BytecodeClassAccess<T> implements ClassAccess<T> {
         return ((ClassAccess<?>)delegate.parent()).unreflect();
     }
 
+    @Override
+    public T create(Object... args) {
+        return constructor(args).create(args);
+    }
+
+    @Override
+    public <R> R invoke(String name, Object... args) {
+        val dispatcher = AccessorGenerator.getInstance().generateMethodDispatcher(source());
+        val result = dispatcher.invoke(object, name, args);
+        if (result != MethodDispatcher.UNRESOLVED) {
+            return (R) result;
+        }
+
+        val method = method(name, args);
+        checkArgument(method != null, "Method %s not found in %s.", name, source().getName());
+        return method.invoke(args);
+    }
+
+    @Override
+    public <R> R get(String name) {
+        val fieldTable = fieldTable();
+        return (R) fieldTable.get(object, slot(fieldTable, name));
+    }
+
+    @Override
+    public void set(String name, Object value) {
+        val fieldTable = fieldTable();
+        fieldTable.set(object, slot(fieldTable, name), value);
+    }
+
+    @Override
+    public ConstructorAccess<T> constructor(Object... argsOrTypes) {
+        val constructor = delegate.constructor(argsOrTypes);
+        return constructor != null ? constructor.unreflect() : null;
+    }
+
     @Override
     public StreamEx<ConstructorAccess<T>> constructors() {
         return delegate.constructors().map(Accessible::unreflect);
     }
 
+    @Override
+    public List<ConstructorAccess<T>> constructorList() {
+        val shared = shared();
+        if (shared != this) {
+            return shared.constructorList();
+        }
+
+        List<ConstructorAccess<T>> result = constructorList;
+        if (result == null) {
+            constructorList = result = constructors().toImmutableList();
+        }
+        return result;
+    }
+
     @Override
     public StreamEx<FieldAccess> fields() {
-        return delegate.fields().map(Accessible::unreflect);
+        val fields = delegate.fieldList();
+        val fieldTable = fieldTable();
+        return IntStreamEx.range(fields.size())
+                .mapToObj(slot -> new BytecodeFieldAccess(
+                        (ReflectionFieldAccess) fields.get(slot).bind(object),
+                        FieldSlotAccessor.create(fieldTable, slot)
+                ));
+    }
+
+    @Override
+    public List<FieldAccess> fieldList() {
+        val shared = shared();
+        if (shared != this) {
+            return shared.fieldList();
+        }
+
+        List<FieldAccess> result = fieldList;
+        if (result == null) {
+            fieldList = result = fields().toImmutableList();
+        }
+        return result;
+    }
+
+    @Override
+    public void forEachField(BiConsumer<FieldAccess, Object> action) {
+        forEachField(object, action::accept);
+    }
+
+    @Override
+    public void forEachField(Object target, FieldVisitor visitor) {
+        val fields = fieldList();
+        val fieldTable = fieldTable();
+        for (int slot = 0; slot < fields.size(); slot++) {
+            val field = fields.get(slot);
+            val type = field.source().getType();
+            if (type == boolean.class) {
+                visitor.visitBoolean(field, fieldTable.getBoolean(target, slot));
+            } else if (type == byte.class) {
+                visitor.visitByte(field, fieldTable.getByte(target, slot));
+            } else if (type == char.class) {
+                visitor.visitChar(field, fieldTable.getChar(target, slot));
+            } else if (type == short.class) {
+                visitor.visitShort(field, fieldTable.getShort(target, slot));
+            } else if (type == int.class) {
+                visitor.visitInt(field, fieldTable.getInt(target, slot));
+            } else if (type == long.class) {
+                visitor.visitLong(field, fieldTable.getLong(target, slot));
+            } else if (type == float.class) {
+                visitor.visitFloat(field, fieldTable.getFloat(target, slot));
+            } else if (type == double.class) {
+                visitor.visitDouble(field, fieldTable.getDouble(target, slot));
+            } else {
+                visitor.visit(field, fieldTable.get(target, slot));
+            }
+        }
+    }
+
+    @Override
+    public StreamEx<FieldAccess> declaredFields() {
+        return delegate.declaredFields().map(this::unreflectField);
     }
 
     @Override
@@ -60,6 +191,107 @@ public class BytecodeClassAccess<T> implements ClassAccess<T> {
         return delegate.methods().map(Accessible::unreflect);
     }
 
+    @Override
+    public List<MethodAccess> methodList() {
+        val shared = shared();
+        if (shared != this) {
+            return shared.methodList();
+        }
+
+        List<MethodAccess> result = methodList;
+        if (result == null) {
+            methodList = result = methods().toImmutableList();
+        }
+        return result;
+    }
+
+    @Override
+    public StreamEx<MethodAccess> declaredMethods() {
+        return delegate.declaredMethods().map(Accessible::unreflect);
+    }
+
+    @Override
+    public FieldAccess field(String name) {
+        val field = delegate.field(name);
+        return field != null ? unreflectField(field) : null;
+    }
+
+    @Override
+    public StreamEx<FieldAccess> fields(String... names) {
+        return delegate.fields(names).map(this::unreflectField);
+    }
+
+    @Override
+    public StreamEx<MethodAccess> methods(String name) {
+        return delegate.methods(name).map(Accessible::unreflect);
+    }
+
+    @Override
+    public StreamEx<MethodAccess> methods(String name, Object... argsOrTypes) {
+        return delegate.methods(name, argsOrTypes).map(Accessible::unreflect);
+    }
+
+    @Override
+    public MethodAccess method(String name) {
+        val method = delegate.method(name);
+        return method != null ? method.unreflect() : null;
+    }
+
+    @Override
+    public MethodAccess method(Object... argsOrTypes) {
+        val method = delegate.method(argsOrTypes);
+        return method != null ? method.unreflect() : null;
+    }
+
+    @Override
+    public MethodAccess method(String name, Object... argsOrTypes) {
+        val method = delegate.method(name, argsOrTypes);
+        return method != null ? method.unreflect() : null;
+    }
+
+    @Override
+    public StreamEx<ConstructorAccess<T>> constructorsAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return delegate.constructorsAnnotatedWith(annotationClass).map(Accessible::unreflect);
+    }
+
+    @Override
+    public StreamEx<FieldAccess> fieldsAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return delegate.fieldsAnnotatedWith(annotationClass).map(this::unreflectField);
+    }
+
+    @Override
+    public StreamEx<MethodAccess> methodsAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return delegate.methodsAnnotatedWith(annotationClass).map(Accessible::unreflect);
+    }
+
+    /**
+     * Converts a field to bytecode access backed by the field table of this class, instead of generating an accessor
+     * class per field.
+     *
+     * @param field the reflection field access
+     * @return the bytecode field access
+     */
+    private FieldAccess unreflectField(FieldAccess field) {
+        val slot = delegate.members().fieldSlot(field.source());
+        return new BytecodeFieldAccess((ReflectionFieldAccess) field, FieldSlotAccessor.create(fieldTable(), slot));
+    }
+
+    /**
+     * Returns the unbound class access of represented class that is shared between all callers, which holds member
+     * lists of the class.
+     *
+     * @return the shared class access of represented class
+     */
+    private BytecodeClassAccess<T> shared() {
+        return (BytecodeClassAccess<T>) Unreflect.unreflect(source());
+    }
+
+    private int slot(FieldTable fieldTable, String name) {
+        val slot = fieldTable.slot(name);
+        checkArgument(slot >= 0, "Field %s not found in %s.", name, source().getName());
+        return slot;
+    }
+
     @Override
     public String toString() {
         return delegate.toString();
@@ -70,14 +302,27 @@ public class BytecodeClassAccess<T> implements ClassAccess<T> {
         void reflect();
         void bind(Object object);
         void parent();
+        void create(Object[] args);
+        void invoke(String name, Object[] args);
+        void get(String name);
+        void set(String name, Object value);
         void constructors();
+        void constructorList();
         void constructor();
         void constructor(int index);
         void constructor(Object[] argsOrTypes);
         void fields();
+        void fieldList();
+        void forEachField(Consumer<FieldAccess> action);
+        void forEachField(BiConsumer<FieldAccess, Object> action);
+        void forEachField(Object target, FieldVisitor visitor);
+        void declaredFields();
         void field(int index);
         void field(String name);
+        void fields(String[] names);
         void methods();
+        void methodList();
+        void declaredMethods();
         void methods(Object[] argsOrTypes);
         void methods(String name);
         void methods(String name, Object[] argsOrTypes);
@@ -85,6 +330,9 @@ public class BytecodeClassAccess<T> implements ClassAccess<T> {
         void method(Object[] argsOrTypes);
         void method(String name);
         void method(String name, Object[] argsOrTypes);
+        void constructorsAnnotatedWith(Class<? extends Annotation> annotationClass);
+        void fieldsAnnotatedWith(Class<? extends Annotation> annotationClass);
+        void methodsAnnotatedWith(Class<? extends Annotation> annotationClass);
     }
 
 }
@@ -34,6 +34,36 @@ public class BytecodeContructorAccess<T> implements ConstructorAccess<T> {
         return (T) accessor.invoke(null, args);
     }
 
+    @Override
+    public <R> R invoke0() {
+        return (R) accessor.invoke0(null);
+    }
+
+    @Override
+    public <R> R invoke1(Object a) {
+        return (R) accessor.invoke1(null, a);
+    }
+
+    @Override
+    public <R> R invoke2(Object a, Object b) {
+        return (R) accessor.invoke2(null, a, b);
+    }
+
+    @Override
+    public <R> R invoke3(Object a, Object b, Object c) {
+        return (R) accessor.invoke3(null, a, b, c);
+    }
+
+    @Override
+    public <R> R invoke4(Object a, Object b, Object c, Object d) {
+        return (R) accessor.invoke4(null, a, b, c, d);
+    }
+
+    @Override
+    public <R> R invoke5(Object a, Object b, Object c, Object d, Object e) {
+        return (R) accessor.invoke5(null, a, b, c, d, e);
+    }
+
     @Override
     public String toString() {
         return delegate.toString();
@@ -45,6 +75,12 @@ public class BytecodeContructorAccess<T> implements ConstructorAccess<T> {
         void reflect();
 
         void invoke(Object... args);
+        void invoke0();
+        void invoke1(Object a);
+        void invoke2(Object a, Object b);
+        void invoke3(Object a, Object b, Object c);
+        void invoke4(Object a, Object b, Object c, Object d);
+        void invoke5(Object a, Object b, Object c, Object d, Object e);
     }
 
 }
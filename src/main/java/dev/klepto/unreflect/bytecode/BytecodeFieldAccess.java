@@ -44,6 +44,86 @@ public class BytecodeFieldAccess implements FieldAccess {
         accessor.set(object(), value);
     }
 
+    @Override
+    public boolean getBoolean() {
+        return accessor.getBoolean(object());
+    }
+
+    @Override
+    public void setBoolean(boolean value) {
+        accessor.setBoolean(object(), value);
+    }
+
+    @Override
+    public byte getByte() {
+        return accessor.getByte(object());
+    }
+
+    @Override
+    public void setByte(byte value) {
+        accessor.setByte(object(), value);
+    }
+
+    @Override
+    public char getChar() {
+        return accessor.getChar(object());
+    }
+
+    @Override
+    public void setChar(char value) {
+        accessor.setChar(object(), value);
+    }
+
+    @Override
+    public short getShort() {
+        return accessor.getShort(object());
+    }
+
+    @Override
+    public void setShort(short value) {
+        accessor.setShort(object(), value);
+    }
+
+    @Override
+    public int getInt() {
+        return accessor.getInt(object());
+    }
+
+    @Override
+    public void setInt(int value) {
+        accessor.setInt(object(), value);
+    }
+
+    @Override
+    public long getLong() {
+        return accessor.getLong(object());
+    }
+
+    @Override
+    public void setLong(long value) {
+        accessor.setLong(object(), value);
+    }
+
+    @Override
+    public float getFloat() {
+        return accessor.getFloat(object());
+    }
+
+    @Override
+    public void setFloat(float value) {
+        accessor.setFloat(object(), value);
+    }
+
+    @Override
+    public double getDouble() {
+        return accessor.getDouble(object());
+    }
+
+    @Override
+    public void setDouble(double value) {
+        accessor.setDouble(object(), value);
+    }
+
     @Override
     public String toString() {
         return delegate.toString();
@@ -55,7 +135,22 @@ public class BytecodeFieldAccess implements FieldAccess {
         void bind(Object object);
         void get();
         void set(Object value);
-
+        void getBoolean();
+        void setBoolean(boolean value);
+        void getByte();
+        void setByte(byte value);
+        void getChar();
+        void setChar(char value);
+        void getShort();
+        void setShort(short value);
+        void getInt();
+        void setInt(int value);
+        void getLong();
+        void setLong(long value);
+        void getFloat();
+        void setFloat(float value);
+        void getDouble();
+        void setDouble(double value);
     }
 
 }
@@ -40,6 +40,96 @@ public class BytecodeMethodAccess implements MethodAccess {
         return (T) accessor.invoke(object(), args);
     }
 
+    @Override
+    public <T> T invoke0() {
+        return (T) accessor.invoke0(object());
+    }
+
+    @Override
+    public <T> T invoke1(Object a) {
+        return (T) accessor.invoke1(object(), a);
+    }
+
+    @Override
+    public <T> T invoke2(Object a, Object b) {
+        return (T) accessor.invoke2(object(), a, b);
+    }
+
+    @Override
+    public <T> T invoke3(Object a, Object b, Object c) {
+        return (T) accessor.invoke3(object(), a, b, c);
+    }
+
+    @Override
+    public <T> T invoke4(Object a, Object b, Object c, Object d) {
+        return (T) accessor.invoke4(object(), a, b, c, d);
+    }
+
+    @Override
+    public <T> T invoke5(Object a, Object b, Object c, Object d, Object e) {
+        return (T) accessor.invoke5(object(), a, b, c, d, e);
+    }
+
+    @Override
+    public int invokeInt() {
+        return accessor.invokeInt0(object());
+    }
+
+    @Override
+    public int invokeInt(Object a) {
+        return accessor.invokeInt1(object(), a);
+    }
+
+    @Override
+    public int invokeInt(Object a, Object b) {
+        return accessor.invokeInt2(object(), a, b);
+    }
+
+    @Override
+    public int invokeInt(Object a, Object b, Object c) {
+        return accessor.invokeInt3(object(), a, b, c);
+    }
+
+    @Override
+    public long invokeLong() {
+        return accessor.invokeLong0(object());
+    }
+
+    @Override
+    public long invokeLong(Object a) {
+        return accessor.invokeLong1(object(), a);
+    }
+
+    @Override
+    public long invokeLong(Object a, Object b) {
+        return accessor.invokeLong2(object(), a, b);
+    }
+
+    @Override
+    public long invokeLong(Object a, Object b, Object c) {
+        return accessor.invokeLong3(object(), a, b, c);
+    }
+
+    @Override
+    public boolean invokeBoolean() {
+        return accessor.invokeBoolean0(object());
+    }
+
+    @Override
+    public boolean invokeBoolean(Object a) {
+        return accessor.invokeBoolean1(object(), a);
+    }
+
+    @Override
+    public boolean invokeBoolean(Object a, Object b) {
+        return accessor.invokeBoolean2(object(), a, b);
+    }
+
+    @Override
+    public boolean invokeBoolean(Object a, Object b, Object c) {
+        return accessor.invokeBoolean3(object(), a, b, c);
+    }
+
     @Override
     public String toString() {
         return delegate.toString();
@@ -50,6 +140,24 @@ public class BytecodeMethodAccess implements MethodAccess {
         void reflect();
         void bind(Object object);
         void invoke(Object... args);
+        void invoke0();
+        void invoke1(Object a);
+        void invoke2(Object a, Object b);
+        void invoke3(Object a, Object b, Object c);
+        void invoke4(Object a, Object b, Object c, Object d);
+        void invoke5(Object a, Object b, Object c, Object d, Object e);
+        void invokeInt();
+        void invokeInt(Object a);
+        void invokeInt(Object a, Object b);
+        void invokeInt(Object a, Object b, Object c);
+        void invokeLong();
+        void invokeLong(Object a);
+        void invokeLong(Object a, Object b);
+        void invokeLong(Object a, Object b, Object c);
+        void invokeBoolean();
+        void invokeBoolean(Object a);
+        void invokeBoolean(Object a, Object b);
+        void invokeBoolean(Object a, Object b, Object c);
     }
 
 }
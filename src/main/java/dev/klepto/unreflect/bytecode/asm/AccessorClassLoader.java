@@ -0,0 +1,65 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+import lombok.val;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Parent class loader of generated accessors. Generated accessors resolve classes through the class loader of the
+ * accessed class, which might not be able to see unreflect classes (e.g. when accessing JDK or isolated plugin
+ * classes). This class loader resolves accessor interfaces of unreflect from the library class loader, explicitly
+ * exposed classes (including generated accessors themselves, so that they can reference their own fields) by name
+ * and delegates everything else to the class loader of the accessed class. Accessors that bridge two unrelated class
+ * loaders (e.g. functional interface of one plugin implemented by member of another plugin) resolve classes that the
+ * class loader of the accessed class cannot find through the class loader of the other side.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+final class AccessorClassLoader extends ClassLoader {
+
+    private static final String ACCESSOR_PACKAGE = AccessorClassLoader.class.getPackage().getName() + ".";
+    private static final ClassLoader libraryClassLoader = AccessorClassLoader.class.getClassLoader();
+
+    private final Map<String, Class<?>> exposedClasses = new ConcurrentHashMap<>();
+    private final ClassLoader fallback;
+
+    AccessorClassLoader(ClassLoader parent) {
+        this(parent, null);
+    }
+
+    AccessorClassLoader(ClassLoader parent, ClassLoader fallback) {
+        super(parent);
+        this.fallback = fallback;
+    }
+
+    void expose(Class<?> type) {
+        val exposedClass = exposedClasses.putIfAbsent(type.getName(), type);
+        checkArgument(
+                exposedClass == null || exposedClass == type,
+                "Class %s of another class loader is already exposed.", type.getName()
+        );
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        Class<?> type = exposedClasses.get(name);
+        if (type != null) {
+            return type;
+        }
+        if (name.startsWith(ACCESSOR_PACKAGE)) {
+            return Class.forName(name, false, libraryClassLoader);
+        }
+        try {
+            return super.loadClass(name, resolve);
+        } catch (ClassNotFoundException e) {
+            if (fallback == null) {
+                throw e;
+            }
+            return Class.forName(name, false, fallback);
+        }
+    }
+
+}
@@ -1,7 +1,11 @@
 package dev.klepto.unreflect.bytecode.asm;
 
 import com.google.common.primitives.Primitives;
+import dev.klepto.unreflect.FieldTable;
+import dev.klepto.unreflect.util.Caches;
 import dev.klepto.unreflect.util.JdkInternals;
+import dev.klepto.unreflect.util.MemberCache;
+import dev.klepto.unreflect.util.MemberTable;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.val;
@@ -12,18 +16,36 @@ import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 
 import java.lang.reflect.*;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
-import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.ClassWriter.COMPUTE_MAXS;
 import static org.objectweb.asm.Opcodes.*;
 
 /**
  * Bytecode generation of field, constructor and method accessors. Utilizes the JDK's internal MagicAccessorImpl class,
- * which allows to bypass all security checks and directly access private and otherwise unreachable members.
+ * which allows to bypass all security checks and directly access private and otherwise unreachable members. Generated
+ * accessors are canonical, every member is generated at most once and is cached in its declaring class. Accessor cache
+ * can be bounded by {@link MemberCache#setLimit(int)}.
+ * <p>
+ * On JDK 15 and newer, field, method and constructor accessors are defined as hidden classes that are nestmates of the
+ * declaring class of the member instead, which doesn't depend on MagicAccessorImpl and allows accessors to be unloaded
+ * together with the declaring class. Members of classes that cannot see unreflect classes (e.g. JDK classes) are still
+ * accessed through MagicAccessorImpl.
  *
  * @author <a href="http://github.com/klepto">Augustinas R.</a>
  */
@@ -32,21 +54,187 @@ public class AccessorGenerator {
     @Getter(lazy = true)
     private static final AccessorGenerator instance = new AccessorGenerator();
 
+    static final int MAX_FIXED_ARITY = 5;
+    static final int MAX_PRIMITIVE_ARITY = 3;
+    private static final int MAX_TABLE_SIZE = 16;
+    private static final String FIELD_TABLE = Type.getInternalName(FieldTable.class);
+    private static final String INVOKER_TABLE = Type.getInternalName(InvokerTable.class);
+    private static final String CONVERSIONS = Type.getInternalName(Conversions.class);
+    private static final String MISMATCH_DESCRIPTOR = Type.getMethodDescriptor(
+            Type.getType(IllegalArgumentException.class),
+            Type.getType(Object.class),
+            Type.getType(Class.class)
+    );
+    private static final Class<?>[] TYPED_PRIMITIVES = {
+            boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class
+    };
+
     private final AtomicInteger accessorIndex = new AtomicInteger();
-    private final String superClass = JdkInternals.getMagicAccessorImpl().getName();
+    private final String superClass = JdkInternals.isClassDefinerSupported()
+            ? JdkInternals.getMagicAccessorImpl().getName()
+            : Object.class.getName();
+    private final MemberCache<Object> accessors = new MemberCache<>();
+    private final Map<String, AccessorTemplate> templates = new ConcurrentHashMap<>();
+    private final ClassValue<Boolean> hiddenHosts = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            Caches.register(type);
+            return JdkInternals.isHiddenClassSupported() && isLibraryVisible(type.getClassLoader());
+        }
+    };
+    private final ClassValue<ClassLoader> classLoaders = new ClassValue<ClassLoader>() {
+        @Override
+        protected ClassLoader computeValue(Class<?> type) {
+            Caches.register(type);
+            return new AccessorClassLoader(type.getClassLoader());
+        }
+    };
+    private final ClassValue<FieldTable> fieldTables = new ClassValue<FieldTable>() {
+        @Override
+        protected FieldTable computeValue(Class<?> type) {
+            Caches.register(type);
+            return _generateFieldTable(type);
+        }
+    };
+    private final ClassValue<MethodDispatcher> methodDispatchers = new ClassValue<MethodDispatcher>() {
+        @Override
+        protected MethodDispatcher computeValue(Class<?> type) {
+            Caches.register(type);
+            return _generateMethodDispatcher(type);
+        }
+    };
 
-    @SneakyThrows
+    public AccessorGenerator() {
+        Caches.onEvict(this::evict);
+    }
+
+    private void evict(Class<?> type) {
+        fieldTables.remove(type);
+        methodDispatchers.remove(type);
+        classLoaders.remove(type);
+        hiddenHosts.remove(type);
+    }
+
+    private Object getAccessor(Member member, Function<Member, Object> generator) {
+        return accessors.get(member, generator);
+    }
+
+    /**
+     * Returns the canonical accessor of a given field, generating it if field has no accessor yet.
+     *
+     * @param field the field
+     * @return the field accessor
+     */
     public MutableAccessor generateMutableAccessor(Field field) {
-        val className = getNextClassName();
-        val cw = new ClassWriter(COMPUTE_MAXS);
-        generateHeader(cw, className, Function.class.getName(), BiConsumer.class.getName());
+        return (MutableAccessor) getAccessor(field, member -> _generateMutableAccessor(field));
+    }
+
+    /**
+     * Returns the canonical accessor of a given method, generating it if method has no accessor yet.
+     *
+     * @param method the method
+     * @return the method accessor
+     */
+    public InvokableAccessor generateInvokableAccessor(Method method) {
+        return (InvokableAccessor) getAccessor(method, this::_generateInvokableAccessor);
+    }
+
+    /**
+     * Returns the canonical accessor of a given constructor, generating it if constructor has no accessor yet.
+     *
+     * @param constructor the constructor
+     * @return the constructor accessor
+     */
+    public InvokableAccessor generateInvokableAccessor(Constructor<?> constructor) {
+        return (InvokableAccessor) getAccessor(constructor, this::_generateInvokableAccessor);
+    }
+
+    /**
+     * Returns the field table of a given class, generating it if class has no field table yet. Field table is a single
+     * generated class that accesses every field in the class hierarchy by slot.
+     *
+     * @param type the class
+     * @return the field table
+     */
+    public FieldTable generateFieldTable(Class<?> type) {
+        return fieldTables.get(type);
+    }
 
+    /**
+     * Returns the method dispatcher of a given class, generating it if class has no method dispatcher yet. Method
+     * dispatcher is a single generated class that invokes methods in the class hierarchy by name.
+     *
+     * @param type the class
+     * @return the method dispatcher
+     */
+    public MethodDispatcher generateMethodDispatcher(Class<?> type) {
+        return methodDispatchers.get(type);
+    }
+
+    /**
+     * Generates accessors of many members at once. Methods and constructors are generated into an
+     * {@link InvokerTable} per declaring class, of up to 16 members each, and fields are accessed through the field
+     * table of their declaring class, so a batch of members costs a few class definitions instead of a class
+     * definition per member. Accessors are cached the same way as accessors of single members, members that already
+     * have an accessor keep it.
+     *
+     * @param members the fields, methods and constructors
+     */
+    public void generateAccessors(Collection<? extends Member> members) {
+        val pending = StreamEx.of(members)
+                .distinct()
+                .remove(accessors::contains)
+                .toList();
+
+        StreamEx.of(pending).select(Field.class).forEach(field -> {
+            val declaringClass = field.getDeclaringClass();
+            val slot = MemberTable.of(declaringClass).fieldSlot(field);
+            if (slot >= 0) {
+                val fieldTable = generateFieldTable(declaringClass);
+                getAccessor(field, member -> FieldSlotAccessor.create(fieldTable, slot));
+            }
+        });
+
+        StreamEx.of(pending)
+                .select(Executable.class)
+                .groupingBy(Member::getDeclaringClass, LinkedHashMap::new, Collectors.toList())
+                .forEach((host, executables) -> {
+                    for (int offset = 0; offset < executables.size(); offset += MAX_TABLE_SIZE) {
+                        val batch = executables.subList(offset, Math.min(offset + MAX_TABLE_SIZE, executables.size()));
+                        val table = _generateInvokerTable(host, batch);
+                        for (int slot = 0; slot < batch.size(); slot++) {
+                            val accessor = table.accessor(slot);
+                            getAccessor(batch.get(slot), member -> accessor);
+                        }
+                    }
+                });
+    }
+
+    @SneakyThrows
+    private MutableAccessor _generateMutableAccessor(Field field) {
+        val host = field.getDeclaringClass();
+        val className = getHostedAccessorName(host);
+        val cw = createHostedAccessorWriter(host);
         val fieldOwner = Type.getInternalName(field.getDeclaringClass());
         val fieldName = field.getName();
         val fieldType = field.getType();
         val fieldModifiers = field.getModifiers();
         val fieldDescriptor = Type.getDescriptor(field.getType());
 
+        if (isPrimitive(fieldType)) {
+            val typedAccessor = getTypedAccessor(fieldType);
+            generateHostedAccessorHeader(
+                    cw,
+                    host,
+                    className,
+                    Function.class.getName(),
+                    BiConsumer.class.getName(),
+                    typedAccessor.getName()
+            );
+        } else {
+            generateHostedAccessorHeader(cw, host, className, Function.class.getName(), BiConsumer.class.getName());
+        }
+
         // Getter.
         {
             val methodDescriptor = Type.getMethodDescriptor(Type.getType(Object.class), Type.getType(Object.class));
@@ -86,43 +274,492 @@ public class AccessorGenerator {
             mv.visitEnd();
         }
 
+        // Typed getter and setter.
+        if (isPrimitive(fieldType)) {
+            generateTypedAccessor(cw, field);
+        }
+
         // Finish class generation.
         cw.visitEnd();
 
         // Load accessor.
-        val accessor = loadAccessor(field.getDeclaringClass(), className, cw.toByteArray());
+        val accessor = loadHostedAccessor(host, className, cw.toByteArray());
         return new MutableAccessor((Function) accessor, (BiConsumer) accessor);
     }
 
-    public InvokableAccessor generateInvokableAccessor(Method method) {
-        return _generateInvokableAccessor(method);
+    private void generateTypedAccessor(ClassWriter cw, Field field) {
+        val fieldOwner = Type.getInternalName(field.getDeclaringClass());
+        val fieldType = Type.getType(field.getType());
+        val isStatic = Modifier.isStatic(field.getModifiers());
+        val typeName = getTypeName(field.getType());
+
+        // Getter.
+        {
+            val methodDescriptor = Type.getMethodDescriptor(fieldType, Type.getType(Object.class));
+            val mv = cw.visitMethod(ACC_PUBLIC, "get" + typeName, methodDescriptor, null, null);
+            if (!isStatic) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitTypeInsn(CHECKCAST, fieldOwner);
+            }
+            mv.visitFieldInsn(isStatic ? GETSTATIC : GETFIELD, fieldOwner, field.getName(), fieldType.getDescriptor());
+            mv.visitInsn(fieldType.getOpcode(IRETURN));
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Setter.
+        {
+            val methodDescriptor = Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Object.class), fieldType);
+            val mv = cw.visitMethod(ACC_PUBLIC, "set" + typeName, methodDescriptor, null, null);
+            if (!isStatic) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitTypeInsn(CHECKCAST, fieldOwner);
+            }
+            mv.visitVarInsn(fieldType.getOpcode(ILOAD), 2);
+            mv.visitFieldInsn(isStatic ? PUTSTATIC : PUTFIELD, fieldOwner, field.getName(), fieldType.getDescriptor());
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
     }
 
-    public InvokableAccessor generateInvokableAccessor(Constructor<?> constructor) {
-        return _generateInvokableAccessor(constructor);
+    @SneakyThrows
+    private FieldTable _generateFieldTable(Class<?> type) {
+        val className = getNextClassName();
+        val cw = new ClassWriter(COMPUTE_MAXS | COMPUTE_FRAMES);
+        val fields = MemberTable.of(type).fields();
+        generateHeader(cw, className, FieldTable.class.getName());
+
+        // Size.
+        {
+            val mv = cw.visitMethod(ACC_PUBLIC, "size", "()I", null, null);
+            mv.visitLdcInsn(fields.size());
+            mv.visitInsn(IRETURN);
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Slot by name, first field in the class hierarchy wins.
+        {
+            val slots = new LinkedHashMap<String, Integer>();
+            for (int i = 0; i < fields.size(); i++) {
+                slots.putIfAbsent(fields.get(i).getName(), i);
+            }
+
+            val mv = cw.visitMethod(ACC_PUBLIC, "slot", "(Ljava/lang/String;)I", null, null);
+            val defaultLabel = new Label();
+            generateStringSwitch(mv, 1, slots.keySet(), defaultLabel, name -> {
+                mv.visitLdcInsn(slots.get(name));
+                mv.visitInsn(IRETURN);
+            });
+            mv.visitLabel(defaultLabel);
+            mv.visitInsn(ICONST_M1);
+            mv.visitInsn(IRETURN);
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Untyped getter and setter, followed by typed getters and setters of every primitive type.
+        generateTableGetter(cw, fields, Object.class);
+        generateTableSetter(cw, fields, Object.class);
+        for (val primitiveType : TYPED_PRIMITIVES) {
+            generateTableGetter(cw, fields, primitiveType);
+            generateTableSetter(cw, fields, primitiveType);
+        }
+
+        // Finish class generation.
+        cw.visitEnd();
+
+        // Load field table.
+        val tableClass = defineAccessor(type, className, cw.toByteArray(), FieldTable.class);
+        return (FieldTable) JdkInternals.allocateInstance(tableClass);
     }
 
-    private InvokableAccessor _generateInvokableAccessor(Member member) {
-        checkArgument(member instanceof Constructor<?> || member instanceof Method);
+    private void generateTableGetter(ClassWriter cw, List<Field> fields, Class<?> type) {
+        val isTyped = type != Object.class;
+        val returnType = Type.getType(type);
+        val methodName = isTyped ? "get" + getTypeName(type) : "get";
+        val methodDescriptor = Type.getMethodDescriptor(returnType, Type.getType(Object.class), Type.INT_TYPE);
+        val mv = cw.visitMethod(ACC_PUBLIC, methodName, methodDescriptor, null, null);
+        generateTableSwitch(mv, fields, field -> !isTyped || field.getType() == type, field -> {
+            val isStatic = Modifier.isStatic(field.getModifiers());
+            val fieldOwner = Type.getInternalName(field.getDeclaringClass());
+            if (!isStatic) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitTypeInsn(CHECKCAST, fieldOwner);
+            }
+            val fieldDescriptor = Type.getDescriptor(field.getType());
+            mv.visitFieldInsn(isStatic ? GETSTATIC : GETFIELD, fieldOwner, field.getName(), fieldDescriptor);
+            if (!isTyped && field.getType().isPrimitive()) {
+                generateWrapPrimitive(mv, field.getType());
+            }
+            mv.visitInsn(returnType.getOpcode(IRETURN));
+        });
+
+        // Fields of other types are read by untyped getter and converted.
+        if (isTyped) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitVarInsn(ILOAD, 2);
+            mv.visitMethodInsn(INVOKEINTERFACE, FIELD_TABLE, "get", "(Ljava/lang/Object;I)Ljava/lang/Object;", true);
+            generateUnwrapPrimitive(mv, type);
+            mv.visitInsn(returnType.getOpcode(IRETURN));
+        } else {
+            generateThrow(mv, IndexOutOfBoundsException.class);
+        }
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
 
+    private void generateTableSetter(ClassWriter cw, List<Field> fields, Class<?> type) {
+        val isTyped = type != Object.class;
+        val valueType = Type.getType(type);
+        val methodName = isTyped ? "set" + getTypeName(type) : "set";
+        val methodDescriptor = Type.getMethodDescriptor(
+                Type.VOID_TYPE,
+                Type.getType(Object.class),
+                Type.INT_TYPE,
+                valueType
+        );
+        val mv = cw.visitMethod(ACC_PUBLIC, methodName, methodDescriptor, null, null);
+        generateTableSwitch(mv, fields, field -> !isTyped || field.getType() == type, field -> {
+            val isStatic = Modifier.isStatic(field.getModifiers());
+            val fieldOwner = Type.getInternalName(field.getDeclaringClass());
+            if (!isStatic) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitTypeInsn(CHECKCAST, fieldOwner);
+            }
+            mv.visitVarInsn(valueType.getOpcode(ILOAD), 3);
+            if (!isTyped && field.getType().isPrimitive()) {
+                generateUnwrapPrimitive(mv, field.getType());
+            } else if (!isTyped) {
+                mv.visitTypeInsn(CHECKCAST, Type.getInternalName(field.getType()));
+            }
+            val fieldDescriptor = Type.getDescriptor(field.getType());
+            mv.visitFieldInsn(isStatic ? PUTSTATIC : PUTFIELD, fieldOwner, field.getName(), fieldDescriptor);
+            mv.visitInsn(RETURN);
+        });
+
+        // Fields of other types are written by untyped setter.
+        if (isTyped) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitVarInsn(ILOAD, 2);
+            mv.visitVarInsn(valueType.getOpcode(ILOAD), 3);
+            generateWrapPrimitive(mv, type);
+            mv.visitMethodInsn(INVOKEINTERFACE, FIELD_TABLE, "set", "(Ljava/lang/Object;ILjava/lang/Object;)V", true);
+            mv.visitInsn(RETURN);
+        } else {
+            generateThrow(mv, IndexOutOfBoundsException.class);
+        }
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+
+    /**
+     * Generates a switch on the slot argument of a table method. Case generator must not fall through, slots of
+     * members that don't match the filter jump to the default label, which is visited last.
+     */
+    private <M extends Member> void generateTableSwitch(MethodVisitor mv,
+                                                        List<M> members,
+                                                        Predicate<M> filter,
+                                                        Consumer<M> caseGenerator) {
+        val defaultLabel = new Label();
+        if (!members.isEmpty()) {
+            val labels = new Label[members.size()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = filter.test(members.get(i)) ? new Label() : defaultLabel;
+            }
+
+            mv.visitVarInsn(ILOAD, 2);
+            mv.visitTableSwitchInsn(0, labels.length - 1, defaultLabel, labels);
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] != defaultLabel) {
+                    mv.visitLabel(labels[i]);
+                    caseGenerator.accept(members.get(i));
+                }
+            }
+        }
+        mv.visitLabel(defaultLabel);
+    }
+
+    @SneakyThrows
+    private MethodDispatcher _generateMethodDispatcher(Class<?> type) {
         val className = getNextClassName();
-        val cw = new ClassWriter(COMPUTE_MAXS);
-        generateHeader(cw, className, BiFunction.class.getName());
+        val cw = new ClassWriter(COMPUTE_MAXS | COMPUTE_FRAMES);
+        generateHeader(cw, className, MethodDispatcher.class.getName());
 
-        val invokeDescriptor = Type.getMethodDescriptor(
+        // Overridden methods are dispatched virtually, so only the first method of every signature is kept.
+        val methods = StreamEx.of(MemberTable.of(type).methods())
+                .remove(method -> method.isBridge() || method.isSynthetic())
+                .distinct(method -> Arrays.asList(method.getName(), Arrays.asList(method.getParameterTypes())))
+                .groupingBy(Method::getName, LinkedHashMap::new, Collectors.toList());
+
+        val methodDescriptor = Type.getMethodDescriptor(
                 Type.getType(Object.class),
                 Type.getType(Object.class),
-                Type.getType(Object.class)
+                Type.getType(String.class),
+                Type.getType(Object[].class)
         );
-        val mv = cw.visitMethod(ACC_PUBLIC + ACC_INTERFACE, "apply", invokeDescriptor, null, null);
+        val mv = cw.visitMethod(ACC_PUBLIC, "invoke", methodDescriptor, null, null);
+        val unresolvedLabel = new Label();
+        generateStringSwitch(mv, 2, methods.keySet(), unresolvedLabel, name -> {
+            // Overloads with the same number of parameters are resolved by argument types.
+            val arities = StreamEx.of(methods.get(name))
+                    .groupingBy(Method::getParameterCount, TreeMap::new, Collectors.toList());
+            arities.values().removeIf(overloads -> overloads.size() > 1);
+            val arityKeys = StreamEx.of(arities.keySet()).mapToInt(Integer::intValue).toArray();
+            val arityLabels = StreamEx.generate(Label::new).limit(arityKeys.length).toArray(Label[]::new);
 
-        val parameterCount = member instanceof Constructor
-                ? ((Constructor<?>) member).getParameterCount()
-                : ((Method) member).getParameterCount();
+            mv.visitVarInsn(ALOAD, 3);
+            mv.visitInsn(ARRAYLENGTH);
+            mv.visitLookupSwitchInsn(unresolvedLabel, arityKeys, arityLabels);
+            for (int i = 0; i < arityKeys.length; i++) {
+                val method = arities.get(arityKeys[i]).get(0);
+                mv.visitLabel(arityLabels[i]);
+                generateDispatchCheck(mv, method, unresolvedLabel);
+                generateInvocation(mv, method, (parameterType, index) ->
+                        generateArrayParameter(mv, 3, index, parameterType)
+                );
+                generateReturnObject(mv, method);
+            }
+        });
+        mv.visitLabel(unresolvedLabel);
+        mv.visitFieldInsn(GETSTATIC, Type.getInternalName(MethodDispatcher.class), "UNRESOLVED", "Ljava/lang/Object;");
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+
+        // Finish class generation.
+        cw.visitEnd();
+
+        // Load method dispatcher.
+        return (MethodDispatcher) loadAccessor(type, className, cw.toByteArray());
+    }
+
+    /**
+     * Generates a switch on a string value, the same way as javac compiles {@code switch} on a string: a lookup switch
+     * on the hash code, followed by equality checks of strings with that hash code. Case generator must not fall
+     * through, strings that don't match any case jump to the default label.
+     */
+    private void generateStringSwitch(MethodVisitor mv,
+                                      int stringSlot,
+                                      Collection<String> cases,
+                                      Label defaultLabel,
+                                      Consumer<String> caseGenerator) {
+        val hashes = StreamEx.of(cases).groupingBy(String::hashCode, TreeMap::new, Collectors.toList());
+        val hashKeys = StreamEx.of(hashes.keySet()).mapToInt(Integer::intValue).toArray();
+        val hashLabels = StreamEx.generate(Label::new).limit(hashKeys.length).toArray(Label[]::new);
+
+        mv.visitVarInsn(ALOAD, stringSlot);
+        mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "hashCode", "()I", false);
+        mv.visitLookupSwitchInsn(defaultLabel, hashKeys, hashLabels);
+        for (int i = 0; i < hashKeys.length; i++) {
+            mv.visitLabel(hashLabels[i]);
+            for (val value : hashes.get(hashKeys[i])) {
+                val nextLabel = new Label();
+                mv.visitVarInsn(ALOAD, stringSlot);
+                mv.visitLdcInsn(value);
+                mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "equals", "(Ljava/lang/Object;)Z", false);
+                mv.visitJumpInsn(IFEQ, nextLabel);
+                caseGenerator.accept(value);
+                mv.visitLabel(nextLabel);
+            }
+            mv.visitJumpInsn(GOTO, defaultLabel);
+        }
+    }
+
+    private void generateThrow(MethodVisitor mv, Class<? extends Throwable> exceptionType) {
+        val owner = Type.getInternalName(exceptionType);
+        mv.visitTypeInsn(NEW, owner);
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKESPECIAL, owner, "<init>", "()V", false);
+        mv.visitInsn(ATHROW);
+    }
+
+    static String getTypeName(Class<?> type) {
+        return getTypedAccessor(type).getSimpleName().replace("FieldAccessor", "");
+    }
+
+    static Class<?> getTypedAccessor(Class<?> type) {
+        if (type == boolean.class) {
+            return BooleanFieldAccessor.class;
+        } else if (type == byte.class) {
+            return ByteFieldAccessor.class;
+        } else if (type == char.class) {
+            return CharFieldAccessor.class;
+        } else if (type == short.class) {
+            return ShortFieldAccessor.class;
+        } else if (type == int.class) {
+            return IntFieldAccessor.class;
+        } else if (type == long.class) {
+            return LongFieldAccessor.class;
+        } else if (type == float.class) {
+            return FloatFieldAccessor.class;
+        }
+        return DoubleFieldAccessor.class;
+    }
+
+    private InvokableAccessor _generateInvokableAccessor(Member member) {
+        checkArgument(member instanceof Constructor<?> || member instanceof Method);
+
+        // Accessors of members of the same shape only differ in constants, bytecode is copied from a shared template.
+        val executable = (Executable) member;
+        val host = member.getDeclaringClass();
+        val className = getHostedAccessorName(host);
+        val shape = AccessorTemplate.getShape(executable, isHiddenHost(host));
+        val template = templates.computeIfAbsent(shape, key -> {
+            val cw = createHostedAccessorWriter(host);
+            return AccessorTemplate.generate(executable, cw, getHostedSuperName(host));
+        });
+
+        // Load accessor.
+        val accessor = loadHostedAccessor(host, className, template.apply(executable, className));
+        return new InvokableAccessor((DirectInvoker) accessor);
+    }
+
+    private InvokerTable _generateInvokerTable(Class<?> host, List<Executable> members) {
+        val className = getHostedAccessorName(host);
+        val cw = createHostedAccessorWriter(host);
+        generateHostedAccessorHeader(cw, host, className, InvokerTable.class.getName());
+
+        // Size.
+        {
+            val mv = cw.visitMethod(ACC_PUBLIC, "size", "()I", null, null);
+            mv.visitLdcInsn(members.size());
+            mv.visitInsn(IRETURN);
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Invocation with arguments array.
+        {
+            val invokeDescriptor = Type.getMethodDescriptor(
+                    Type.getType(Object.class),
+                    Type.getType(Object.class),
+                    Type.INT_TYPE,
+                    Type.getType(Object[].class)
+            );
+            val mv = cw.visitMethod(ACC_PUBLIC, "invoke", invokeDescriptor, null, null);
+            generateTableSwitch(mv, members, member -> true, member -> {
+                generateParameterCountCheck(mv, 3, member, member.getParameterCount());
+                generateInvocation(mv, member, (type, index) -> generateArrayParameter(mv, 3, index, type));
+                generateReturnObject(mv, member);
+            });
+            generateThrow(mv, IndexOutOfBoundsException.class);
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Fixed-arity invocation, members with a different parameter count are invoked with arguments array.
+        for (int parameterCount = 0; parameterCount <= MAX_FIXED_ARITY; parameterCount++) {
+            val count = parameterCount;
+            val fixedDescriptor = getTableInvocationDescriptor(Object.class, count);
+            val mv = cw.visitMethod(ACC_PUBLIC, "invoke" + count, fixedDescriptor, null, null);
+            generateTableSwitch(mv, members, member -> member.getParameterCount() == count, member -> {
+                generateInvocation(mv, member, (type, index) -> generateParameter(mv, 3 + index, type));
+                generateReturnObject(mv, member);
+            });
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitVarInsn(ILOAD, 2);
+            mv.visitLdcInsn(count);
+            mv.visitTypeInsn(ANEWARRAY, "java/lang/Object");
+            for (int i = 0; i < count; i++) {
+                mv.visitInsn(DUP);
+                mv.visitLdcInsn(i);
+                mv.visitVarInsn(ALOAD, 3 + i);
+                mv.visitInsn(AASTORE);
+            }
+            mv.visitMethodInsn(
+                    INVOKEINTERFACE,
+                    INVOKER_TABLE,
+                    "invoke",
+                    "(Ljava/lang/Object;I[Ljava/lang/Object;)Ljava/lang/Object;",
+                    true
+            );
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Fixed-arity invocation returning primitive result, results of other members are converted.
+        for (val returnType : new Class<?>[]{int.class, long.class, boolean.class}) {
+            val primitiveName = getPrimitiveInvocationName(returnType);
+            val returnOpcode = Type.getType(returnType).getOpcode(IRETURN);
+            for (int parameterCount = 0; parameterCount <= MAX_PRIMITIVE_ARITY; parameterCount++) {
+                val count = parameterCount;
+                val primitiveDescriptor = getTableInvocationDescriptor(returnType, count);
+                val mv = cw.visitMethod(ACC_PUBLIC, primitiveName + count, primitiveDescriptor, null, null);
+                generateTableSwitch(mv, members, member -> member.getParameterCount() == count
+                        && member instanceof Method
+                        && ((Method) member).getReturnType() == returnType, member -> {
+                    generateInvocation(mv, member, (type, index) -> generateParameter(mv, 3 + index, type));
+                    mv.visitInsn(returnOpcode);
+                });
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitVarInsn(ILOAD, 2);
+                for (int i = 0; i < count; i++) {
+                    mv.visitVarInsn(ALOAD, 3 + i);
+                }
+                val fixedDescriptor = getTableInvocationDescriptor(Object.class, count);
+                mv.visitMethodInsn(INVOKEINTERFACE, INVOKER_TABLE, "invoke" + count, fixedDescriptor, true);
+                generateUnwrapPrimitive(mv, returnType);
+                mv.visitInsn(returnOpcode);
+                mv.visitMaxs(-1, -1);
+                mv.visitEnd();
+            }
+        }
+
+        // Finish class generation.
+        cw.visitEnd();
+
+        // Load invoker table.
+        return (InvokerTable) loadHostedAccessor(host, className, cw.toByteArray());
+    }
+
+    private void generateDispatchCheck(MethodVisitor mv, Method method, Label unresolvedLabel) {
+        // Receivers of other types are rejected the same way as by reflection.
+        if (!Modifier.isStatic(method.getModifiers())) {
+            val receiverLabel = new Label();
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitJumpInsn(IFNULL, receiverLabel);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(method.getDeclaringClass()));
+            mv.visitJumpInsn(IFNE, receiverLabel);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitLdcInsn(Type.getType(method.getDeclaringClass()));
+            mv.visitMethodInsn(INVOKESTATIC, CONVERSIONS, "mismatch", MISMATCH_DESCRIPTOR, false);
+            mv.visitInsn(ATHROW);
+            mv.visitLabel(receiverLabel);
+        }
+
+        // Arguments of other types are left unresolved, so that method is resolved by argument types.
+        val parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i].isPrimitive() || parameterTypes[i] == Object.class) {
+                continue;
+            }
+            val argumentLabel = new Label();
+            mv.visitVarInsn(ALOAD, 3);
+            mv.visitLdcInsn(i);
+            mv.visitInsn(AALOAD);
+            mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(parameterTypes[i]));
+            mv.visitJumpInsn(IFNE, argumentLabel);
+            mv.visitVarInsn(ALOAD, 3);
+            mv.visitLdcInsn(i);
+            mv.visitInsn(AALOAD);
+            mv.visitJumpInsn(IFNONNULL, unresolvedLabel);
+            mv.visitLabel(argumentLabel);
+        }
+    }
+
+    void generateParameterCountCheck(MethodVisitor mv, int arraySlot, Member member, int parameterCount) {
         val exceptionType = Type.getInternalName(RuntimeException.class);
         val executionLabel = new Label();
 
-        mv.visitVarInsn(ALOAD, 2);
+        mv.visitVarInsn(ALOAD, arraySlot);
         mv.visitTypeInsn(CHECKCAST, "[Ljava/lang/Object;");
         mv.visitInsn(ARRAYLENGTH);
         mv.visitLdcInsn(parameterCount);
@@ -132,30 +769,31 @@ public class AccessorGenerator {
         mv.visitLdcInsn("Parameter count mismatch for: " + member);
         mv.visitMethodInsn(INVOKESPECIAL, exceptionType, "<init>", "(Ljava/lang/String;)V", false);
         mv.visitInsn(ATHROW);
-
         mv.visitLabel(executionLabel);
+    }
+
+    private void generateInvocation(MethodVisitor mv, Member member, ObjIntConsumer<Class<?>> parameterLoader) {
         if (member instanceof Constructor) {
             val constructor = (Constructor<?>) member;
             val constructorOwner = Type.getInternalName(constructor.getDeclaringClass());
             val constructorDescriptor = Type.getConstructorDescriptor(constructor);
-            val constructorParameters = constructor.getParameters();
+            val constructorParameters = constructor.getParameterTypes();
 
             mv.visitTypeInsn(NEW, constructorOwner);
             mv.visitInsn(DUP);
             for (int i = 0; i < constructorParameters.length; i++) {
-                val parameter = constructorParameters[i];
-                generateArrayParameter(mv, 2, i, parameter.getType());
+                parameterLoader.accept(constructorParameters[i], i);
             }
-            mv.visitMethodInsn(INVOKEVIRTUAL, constructorOwner, "<init>", constructorDescriptor, false);
+            mv.visitMethodInsn(INVOKESPECIAL, constructorOwner, "<init>", constructorDescriptor, false);
         } else {
             val method = (Method) member;
             val methodOwner = Type.getInternalName(method.getDeclaringClass());
             val methodName = method.getName();
             val methodDescriptor = Type.getMethodDescriptor(method);
-            val methodType = method.getReturnType();
             val methodStatic = Modifier.isStatic(method.getModifiers());
-            val methodOpcode = methodStatic ? INVOKESTATIC : INVOKEVIRTUAL;
-            val methodParameters = method.getParameters();
+            val methodInterface = method.getDeclaringClass().isInterface();
+            val methodOpcode = methodStatic ? INVOKESTATIC : methodInterface ? INVOKEINTERFACE : INVOKEVIRTUAL;
+            val methodParameters = method.getParameterTypes();
 
             if (!methodStatic) {
                 mv.visitVarInsn(ALOAD, 1);
@@ -163,41 +801,172 @@ public class AccessorGenerator {
             }
 
             for (int i = 0; i < methodParameters.length; i++) {
-                val parameter = methodParameters[i];
-                generateArrayParameter(mv, 2, i, parameter.getType());
+                parameterLoader.accept(methodParameters[i], i);
             }
 
-            mv.visitMethodInsn(methodOpcode, methodOwner, methodName, methodDescriptor, false);
+            mv.visitMethodInsn(methodOpcode, methodOwner, methodName, methodDescriptor, methodInterface);
+        }
+    }
+
+    private void generateReturnObject(MethodVisitor mv, Member member) {
+        if (member instanceof Method) {
+            val methodType = ((Method) member).getReturnType();
             if (methodType.isPrimitive() && methodType != void.class) {
-                generateWrapPrimitive(mv, method.getReturnType());
+                generateWrapPrimitive(mv, methodType);
             } else if (methodType == void.class) {
                 mv.visitInsn(ACONST_NULL);
             }
         }
         mv.visitInsn(ARETURN);
-        mv.visitMaxs(-1, -1);
-        mv.visitEnd();
+    }
 
-        // Finish class generation.
-        cw.visitEnd();
+    static String getFixedArityDescriptor(Class<?> returnType, int parameterCount) {
+        val parameterTypes = new Type[parameterCount + 1];
+        Arrays.fill(parameterTypes, Type.getType(Object.class));
+        return Type.getMethodDescriptor(Type.getType(returnType), parameterTypes);
+    }
 
-        // Load accessor.
-        val accessor = loadAccessor(member.getDeclaringClass(), className, cw.toByteArray());
-        return new InvokableAccessor((BiFunction) accessor);
+    private static String getTableInvocationDescriptor(Class<?> returnType, int parameterCount) {
+        val parameterTypes = new Type[parameterCount + 2];
+        Arrays.fill(parameterTypes, Type.getType(Object.class));
+        parameterTypes[1] = Type.INT_TYPE;
+        return Type.getMethodDescriptor(Type.getType(returnType), parameterTypes);
+    }
+
+    static String getPrimitiveInvocationName(Class<?> returnType) {
+        if (returnType == int.class) {
+            return "invokeInt";
+        } else if (returnType == long.class) {
+            return "invokeLong";
+        } else if (returnType == boolean.class) {
+            return "invokeBoolean";
+        }
+        return null;
     }
 
     @SneakyThrows
     public Object loadAccessor(Class<?> context, String className, byte[] bytecode) {
-        val accessorClass = JdkInternals.defineClass(context.getClassLoader(), className, bytecode);
+        val accessorClass = defineAccessor(context, className, bytecode);
         return JdkInternals.allocateInstance(accessorClass);
     }
 
+    /**
+     * Defines an accessor class in context of a given class. Defined accessor and given exposed classes can be
+     * referenced by name from the accessor bytecode, even if they are not visible to the class loader of the context.
+     *
+     * @param context        the accessed class
+     * @param className      the accessor class name
+     * @param bytecode       the accessor bytecode
+     * @param exposedClasses the classes that accessor references, in addition to classes visible to the context
+     * @return the defined accessor class
+     */
+    public Class<?> defineAccessor(Class<?> context, String className, byte[] bytecode, Class<?>... exposedClasses) {
+        val classLoader = (AccessorClassLoader) classLoaders.get(context);
+        for (val exposedClass : exposedClasses) {
+            classLoader.expose(exposedClass);
+        }
+        val accessorClass = JdkInternals.defineClass(classLoader, className, bytecode);
+        classLoader.expose(accessorClass);
+        return accessorClass;
+    }
+
+    /**
+     * Defines an accessor class in context of two classes whose class loaders cannot see each other. Accessor is
+     * defined in a new class loader that resolves classes through the class loader of the context first and through
+     * the class loader of the other class second, so that neither class loader holds classes of the other one.
+     * Accessor class loader is not cached and is unloaded together with the accessor.
+     *
+     * @param context   the accessed class
+     * @param other     the class of the other class loader that accessor references, e.g. implemented interface
+     * @param className the accessor class name
+     * @param bytecode  the accessor bytecode
+     * @return the defined accessor class
+     */
+    public Class<?> defineBridgeAccessor(Class<?> context, Class<?> other, String className, byte[] bytecode) {
+        val classLoader = new AccessorClassLoader(context.getClassLoader(), other.getClassLoader());
+        classLoader.expose(other);
+        val accessorClass = JdkInternals.defineClass(classLoader, className, bytecode);
+        classLoader.expose(accessorClass);
+        return accessorClass;
+    }
+
+    /**
+     * Checks if accessors of members of a given class are defined as hidden classes.
+     *
+     * @param host the declaring class of members
+     * @return true if member accessors are hidden nestmates of a given class
+     */
+    public boolean isHiddenHost(Class<?> host) {
+        return hiddenHosts.get(host);
+    }
+
+    /**
+     * Returns the name of a new accessor class that is defined in context of a given host class.
+     *
+     * @param host the host class
+     * @return the accessor class name
+     */
+    public String getHostedAccessorName(Class<?> host) {
+        // Hidden classes must be in the package of their host, JVM appends a unique suffix to the name.
+        return isHiddenHost(host) ? host.getName() + "$unreflect" : getNextClassName();
+    }
+
+    /**
+     * Creates a class writer of an accessor class that is defined in context of a given host class.
+     *
+     * @param host the host class
+     * @return the class writer
+     */
+    public ClassWriter createHostedAccessorWriter(Class<?> host) {
+        // Hidden classes are verified, which requires stack map frames.
+        return new ClassWriter(isHiddenHost(host) ? COMPUTE_MAXS | COMPUTE_FRAMES : COMPUTE_MAXS);
+    }
+
+    /**
+     * Generates class header and constructor of an accessor class that is defined in context of a given host class.
+     *
+     * @param cw             the class writer
+     * @param host           the host class
+     * @param className      the accessor class name
+     * @param interfaceNames the names of interfaces implemented by accessor
+     */
+    public void generateHostedAccessorHeader(ClassWriter cw,
+                                             Class<?> host,
+                                             String className,
+                                             String... interfaceNames) {
+        generateClassHeader(cw, className, getHostedSuperName(host), interfaceNames);
+    }
+
+    String getHostedSuperName(Class<?> host) {
+        return isHiddenHost(host) ? Object.class.getName() : superClass;
+    }
+
+    /**
+     * Defines an accessor class in context of a given host class and returns a new instance of it. Accessor is a
+     * hidden nestmate of the host if host supports it, otherwise it is defined through MagicAccessorImpl.
+     *
+     * @param host      the host class
+     * @param className the accessor class name
+     * @param bytecode  the accessor bytecode
+     * @return the accessor instance
+     */
+    public Object loadHostedAccessor(Class<?> host, String className, byte[] bytecode) {
+        if (!isHiddenHost(host)) {
+            return loadAccessor(host, className, bytecode);
+        }
+        return JdkInternals.allocateInstance(JdkInternals.defineHiddenClass(host, bytecode));
+    }
+
     public String getNextClassName() {
         val baseClass = superClass + "$unreflect";
         return baseClass + accessorIndex.getAndIncrement();
     }
 
     public void generateHeader(ClassWriter cw, String className, String... interfaceNames) {
+        generateClassHeader(cw, className, superClass, interfaceNames);
+    }
+
+    private void generateClassHeader(ClassWriter cw, String className, String superName, String[] interfaceNames) {
         val interfaces = StreamEx.of(interfaceNames).map(AccessorGenerator::getInternal).toArray(String.class);
 
         cw.visit(
@@ -205,13 +974,13 @@ public class AccessorGenerator {
                 ACC_PUBLIC,
                 getInternal(className),
                 null,
-                getInternal(superClass),
+                getInternal(superName),
                 interfaces
         );
 
         val mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
         mv.visitVarInsn(ALOAD, 0);
-        mv.visitMethodInsn(INVOKESPECIAL, getInternal(superClass), "<init>", "()V", false);
+        mv.visitMethodInsn(INVOKESPECIAL, getInternal(superName), "<init>", "()V", false);
         mv.visitInsn(RETURN);
         mv.visitMaxs(-1, -1);
         mv.visitEnd();
@@ -229,6 +998,15 @@ public class AccessorGenerator {
         }
     }
 
+    public void generateParameter(MethodVisitor mv, int slot, Class<?> parameterType) {
+        mv.visitVarInsn(ALOAD, slot);
+        if (parameterType.isPrimitive()) {
+            generateUnwrapPrimitive(mv, parameterType);
+        } else {
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(parameterType));
+        }
+    }
+
     public void generateWrapPrimitive(MethodVisitor mv, Class<?> type) {
         val wrapped = Primitives.wrap(type);
         val unwrapped = Primitives.unwrap(type);
@@ -245,22 +1023,28 @@ public class AccessorGenerator {
     }
 
     public void generateUnwrapPrimitive(MethodVisitor mv, Class<?> type) {
-        val wrapped = Primitives.wrap(type);
+        // Values are converted by reflection rules, widening is allowed and narrowing is rejected.
         val unwrapped = Primitives.unwrap(type);
-        val name = unwrapped.getSimpleName() + "Value";
-        val owner = Type.getInternalName(wrapped);
-        val descriptor = Type.getMethodDescriptor(Type.getType(unwrapped));
+        val name = "to" + getTypeName(unwrapped);
+        val descriptor = Type.getMethodDescriptor(Type.getType(unwrapped), Type.getType(Object.class));
 
-        mv.visitTypeInsn(CHECKCAST, Type.getInternalName(wrapped));
         mv.visitMethodInsn(
-                INVOKEVIRTUAL,
-                owner,
+                INVOKESTATIC,
+                CONVERSIONS,
                 name,
                 descriptor,
                 false
         );
     }
 
+    static boolean isLibraryVisible(ClassLoader classLoader) {
+        try {
+            return Class.forName(DirectInvoker.class.getName(), false, classLoader) == DirectInvoker.class;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     private static boolean isPrimitive(Class<?> type) {
         return Primitives.allPrimitiveTypes().contains(type);
     }
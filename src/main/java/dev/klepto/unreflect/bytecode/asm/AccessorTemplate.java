@@ -0,0 +1,353 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.function.IntConsumer;
+
+import static com.google.common.base.Preconditions.checkState;
+import static dev.klepto.unreflect.bytecode.asm.AccessorGenerator.*;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Bytecode template of invokable accessors of every method or constructor of the same shape. Shape is the erased
+ * descriptor of the member (reference types are erased to {@link Object}) together with the way member is invoked, so
+ * accessors of members of the same shape consist of the same instructions and differ only in constants: accessor class
+ * name, member owner, name and descriptor, reference parameter types and the parameter count mismatch message.
+ * <p>
+ * Template is generated once per shape, with a unique placeholder in place of every such constant. Accessor of a member
+ * is made by copying the template and replacing placeholder entries of the constant pool, which is a lot cheaper than
+ * generating the class. Instructions refer to constants by index, so replacing entries of a different length doesn't
+ * affect the rest of the class. Template classes have no constructor, accessors are allocated without one.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class AccessorTemplate {
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final String CLASS_NAME = "unreflect/template/Accessor";
+    private static final String OWNER = "unreflect/template/Owner";
+    private static final String NAME = "unreflect$template$name";
+    private static final String MESSAGE = "unreflect$template$message";
+    private static final String PARAMETER = "unreflect/template/Parameter";
+    private static final String RETURN = "unreflect/template/Return";
+
+    private final byte[] bytecode;
+    private final int[] offsets;
+    private final int[] sizes;
+    private final String[] placeholders;
+
+    /**
+     * Returns the shape of a given member, accessors of members of the same shape share a template.
+     *
+     * @param executable the method or constructor
+     * @param isHidden   true if accessor is defined as a hidden class
+     * @return the shape of member accessor
+     */
+    static String getShape(Executable executable, boolean isHidden) {
+        val shape = new StringBuilder(isHidden ? "H" : "M");
+        shape.append(getInvocationKind(executable)).append('(');
+        for (val parameterType : executable.getParameterTypes()) {
+            shape.append(parameterType.isPrimitive() ? Type.getDescriptor(parameterType) : "L");
+        }
+        shape.append(')');
+        val returnType = getReturnType(executable);
+        return shape.append(returnType.isPrimitive() ? Type.getDescriptor(returnType) : "L").toString();
+    }
+
+    /**
+     * Generates the template of accessors of members of the same shape as a given member.
+     *
+     * @param executable the method or constructor of the template shape
+     * @param cw         the class writer of accessor class
+     * @param superName  the super class name of accessor class
+     * @return the accessor template
+     */
+    static AccessorTemplate generate(Executable executable, ClassWriter cw, String superName) {
+        val kind = getInvocationKind(executable);
+        val isConstructor = kind == 'C';
+        val isStatic = isConstructor || kind == 'S' || kind == 'T';
+        val isInterface = kind == 'I' || kind == 'T';
+        val parameterTypes = executable.getParameterTypes();
+        val returnType = getReturnType(executable);
+        val descriptor = getTemplateDescriptor(parameterTypes, returnType);
+        val invocation = new Invocation(
+                isConstructor ? INVOKESPECIAL : isStatic ? INVOKESTATIC : isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL,
+                isConstructor ? "<init>" : NAME,
+                descriptor,
+                isInterface,
+                isConstructor,
+                isStatic,
+                parameterTypes
+        );
+
+        cw.visit(V1_8, ACC_PUBLIC, CLASS_NAME, null, superName.replace('.', '/'), new String[]{
+                Type.getInternalName(DirectInvoker.class)
+        });
+
+        // Invocation with arguments array.
+        {
+            val invokeDescriptor = "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;";
+            val mv = cw.visitMethod(ACC_PUBLIC, "apply", invokeDescriptor, null, null);
+            val executionLabel = new Label();
+            val exceptionType = Type.getInternalName(RuntimeException.class);
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitTypeInsn(CHECKCAST, "[Ljava/lang/Object;");
+            mv.visitInsn(ARRAYLENGTH);
+            mv.visitLdcInsn(parameterTypes.length);
+            mv.visitJumpInsn(IF_ICMPEQ, executionLabel);
+            mv.visitTypeInsn(NEW, exceptionType);
+            mv.visitInsn(DUP);
+            mv.visitLdcInsn(MESSAGE);
+            mv.visitMethodInsn(INVOKESPECIAL, exceptionType, "<init>", "(Ljava/lang/String;)V", false);
+            mv.visitInsn(ATHROW);
+            mv.visitLabel(executionLabel);
+            invocation.generate(mv, index -> {
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitTypeInsn(CHECKCAST, "[Ljava/lang/Object;");
+                mv.visitLdcInsn(index);
+                mv.visitInsn(AALOAD);
+            });
+            generateReturnObject(mv, returnType, isConstructor);
+        }
+
+        // Fixed-arity invocation, parameters are passed directly without an array.
+        if (parameterTypes.length <= MAX_FIXED_ARITY) {
+            val fixedDescriptor = getFixedArityDescriptor(Object.class, parameterTypes.length);
+            val mv = cw.visitMethod(ACC_PUBLIC, "invoke" + parameterTypes.length, fixedDescriptor, null, null);
+            invocation.generate(mv, index -> mv.visitVarInsn(ALOAD, 2 + index));
+            generateReturnObject(mv, returnType, isConstructor);
+        }
+
+        // Fixed-arity invocation returning primitive result without boxing.
+        val primitiveName = isConstructor ? null : getPrimitiveInvocationName(returnType);
+        if (primitiveName != null && parameterTypes.length <= MAX_PRIMITIVE_ARITY) {
+            val primitiveDescriptor = getFixedArityDescriptor(returnType, parameterTypes.length);
+            val mv = cw.visitMethod(ACC_PUBLIC, primitiveName + parameterTypes.length, primitiveDescriptor, null, null);
+            invocation.generate(mv, index -> mv.visitVarInsn(ALOAD, 2 + index));
+            mv.visitInsn(Type.getType(returnType).getOpcode(IRETURN));
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Finish class generation.
+        cw.visitEnd();
+
+        val placeholders = new ArrayList<String>(Arrays.asList(CLASS_NAME, OWNER, descriptor, MESSAGE));
+        if (!isConstructor) {
+            placeholders.add(NAME);
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!parameterTypes[i].isPrimitive()) {
+                placeholders.add(PARAMETER + i);
+            }
+        }
+        return of(cw.toByteArray(), placeholders);
+    }
+
+    /**
+     * Creates an accessor of a given member from this template.
+     *
+     * @param executable the method or constructor of the template shape
+     * @param className  the accessor class name
+     * @return the accessor bytecode
+     */
+    @SneakyThrows
+    byte[] apply(Executable executable, String className) {
+        val values = new HashMap<String, String>();
+        val parameterTypes = executable.getParameterTypes();
+        val returnType = getReturnType(executable);
+        values.put(CLASS_NAME, className.replace('.', '/'));
+        values.put(OWNER, Type.getInternalName(executable.getDeclaringClass()));
+        values.put(NAME, executable.getName());
+        values.put(MESSAGE, "Parameter count mismatch for: " + executable);
+        values.put(getTemplateDescriptor(parameterTypes, returnType), executable instanceof Method
+                ? Type.getMethodDescriptor((Method) executable)
+                : Type.getConstructorDescriptor((Constructor<?>) executable));
+        for (int i = 0; i < parameterTypes.length; i++) {
+            values.put(PARAMETER + i, Type.getInternalName(parameterTypes[i]));
+        }
+
+        val output = new ByteArrayOutputStream(bytecode.length + 256);
+        val data = new DataOutputStream(output);
+        int position = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            data.write(bytecode, position, offsets[i] - position);
+            // Constant pool strings are written in modified UTF-8, prefixed by length.
+            data.writeUTF(values.get(placeholders[i]));
+            position = offsets[i] + sizes[i];
+        }
+        data.write(bytecode, position, bytecode.length - position);
+        return output.toByteArray();
+    }
+
+    /**
+     * Locates the placeholder strings in the constant pool of template bytecode. Every placeholder must be present
+     * exactly once, template cannot be patched otherwise.
+     */
+    private static AccessorTemplate of(byte[] bytecode, Collection<String> placeholderNames) {
+        val offsets = new ArrayList<Integer>();
+        val sizes = new ArrayList<Integer>();
+        val placeholders = new ArrayList<String>();
+        val count = readUnsignedShort(bytecode, 8);
+        int offset = 10;
+        for (int index = 1; index < count; index++) {
+            val tag = bytecode[offset] & 0xFF;
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    val length = readUnsignedShort(bytecode, offset + 1);
+                    val value = new String(bytecode, offset + 3, length, StandardCharsets.ISO_8859_1);
+                    if (placeholderNames.contains(value)) {
+                        offsets.add(offset + 1);
+                        sizes.add(length + 2);
+                        placeholders.add(value);
+                    }
+                    offset += 3 + length;
+                    break;
+                case 5: // Long.
+                case 6: // Double, takes two constant pool entries.
+                    offset += 9;
+                    index++;
+                    break;
+                case 3: // Integer.
+                case 4: // Float.
+                case 9: // Field reference.
+                case 10: // Method reference.
+                case 11: // Interface method reference.
+                case 12: // Name and type.
+                case 17: // Dynamic.
+                case 18: // Invoke dynamic.
+                    offset += 5;
+                    break;
+                case 15: // Method handle.
+                    offset += 4;
+                    break;
+                case 7: // Class.
+                case 8: // String.
+                case 16: // Method type.
+                case 19: // Module.
+                case 20: // Package.
+                    offset += 3;
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown constant pool tag: " + tag);
+            }
+        }
+
+        val isComplete = placeholders.size() == placeholderNames.size()
+                && placeholders.containsAll(placeholderNames);
+        checkState(isComplete, "Accessor template placeholders are not unique: %s", placeholders);
+        return new AccessorTemplate(
+                bytecode,
+                offsets.stream().mapToInt(Integer::intValue).toArray(),
+                sizes.stream().mapToInt(Integer::intValue).toArray(),
+                placeholders.toArray(new String[0])
+        );
+    }
+
+    private static int readUnsignedShort(byte[] bytecode, int offset) {
+        return ((bytecode[offset] & 0xFF) << 8) | (bytecode[offset + 1] & 0xFF);
+    }
+
+    private static char getInvocationKind(Executable executable) {
+        if (executable instanceof Constructor) {
+            return 'C';
+        }
+        val isStatic = Modifier.isStatic(executable.getModifiers());
+        if (executable.getDeclaringClass().isInterface()) {
+            return isStatic ? 'T' : 'I';
+        }
+        return isStatic ? 'S' : 'V';
+    }
+
+    private static Class<?> getReturnType(Executable executable) {
+        return executable instanceof Method ? ((Method) executable).getReturnType() : void.class;
+    }
+
+    /**
+     * Returns the descriptor placeholder of member invocation, which is unique to the template: reference parameters
+     * are replaced by unique placeholder types and so is the reference return type. Descriptors that consist of
+     * primitive types only don't collide with other constants, because template classes don't have constructors.
+     */
+    private static String getTemplateDescriptor(Class<?>[] parameterTypes, Class<?> returnType) {
+        val descriptor = new StringBuilder("(");
+        for (int i = 0; i < parameterTypes.length; i++) {
+            val parameterType = parameterTypes[i];
+            val parameterDescriptor = "L" + PARAMETER + i + ";";
+            descriptor.append(parameterType.isPrimitive() ? Type.getDescriptor(parameterType) : parameterDescriptor);
+        }
+        descriptor.append(')');
+        return descriptor.append(returnType.isPrimitive() ? Type.getDescriptor(returnType) : "L" + RETURN + ";")
+                .toString();
+    }
+
+    private static void generateReturnObject(MethodVisitor mv, Class<?> returnType, boolean isConstructor) {
+        if (!isConstructor && returnType == void.class) {
+            mv.visitInsn(ACONST_NULL);
+        } else if (!isConstructor && returnType.isPrimitive()) {
+            AccessorGenerator.getInstance().generateWrapPrimitive(mv, returnType);
+        }
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+
+    /**
+     * Invocation of the template member, with placeholders in place of member constants.
+     */
+    @RequiredArgsConstructor
+    private static final class Invocation {
+
+        private final int opcode;
+        private final String name;
+        private final String descriptor;
+        private final boolean isInterface;
+        private final boolean isConstructor;
+        private final boolean isStatic;
+        private final Class<?>[] parameterTypes;
+
+        /**
+         * Generates the member invocation, parameter loader pushes boxed argument of a given index onto the stack.
+         */
+        private void generate(MethodVisitor mv, IntConsumer parameterLoader) {
+            if (isConstructor) {
+                mv.visitTypeInsn(NEW, OWNER);
+                mv.visitInsn(DUP);
+            } else if (!isStatic) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitTypeInsn(CHECKCAST, OWNER);
+            }
+
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterLoader.accept(i);
+                if (parameterTypes[i].isPrimitive()) {
+                    AccessorGenerator.getInstance().generateUnwrapPrimitive(mv, parameterTypes[i]);
+                } else {
+                    mv.visitTypeInsn(CHECKCAST, PARAMETER + i);
+                }
+            }
+
+            mv.visitMethodInsn(opcode, OWNER, name, descriptor, isInterface);
+        }
+
+    }
+
+}
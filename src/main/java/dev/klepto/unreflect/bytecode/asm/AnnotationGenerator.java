@@ -0,0 +1,210 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import dev.klepto.unreflect.util.Caches;
+import dev.klepto.unreflect.util.JdkInternals;
+import dev.klepto.unreflect.util.MemberTable;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.val;
+import one.util.streamex.StreamEx;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Type;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.objectweb.asm.ClassWriter.COMPUTE_MAXS;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Bytecode generation of materialized annotations. Annotations provided by the JDK are dynamic proxies, which dispatch
+ * every attribute read through an invocation handler and clone array values on every read. Materialized annotation is
+ * an instance of a generated class implementing the annotation interface, where attribute values are read once and
+ * stored in final fields. Note that array values are shared and must not be modified.
+ * <p>
+ * Implementation classes are defined in the package and class loader of the annotation type, so that they can
+ * implement package-private annotations. Annotations loaded by the bootstrap class loader cannot be materialized and
+ * are returned as is, as are all annotations if classes cannot be injected in current JDK version.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public class AnnotationGenerator {
+
+    @Getter(lazy = true)
+    private static final AnnotationGenerator instance = new AnnotationGenerator();
+
+    private static final String OBJECT_TYPE = Type.getInternalName(Object.class);
+    private static final String ANNOTATION_TYPE = Type.getInternalName(Annotation.class);
+
+    private final AtomicInteger implementationIndex = new AtomicInteger();
+    private final ClassValue<Constructor<?>> implementations = new ClassValue<Constructor<?>>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Constructor<?> computeValue(Class<?> type) {
+            Caches.register(type);
+            return generateImplementation((Class<? extends Annotation>) type);
+        }
+    };
+    private final ClassValue<Map<AnnotatedElement, Map<Class<?>, Annotation>>> annotations =
+            new ClassValue<Map<AnnotatedElement, Map<Class<?>, Annotation>>>() {
+                @Override
+                protected Map<AnnotatedElement, Map<Class<?>, Annotation>> computeValue(Class<?> type) {
+                    Caches.register(type);
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private AnnotationGenerator() {
+        Caches.onEvict(implementations::remove);
+        Caches.onEvict(annotations::remove);
+    }
+
+    /**
+     * Returns materialized annotation of a given type declared on a given element, or null if element isn't annotated
+     * with a given annotation. Materialized annotations are cached in declaring class of the element, every annotation
+     * of the element is materialized only once.
+     *
+     * @param element         the annotated class, member or parameter
+     * @param annotationClass the annotation type
+     * @param <A>             the generic annotation type
+     * @return the materialized annotation, or null if annotation is not present
+     */
+    public <A extends Annotation> A generateAnnotation(AnnotatedElement element, Class<A> annotationClass) {
+        val materialized = annotations.get(getDeclaringClass(element))
+                .computeIfAbsent(element, this::materializeAnnotations);
+        return annotationClass.cast(materialized.get(annotationClass));
+    }
+
+    private Map<Class<?>, Annotation> materializeAnnotations(AnnotatedElement element) {
+        val result = ImmutableMap.<Class<?>, Annotation>builder();
+        for (val annotation : element.getDeclaredAnnotations()) {
+            result.put(annotation.annotationType(), materializeAnnotation(annotation));
+        }
+        return result.build();
+    }
+
+    @SneakyThrows
+    private Annotation materializeAnnotation(Annotation annotation) {
+        val type = annotation.annotationType();
+        if (type.getClassLoader() == null || !JdkInternals.isClassInjectionSupported()) {
+            return annotation;
+        }
+
+        val attributes = getAttributes(type);
+        val values = new Object[attributes.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = attributes.get(i).invoke(annotation);
+        }
+        return (Annotation) implementations.get(type).newInstance(annotation, values);
+    }
+
+    @SneakyThrows
+    private Constructor<?> generateImplementation(Class<? extends Annotation> type) {
+        val accessorGenerator = AccessorGenerator.getInstance();
+        val className = type.getName() + "$unreflect" + implementationIndex.getAndIncrement();
+        val classOwner = className.replace('.', '/');
+        val annotationOwner = Type.getInternalName(type);
+        val attributes = getAttributes(type);
+
+        val cw = new ClassWriter(COMPUTE_MAXS);
+        cw.visit(V1_8, ACC_FINAL | ACC_SYNTHETIC, classOwner, null, OBJECT_TYPE, new String[]{annotationOwner});
+        cw.visitField(ACC_PRIVATE | ACC_FINAL, "source", "L" + ANNOTATION_TYPE + ";", null, null).visitEnd();
+        for (val attribute : attributes) {
+            val descriptor = Type.getDescriptor(attribute.getReturnType());
+            cw.visitField(ACC_PRIVATE | ACC_FINAL, attribute.getName(), descriptor, null, null).visitEnd();
+        }
+
+        // Constructor.
+        {
+            val descriptor = Type.getMethodDescriptor(
+                    Type.getType(void.class),
+                    Type.getType(Annotation.class),
+                    Type.getType(Object[].class)
+            );
+            val mv = cw.visitMethod(ACC_PUBLIC, "<init>", descriptor, null, null);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, OBJECT_TYPE, "<init>", "()V", false);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitFieldInsn(PUTFIELD, classOwner, "source", "L" + ANNOTATION_TYPE + ";");
+            for (int i = 0; i < attributes.size(); i++) {
+                val attribute = attributes.get(i);
+                mv.visitVarInsn(ALOAD, 0);
+                accessorGenerator.generateArrayParameter(mv, 2, i, attribute.getReturnType());
+                val fieldDescriptor = Type.getDescriptor(attribute.getReturnType());
+                mv.visitFieldInsn(PUTFIELD, classOwner, attribute.getName(), fieldDescriptor);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Attributes.
+        for (val attribute : attributes) {
+            val returnType = Type.getType(attribute.getReturnType());
+            val mv = cw.visitMethod(ACC_PUBLIC, attribute.getName(), Type.getMethodDescriptor(attribute), null, null);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, classOwner, attribute.getName(), returnType.getDescriptor());
+            mv.visitInsn(returnType.getOpcode(IRETURN));
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Annotation type.
+        {
+            val mv = cw.visitMethod(ACC_PUBLIC, "annotationType", "()Ljava/lang/Class;", null, null);
+            mv.visitLdcInsn(Type.getType(type));
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Object methods are rarely used, delegate them to the source annotation.
+        generateSourceDelegate(cw, classOwner, "equals", "(Ljava/lang/Object;)Z", IRETURN);
+        generateSourceDelegate(cw, classOwner, "hashCode", "()I", IRETURN);
+        generateSourceDelegate(cw, classOwner, "toString", "()Ljava/lang/String;", ARETURN);
+
+        // Finish class generation.
+        cw.visitEnd();
+
+        val implementationClass = JdkInternals.injectClass(type.getClassLoader(), className, cw.toByteArray());
+        val constructor = implementationClass.getDeclaredConstructors()[0];
+        JdkInternals.setAccessible(constructor, true);
+        return constructor;
+    }
+
+    private void generateSourceDelegate(ClassWriter cw, String classOwner, String name, String descriptor, int opcode) {
+        val mv = cw.visitMethod(ACC_PUBLIC, name, descriptor, null, null);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, classOwner, "source", "L" + ANNOTATION_TYPE + ";");
+        if (Type.getArgumentTypes(descriptor).length > 0) {
+            mv.visitVarInsn(ALOAD, 1);
+        }
+        mv.visitMethodInsn(INVOKEINTERFACE, ANNOTATION_TYPE, name, descriptor, true);
+        mv.visitInsn(opcode);
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+
+    private static ImmutableList<Method> getAttributes(Class<? extends Annotation> type) {
+        return StreamEx.of(MemberTable.of(type).declaredMethods())
+                .filter(method -> !Modifier.isStatic(method.getModifiers()))
+                .filter(method -> method.getParameterCount() == 0)
+                .toListAndThen(ImmutableList::copyOf);
+    }
+
+    private static Class<?> getDeclaringClass(AnnotatedElement element) {
+        if (element instanceof Class) {
+            return (Class<?>) element;
+        } else if (element instanceof Parameter) {
+            return ((Parameter) element).getDeclaringExecutable().getDeclaringClass();
+        }
+        return ((Member) element).getDeclaringClass();
+    }
+
+}
@@ -0,0 +1,27 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+/**
+ * Direct access to a field of {@code byte} type. Implemented by generated accessors of {@code byte} fields, reads and
+ * writes field value without boxing.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public interface ByteFieldAccessor {
+
+    /**
+     * Gets the value of the field.
+     *
+     * @param object the instance of declaring class, ignored for static fields
+     * @return the field value
+     */
+    byte getByte(Object object);
+
+    /**
+     * Sets the value of the field.
+     *
+     * @param object the instance of declaring class, ignored for static fields
+     * @param value  the field value
+     */
+    void setByte(Object object, byte value);
+
+}
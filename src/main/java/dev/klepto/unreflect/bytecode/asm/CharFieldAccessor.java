@@ -0,0 +1,27 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+/**
+ * Direct access to a field of {@code char} type. Implemented by generated accessors of {@code char} fields, reads and
+ * writes field value without boxing.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public interface CharFieldAccessor {
+
+    /**
+     * Gets the value of the field.
+     *
+     * @param object the instance of declaring class, ignored for static fields
+     * @return the field value
+     */
+    char getChar(Object object);
+
+    /**
+     * Sets the value of the field.
+     *
+     * @param object the instance of declaring class, ignored for static fields
+     * @param value  the field value
+     */
+    void setChar(Object object, char value);
+
+}
@@ -0,0 +1,226 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+import lombok.val;
+
+/**
+ * Conversions of boxed values to primitive types, called by generated accessors and by accessors of other engines.
+ * Values are converted the same way as by reflection: boxed values are unboxed and widened by the widening primitive
+ * conversions of the Java Language Specification (e.g. {@code Integer} to {@code long}, {@code Character} to
+ * {@code int}), any other value, including narrowing conversions and null, is rejected with
+ * {@link IllegalArgumentException}. Methods check the exact wrapper type first, so that they are inlined into a single
+ * type check in the common case.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public final class Conversions {
+
+    private Conversions() {
+    }
+
+    /**
+     * Converts a value to {@code boolean}.
+     *
+     * @param value the boxed value
+     * @return the primitive value
+     * @throws IllegalArgumentException if value is not a {@code Boolean}
+     */
+    public static boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        throw mismatch(value, boolean.class);
+    }
+
+    /**
+     * Converts a value to {@code byte}.
+     *
+     * @param value the boxed value
+     * @return the primitive value
+     * @throws IllegalArgumentException if value is not a {@code Byte}
+     */
+    public static byte toByte(Object value) {
+        if (value instanceof Byte) {
+            return (Byte) value;
+        }
+        throw mismatch(value, byte.class);
+    }
+
+    /**
+     * Converts a value to {@code char}.
+     *
+     * @param value the boxed value
+     * @return the primitive value
+     * @throws IllegalArgumentException if value is not a {@code Character}
+     */
+    public static char toChar(Object value) {
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw mismatch(value, char.class);
+    }
+
+    /**
+     * Converts a value to {@code short}, widening {@code byte} values.
+     *
+     * @param value the boxed value
+     * @return the primitive value
+     * @throws IllegalArgumentException if value cannot be widened to {@code short}
+     */
+    public static short toShort(Object value) {
+        if (value instanceof Short) {
+            return (Short) value;
+        } else if (value instanceof Byte) {
+            return (Byte) value;
+        }
+        throw mismatch(value, short.class);
+    }
+
+    /**
+     * Converts a value to {@code int}, widening {@code byte}, {@code short} and {@code char} values.
+     *
+     * @param value the boxed value
+     * @return the primitive value
+     * @throws IllegalArgumentException if value cannot be widened to {@code int}
+     */
+    public static int toInt(Object value) {
+        if (value instanceof Integer) {
+            return (Integer) value;
+        } else if (value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        } else if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw mismatch(value, int.class);
+    }
+
+    /**
+     * Converts a value to {@code long}, widening {@code byte}, {@code short}, {@code char} and {@code int} values.
+     *
+     * @param value the boxed value
+     * @return the primitive value
+     * @throws IllegalArgumentException if value cannot be widened to {@code long}
+     */
+    public static long toLong(Object value) {
+        if (value instanceof Long) {
+            return (Long) value;
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw mismatch(value, long.class);
+    }
+
+    /**
+     * Converts a value to {@code float}, widening {@code byte}, {@code short}, {@code char}, {@code int} and
+     * {@code long} values.
+     *
+     * @param value the boxed value
+     * @return the primitive value
+     * @throws IllegalArgumentException if value cannot be widened to {@code float}
+     */
+    public static float toFloat(Object value) {
+        if (value instanceof Float) {
+            return (Float) value;
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte) {
+            return ((Number) value).floatValue();
+        } else if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw mismatch(value, float.class);
+    }
+
+    /**
+     * Converts a value to {@code double}, widening values of every other numeric primitive type.
+     *
+     * @param value the boxed value
+     * @return the primitive value
+     * @throws IllegalArgumentException if value cannot be widened to {@code double}
+     */
+    public static double toDouble(Object value) {
+        if (value instanceof Double) {
+            return (Double) value;
+        } else if (value instanceof Float || value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).doubleValue();
+        } else if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw mismatch(value, double.class);
+    }
+
+    /**
+     * Converts a value to a given primitive type.
+     *
+     * @param value the boxed value
+     * @param type  the primitive type
+     * @return the value boxed in the wrapper of a given primitive type
+     * @throws IllegalArgumentException if value cannot be widened to a given type
+     */
+    public static Object toPrimitive(Object value, Class<?> type) {
+        if (type == boolean.class) {
+            return toBoolean(value);
+        } else if (type == byte.class) {
+            return toByte(value);
+        } else if (type == char.class) {
+            return toChar(value);
+        } else if (type == short.class) {
+            return toShort(value);
+        } else if (type == int.class) {
+            return toInt(value);
+        } else if (type == long.class) {
+            return toLong(value);
+        } else if (type == float.class) {
+            return toFloat(value);
+        }
+        return toDouble(value);
+    }
+
+    /**
+     * Checks whether a primitive type can be converted to another primitive type by identity or by a widening
+     * primitive conversion (e.g. {@code int} to {@code long}, {@code char} to {@code int}).
+     *
+     * @param type       the primitive type
+     * @param targetType the target primitive type
+     * @return true if values of a given type can be converted to target type without narrowing
+     */
+    public static boolean isWidening(Class<?> type, Class<?> targetType) {
+        if (type == targetType) {
+            return true;
+        } else if (type == boolean.class || targetType == boolean.class || targetType == char.class) {
+            return false;
+        } else if (type == char.class) {
+            return targetType != byte.class && targetType != short.class;
+        }
+        return rank(type) < rank(targetType);
+    }
+
+    private static int rank(Class<?> type) {
+        if (type == byte.class) {
+            return 0;
+        } else if (type == short.class) {
+            return 1;
+        } else if (type == int.class) {
+            return 2;
+        } else if (type == long.class) {
+            return 3;
+        } else if (type == float.class) {
+            return 4;
+        }
+        return 5;
+    }
+
+    /**
+     * Creates the exception of a value that cannot be converted to a given type.
+     *
+     * @param value the value
+     * @param type  the target type
+     * @return the exception to throw
+     */
+    public static IllegalArgumentException mismatch(Object value, Class<?> type) {
+        val valueType = value != null ? value.getClass().getName() : "null";
+        return new IllegalArgumentException("Cannot convert " + valueType + " to " + type.getName() + ".");
+    }
+
+}
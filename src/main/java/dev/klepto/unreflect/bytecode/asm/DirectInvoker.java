@@ -0,0 +1,229 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+import java.util.function.BiFunction;
+
+/**
+ * Direct invocation of a method or constructor. Implemented by generated invokable accessors, which override the
+ * fixed-arity method that matches parameter count of the member, so invocation doesn't allocate an argument array.
+ * Methods returning {@code int}, {@code long} or {@code boolean} also override the matching primitive variant,
+ * which returns the result without boxing. Non-matching variants fall back to {@link #apply(Object, Object)},
+ * primitive variants convert the result by {@link Conversions}.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public interface DirectInvoker extends BiFunction<Object, Object, Object> {
+
+    /**
+     * Invokes the member with 0 arguments.
+     *
+     * @param object the instance of declaring class, ignored for static methods and constructors
+     * @return the result of invocation, or null if result is void
+     */
+    default Object invoke0(Object object) {
+        return apply(object, new Object[]{});
+    }
+
+    /**
+     * Invokes the member with 1 argument.
+     *
+     * @param object the instance of declaring class, ignored for static methods and constructors
+     * @param a      the first argument
+     * @return the result of invocation, or null if result is void
+     */
+    default Object invoke1(Object object, Object a) {
+        return apply(object, new Object[]{a});
+    }
+
+    /**
+     * Invokes the member with 2 arguments.
+     *
+     * @param object the instance of declaring class, ignored for static methods and constructors
+     * @param a      the first argument
+     * @param b      the second argument
+     * @return the result of invocation, or null if result is void
+     */
+    default Object invoke2(Object object, Object a, Object b) {
+        return apply(object, new Object[]{a, b});
+    }
+
+    /**
+     * Invokes the member with 3 arguments.
+     *
+     * @param object the instance of declaring class, ignored for static methods and constructors
+     * @param a      the first argument
+     * @param b      the second argument
+     * @param c      the third argument
+     * @return the result of invocation, or null if result is void
+     */
+    default Object invoke3(Object object, Object a, Object b, Object c) {
+        return apply(object, new Object[]{a, b, c});
+    }
+
+    /**
+     * Invokes the member with 4 arguments.
+     *
+     * @param object the instance of declaring class, ignored for static methods and constructors
+     * @param a      the first argument
+     * @param b      the second argument
+     * @param c      the third argument
+     * @param d      the fourth argument
+     * @return the result of invocation, or null if result is void
+     */
+    default Object invoke4(Object object, Object a, Object b, Object c, Object d) {
+        return apply(object, new Object[]{a, b, c, d});
+    }
+
+    /**
+     * Invokes the member with 5 arguments.
+     *
+     * @param object the instance of declaring class, ignored for static methods and constructors
+     * @param a      the first argument
+     * @param b      the second argument
+     * @param c      the third argument
+     * @param d      the fourth argument
+     * @param e      the fifth argument
+     * @return the result of invocation, or null if result is void
+     */
+    default Object invoke5(Object object, Object a, Object b, Object c, Object d, Object e) {
+        return apply(object, new Object[]{a, b, c, d, e});
+    }
+
+    /**
+     * Invokes the member with 0 arguments and returns {@code int} result without boxing.
+     *
+     * @param object the instance of declaring class, ignored for static methods
+     * @return the result of invocation
+     */
+    default int invokeInt0(Object object) {
+        return Conversions.toInt(invoke0(object));
+    }
+
+    /**
+     * Invokes the member with 1 argument and returns {@code int} result without boxing.
+     *
+     * @param object the instance of declaring class, ignored for static methods
+     * @param a      the first argument
+     * @return the result of invocation
+     */
+    default int invokeInt1(Object object, Object a) {
+        return Conversions.toInt(invoke1(object, a));
+    }
+
+    /**
+     * Invokes the member with 2 arguments and returns {@code int} result without boxing.
+     *
+     * @param object the instance of declaring class, ignored for static methods
+     * @param a      the first argument
+     * @param b      the second argument
+     * @return the result of invocation
+     */
+    default int invokeInt2(Object object, Object a, Object b) {
+        return Conversions.toInt(invoke2(object, a, b));
+    }
+
+    /**
+     * Invokes the member with 3 arguments and returns {@code int} result without boxing.
+     *
+     * @param object the instance of declaring class, ignored for static methods
+     * @param a      the first argument
+     * @param b      the second argument
+     * @param c      the third argument
+     * @return the result of invocation
+     */
+    default int invokeInt3(Object object, Object a, Object b, Object c) {
+        return Conversions.toInt(invoke3(object, a, b, c));
+    }
+
+    /**
+     * Invokes the member with 0 arguments and returns {@code long} result without boxing.
+     *
+     * @param object the instance of declaring class, ignored for static methods
+     * @return the result of invocation
+     */
+    default long invokeLong0(Object object) {
+        return Conversions.toLong(invoke0(object));
+    }
+
+    /**
+     * Invokes the member with 1 argument and returns {@code long} result without boxing.
+     *
+     * @param object the instance of declaring class, ignored for static methods
+     * @param a      the first argument
+     * @return the result of invocation
+     */
+    default long invokeLong1(Object object, Object a) {
+        return Conversions.toLong(invoke1(object, a));
+    }
+
+    /**
+     * Invokes the member with 2 arguments and returns {@code long} result without boxing.
+     *
+     * @param object the instance of declaring class, ignored for static methods
+     * @param a      the first argument
+     * @param b      the second argument
+     * @return the result of invocation
+     */
+    default long invokeLong2(Object object, Object a, Object b) {
+        return Conversions.toLong(invoke2(object, a, b));
+    }
+
+    /**
+     * Invokes the member with 3 arguments and returns {@code long} result without boxing.
+     *
+     * @param object the instance of declaring class, ignored for static methods
+     * @param a      the first argument
+     * @param b      the second argument
+     * @param c      the third argument
+     * @return the result of invocation
+     */
+    default long invokeLong3(Object object, Object a, Object b, Object c) {
+        return Conversions.toLong(invoke3(object, a, b, c));
+    }
+
+    /**
+     * Invokes the member with 0 arguments and returns {@code boolean} result without boxing.
+     *
+     * @param object the instance of declaring class, ignored for static methods
+     * @return the result of invocation
+     */
+    default boolean invokeBoolean0(Object object) {
+        return Conversions.toBoolean(invoke0(object));
+    }
+
+    /**
+     * Invokes the member with 1 argument and returns {@code boolean} result without boxing.
+     *
+     * @param object the instance of declaring class, ignored for static methods
+     * @param a      the first argument
+     * @return the result of invocation
+     */
+    default boolean invokeBoolean1(Object object, Object a) {
+        return Conversions.toBoolean(invoke1(object, a));
+    }
+
+    /**
+     * Invokes the member with 2 arguments and returns {@code boolean} result without boxing.
+     *
+     * @param object the instance of declaring class, ignored for static methods
+     * @param a      the first argument
+     * @param b      the second argument
+     * @return the result of invocation
+     */
+    default boolean invokeBoolean2(Object object, Object a, Object b) {
+        return Conversions.toBoolean(invoke2(object, a, b));
+    }
+
+    /**
+     * Invokes the member with 3 arguments and returns {@code boolean} result without boxing.
+     *
+     * @param object the instance of declaring class, ignored for static methods
+     * @param a      the first argument
+     * @param b      the second argument
+     * @param c      the third argument
+     * @return the result of invocation
+     */
+    default boolean invokeBoolean3(Object object, Object a, Object b, Object c) {
+        return Conversions.toBoolean(invoke3(object, a, b, c));
+    }
+
+}
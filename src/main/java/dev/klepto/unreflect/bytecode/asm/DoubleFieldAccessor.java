@@ -0,0 +1,27 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+/**
+ * Direct access to a field of {@code double} type. Implemented by generated accessors of {@code double} fields,
+ * reads and writes field value without boxing.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public interface DoubleFieldAccessor {
+
+    /**
+     * Gets the value of the field.
+     *
+     * @param object the instance of declaring class, ignored for static fields
+     * @return the field value
+     */
+    double getDouble(Object object);
+
+    /**
+     * Sets the value of the field.
+     *
+     * @param object the instance of declaring class, ignored for static fields
+     * @param value  the field value
+     */
+    void setDouble(Object object, double value);
+
+}
@@ -0,0 +1,127 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+import dev.klepto.unreflect.FieldTable;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Accessor of a single field in {@link FieldTable}. Implements every typed accessor interface, typed methods of the
+ * table convert field value if field is of a different type.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FieldSlotAccessor implements Function<Object, Object>, BiConsumer<Object, Object>,
+        BooleanFieldAccessor, ByteFieldAccessor, CharFieldAccessor, ShortFieldAccessor,
+        IntFieldAccessor, LongFieldAccessor, FloatFieldAccessor, DoubleFieldAccessor {
+
+    private final FieldTable table;
+    private final int slot;
+
+    /**
+     * Creates accessor of a single field in a given field table.
+     *
+     * @param table the field table
+     * @param slot  the field slot
+     * @return the field accessor
+     */
+    public static MutableAccessor create(FieldTable table, int slot) {
+        val accessor = new FieldSlotAccessor(table, slot);
+        return new MutableAccessor(accessor, accessor);
+    }
+
+    @Override
+    public Object apply(Object object) {
+        return table.get(object, slot);
+    }
+
+    @Override
+    public void accept(Object object, Object value) {
+        table.set(object, slot, value);
+    }
+
+    @Override
+    public boolean getBoolean(Object object) {
+        return table.getBoolean(object, slot);
+    }
+
+    @Override
+    public void setBoolean(Object object, boolean value) {
+        table.setBoolean(object, slot, value);
+    }
+
+    @Override
+    public byte getByte(Object object) {
+        return table.getByte(object, slot);
+    }
+
+    @Override
+    public void setByte(Object object, byte value) {
+        table.setByte(object, slot, value);
+    }
+
+    @Override
+    public char getChar(Object object) {
+        return table.getChar(object, slot);
+    }
+
+    @Override
+    public void setChar(Object object, char value) {
+        table.setChar(object, slot, value);
+    }
+
+    @Override
+    public short getShort(Object object) {
+        return table.getShort(object, slot);
+    }
+
+    @Override
+    public void setShort(Object object, short value) {
+        table.setShort(object, slot, value);
+    }
+
+    @Override
+    public int getInt(Object object) {
+        return table.getInt(object, slot);
+    }
+
+    @Override
+    public void setInt(Object object, int value) {
+        table.setInt(object, slot, value);
+    }
+
+    @Override
+    public long getLong(Object object) {
+        return table.getLong(object, slot);
+    }
+
+    @Override
+    public void setLong(Object object, long value) {
+        table.setLong(object, slot, value);
+    }
+
+    @Override
+    public float getFloat(Object object) {
+        return table.getFloat(object, slot);
+    }
+
+    @Override
+    public void setFloat(Object object, float value) {
+        table.setFloat(object, slot, value);
+    }
+
+    @Override
+    public double getDouble(Object object) {
+        return table.getDouble(object, slot);
+    }
+
+    @Override
+    public void setDouble(Object object, double value) {
+        table.setDouble(object, slot, value);
+    }
+
+}
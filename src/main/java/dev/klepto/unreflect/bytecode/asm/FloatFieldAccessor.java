@@ -0,0 +1,27 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+/**
+ * Direct access to a field of {@code float} type. Implemented by generated accessors of {@code float} fields, reads and
+ * writes field value without boxing.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public interface FloatFieldAccessor {
+
+    /**
+     * Gets the value of the field.
+     *
+     * @param object the instance of declaring class, ignored for static fields
+     * @return the field value
+     */
+    float getFloat(Object object);
+
+    /**
+     * Sets the value of the field.
+     *
+     * @param object the instance of declaring class, ignored for static fields
+     * @param value  the field value
+     */
+    void setFloat(Object object, float value);
+
+}
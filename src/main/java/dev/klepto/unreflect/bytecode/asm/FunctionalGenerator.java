@@ -0,0 +1,327 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+import com.google.common.primitives.Primitives;
+import dev.klepto.unreflect.util.Caches;
+import dev.klepto.unreflect.util.JdkInternals;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.val;
+import one.util.streamex.StreamEx;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static org.objectweb.asm.ClassWriter.COMPUTE_MAXS;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Bytecode generation of functional interface implementations. Generated implementation directly invokes the member
+ * from the single abstract method of the interface, converting between interface and member types (casting, boxing,
+ * unboxing and widening primitive conversions) only where types differ, so calls through interfaces with exact types
+ * don't box values or pack arguments into arrays. Signatures that would need a narrowing conversion are rejected with
+ * {@link IllegalArgumentException} when implementation is generated.
+ * <p>
+ * Instance members are invoked either on the first parameter of the interface method (when interface method has one
+ * more parameter than the member) or on a bound object stored in the generated implementation.
+ * <p>
+ * Implementations are defined and cached in context of the declaring class of the member if its class loader can see
+ * the interface, otherwise in context of the interface if its class loader can see the declaring class, so that cached
+ * implementations never keep classes of unrelated class loaders alive. Implementations of members and interfaces of
+ * class loaders that cannot see each other are defined in a class loader of their own and are not cached.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public class FunctionalGenerator {
+
+    @Getter(lazy = true)
+    private static final FunctionalGenerator instance = new FunctionalGenerator();
+
+    private static final String OBJECT_FIELD = "object";
+
+    private final ClassValue<Map<List<Object>, Class<?>>> implementations =
+            new ClassValue<Map<List<Object>, Class<?>>>() {
+                @Override
+                protected Map<List<Object>, Class<?>> computeValue(Class<?> type) {
+                    Caches.register(type);
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private FunctionalGenerator() {
+        Caches.onEvict(implementations::remove);
+    }
+
+    /**
+     * Generates an implementation of a functional interface that invokes a given method.
+     *
+     * @param method              the method
+     * @param functionalInterface the functional interface
+     * @param object              the bound object, used only if interface method doesn't accept an instance
+     * @param <I>                 the generic functional interface type
+     * @return the functional interface implementation
+     */
+    public <I> I generateMethod(Method method, Class<I> functionalInterface, Object object) {
+        return generate(method, functionalInterface, object);
+    }
+
+    /**
+     * Generates an implementation of a functional interface that invokes a given constructor.
+     *
+     * @param constructor         the constructor
+     * @param functionalInterface the functional interface
+     * @param <I>                 the generic functional interface type
+     * @return the functional interface implementation
+     */
+    public <I> I generateConstructor(Constructor<?> constructor, Class<I> functionalInterface) {
+        return generate(constructor, functionalInterface, null);
+    }
+
+    /**
+     * Generates an implementation of a functional interface that returns the value of a given field.
+     *
+     * @param field               the field
+     * @param functionalInterface the functional interface
+     * @param object              the bound object, used only if interface method doesn't accept an instance
+     * @param <I>                 the generic functional interface type
+     * @return the functional interface implementation
+     */
+    public <I> I generateGetter(Field field, Class<I> functionalInterface, Object object) {
+        return generate(field, functionalInterface, object);
+    }
+
+    @SneakyThrows
+    private <I> I generate(Member member, Class<I> functionalInterface, Object object) {
+        val interfaceMethod = getFunctionalMethod(functionalInterface);
+        val memberParameters = getParameterTypes(member);
+        val isStatic = member instanceof Constructor || Modifier.isStatic(member.getModifiers());
+        val isReceiver = !isStatic && interfaceMethod.getParameterCount() == memberParameters.length + 1;
+        val isBound = !isStatic && !isReceiver;
+        checkArgument(
+                isReceiver || interfaceMethod.getParameterCount() == memberParameters.length,
+                "Parameter count mismatch between %s and %s.", member, interfaceMethod
+        );
+        checkArgument(!isBound || object != null, "Instance member %s must be bound to an object.", member);
+
+        val implementationClass = getImplementation(member, functionalInterface, interfaceMethod, isBound);
+
+        val implementation = JdkInternals.allocateInstance(implementationClass);
+        if (isBound) {
+            val objectField = implementationClass.getDeclaredField(OBJECT_FIELD);
+            JdkInternals.setAccessible(objectField, true);
+            objectField.set(implementation, object);
+        }
+        return functionalInterface.cast(implementation);
+    }
+
+    private Class<?> getImplementation(Member member,
+                                       Class<?> functionalInterface,
+                                       Method interfaceMethod,
+                                       boolean isBound) {
+        Class<?> context;
+        if (isVisible(member.getDeclaringClass().getClassLoader(), functionalInterface)) {
+            context = member.getDeclaringClass();
+        } else if (isVisible(functionalInterface.getClassLoader(), member.getDeclaringClass())) {
+            context = functionalInterface;
+        } else {
+            return generateImplementation(null, member, functionalInterface, interfaceMethod, isBound);
+        }
+
+        // Interface is part of the key, interfaces of the same name from other class loaders get own implementations.
+        val key = Arrays.<Object>asList(member, functionalInterface, isBound);
+        return implementations.get(context).computeIfAbsent(
+                key,
+                k -> generateImplementation(context, member, functionalInterface, interfaceMethod, isBound)
+        );
+    }
+
+    private Class<?> generateImplementation(Class<?> context,
+                                            Member member,
+                                            Class<?> functionalInterface,
+                                            Method interfaceMethod,
+                                            boolean isBound) {
+        val accessorGenerator = AccessorGenerator.getInstance();
+        val className = accessorGenerator.getNextClassName();
+        val classOwner = className.replace('.', '/');
+        val memberOwner = Type.getInternalName(member.getDeclaringClass());
+        val memberParameters = getParameterTypes(member);
+        val interfaceParameters = interfaceMethod.getParameterTypes();
+        val isStatic = member instanceof Constructor || Modifier.isStatic(member.getModifiers());
+
+        val cw = new ClassWriter(COMPUTE_MAXS);
+        accessorGenerator.generateHeader(cw, className, functionalInterface.getName());
+        if (isBound) {
+            cw.visitField(ACC_PRIVATE, OBJECT_FIELD, "Ljava/lang/Object;", null, null).visitEnd();
+        }
+
+        val mv = cw.visitMethod(
+                ACC_PUBLIC,
+                interfaceMethod.getName(),
+                Type.getMethodDescriptor(interfaceMethod),
+                null,
+                null
+        );
+
+        // Parameter slots, long and double parameters take two slots.
+        val slots = new int[interfaceParameters.length];
+        for (int i = 0, slot = 1; i < interfaceParameters.length; i++) {
+            slots[i] = slot;
+            slot += Type.getType(interfaceParameters[i]).getSize();
+        }
+
+        // Instance.
+        int parameterOffset = 0;
+        if (member instanceof Constructor) {
+            mv.visitTypeInsn(NEW, memberOwner);
+            mv.visitInsn(DUP);
+        } else if (isBound) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, classOwner, OBJECT_FIELD, "Ljava/lang/Object;");
+            mv.visitTypeInsn(CHECKCAST, memberOwner);
+        } else if (!isStatic) {
+            loadParameter(mv, slots[0], interfaceParameters[0], member.getDeclaringClass());
+            parameterOffset = 1;
+        }
+
+        // Parameters.
+        for (int i = 0; i < memberParameters.length; i++) {
+            val index = i + parameterOffset;
+            loadParameter(mv, slots[index], interfaceParameters[index], memberParameters[i]);
+        }
+
+        // Member access.
+        Class<?> resultType;
+        if (member instanceof Constructor) {
+            val descriptor = Type.getConstructorDescriptor((Constructor<?>) member);
+            mv.visitMethodInsn(INVOKESPECIAL, memberOwner, "<init>", descriptor, false);
+            resultType = member.getDeclaringClass();
+        } else if (member instanceof Method) {
+            val method = (Method) member;
+            val isInterface = method.getDeclaringClass().isInterface();
+            val opcode = isStatic ? INVOKESTATIC : isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL;
+            val descriptor = Type.getMethodDescriptor(method);
+            mv.visitMethodInsn(opcode, memberOwner, method.getName(), descriptor, isInterface);
+            resultType = method.getReturnType();
+        } else {
+            val field = (Field) member;
+            val opcode = isStatic ? GETSTATIC : GETFIELD;
+            mv.visitFieldInsn(opcode, memberOwner, field.getName(), Type.getDescriptor(field.getType()));
+            resultType = field.getType();
+        }
+
+        // Result.
+        val returnType = interfaceMethod.getReturnType();
+        if (returnType == void.class) {
+            if (resultType != void.class) {
+                mv.visitInsn(Type.getType(resultType).getSize() == 2 ? POP2 : POP);
+            }
+        } else if (resultType == void.class) {
+            checkArgument(!returnType.isPrimitive(), "Void member %s cannot return %s.", member, returnType);
+            mv.visitInsn(ACONST_NULL);
+        } else {
+            generateConversion(mv, resultType, returnType);
+        }
+        mv.visitInsn(Type.getType(returnType).getOpcode(IRETURN));
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+
+        // Finish class generation.
+        cw.visitEnd();
+
+        if (context == null) {
+            return accessorGenerator.defineBridgeAccessor(
+                    member.getDeclaringClass(),
+                    functionalInterface,
+                    className,
+                    cw.toByteArray()
+            );
+        }
+        return accessorGenerator.defineAccessor(context, className, cw.toByteArray());
+    }
+
+    private void loadParameter(MethodVisitor mv, int slot, Class<?> type, Class<?> targetType) {
+        mv.visitVarInsn(Type.getType(type).getOpcode(ILOAD), slot);
+        generateConversion(mv, type, targetType);
+    }
+
+    private void generateConversion(MethodVisitor mv, Class<?> type, Class<?> targetType) {
+        if (type == targetType) {
+            return;
+        }
+
+        val accessorGenerator = AccessorGenerator.getInstance();
+        if (type.isPrimitive() && targetType.isPrimitive()) {
+            generatePrimitiveConversion(mv, type, targetType);
+        } else if (type.isPrimitive()) {
+            checkArgument(
+                    targetType.isAssignableFrom(Primitives.wrap(type)),
+                    "Cannot convert %s to %s.", type, targetType
+            );
+            accessorGenerator.generateWrapPrimitive(mv, type);
+        } else if (targetType.isPrimitive()) {
+            accessorGenerator.generateUnwrapPrimitive(mv, targetType);
+        } else if (!targetType.isAssignableFrom(type)) {
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(targetType));
+        }
+    }
+
+    private void generatePrimitiveConversion(MethodVisitor mv, Class<?> type, Class<?> targetType) {
+        // Only widening conversions are allowed, same as by reflection and by other accessors.
+        checkArgument(Conversions.isWidening(type, targetType), "Cannot convert %s to %s.", type, targetType);
+
+        val sort = Type.getType(type).getSort();
+        val targetSort = Type.getType(targetType).getSort();
+        if (sort == Type.LONG) {
+            mv.visitInsn(targetSort == Type.FLOAT ? L2F : L2D);
+        } else if (sort == Type.FLOAT) {
+            mv.visitInsn(F2D);
+        } else if (targetSort == Type.LONG) {
+            mv.visitInsn(I2L);
+        } else if (targetSort == Type.FLOAT) {
+            mv.visitInsn(I2F);
+        } else if (targetSort == Type.DOUBLE) {
+            mv.visitInsn(I2D);
+        }
+    }
+
+    private static boolean isVisible(ClassLoader classLoader, Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, classLoader) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static Method getFunctionalMethod(Class<?> functionalInterface) {
+        checkArgument(functionalInterface.isInterface(), "%s is not an interface.", functionalInterface);
+        val methods = StreamEx.of(functionalInterface.getMethods())
+                .filter(method -> Modifier.isAbstract(method.getModifiers()))
+                .filter(method -> !isObjectMethod(method))
+                .toList();
+        checkArgument(methods.size() == 1, "%s is not a functional interface.", functionalInterface);
+        return methods.get(0);
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Class<?>[] getParameterTypes(Member member) {
+        if (member instanceof Executable) {
+            return ((Executable) member).getParameterTypes();
+        }
+        return new Class<?>[0];
+    }
+
+}
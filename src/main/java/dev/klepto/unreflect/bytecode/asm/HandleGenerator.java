@@ -0,0 +1,316 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+import dev.klepto.unreflect.util.JdkInternals;
+import dev.klepto.unreflect.util.MemberCache;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static dev.klepto.unreflect.bytecode.asm.AccessorGenerator.*;
+import static java.lang.invoke.MethodType.methodType;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generation of {@link java.lang.invoke.MethodHandle} based field, constructor and method accessors. Handles are
+ * acquired through a lookup with private access to the declaring class of the member, adapted to the exact type of
+ * every accessor method and stored in {@code static final} fields of a tiny generated class. JIT compiler treats
+ * {@code static final} handles as constants and inlines the member access as if it was a direct call, while generated
+ * class itself doesn't need any access to the member.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public class HandleGenerator {
+
+    @Getter(lazy = true)
+    private static final HandleGenerator instance = new HandleGenerator();
+
+    private static final String HANDLE_TYPE = Type.getInternalName(MethodHandle.class);
+    private static final String HANDLE_DESCRIPTOR = Type.getDescriptor(MethodHandle.class);
+    private static final Map<String, MethodHandle[]> pendingHandles = new ConcurrentHashMap<>();
+    private static final AtomicInteger handlesIndex = new AtomicInteger();
+    private static final Method unreflectVarHandleMethod = findUnreflectVarHandleMethod();
+
+    private final MemberCache<Object> accessors = new MemberCache<>();
+
+    private HandleGenerator() {
+    }
+
+    private static Method findUnreflectVarHandleMethod() {
+        try {
+            return MethodHandles.Lookup.class.getMethod("unreflectVarHandle", Field.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Hands over method handles to the static initializer of a generated class. Called only by generated classes.
+     *
+     * @param key the handles key of generated class
+     * @return the method handles of generated class
+     */
+    public static MethodHandle[] takeHandles(String key) {
+        return pendingHandles.remove(key);
+    }
+
+    /**
+     * Returns a method handle that invokes a given method, with private access to the declaring class.
+     *
+     * @param method the method
+     * @return the method handle
+     */
+    @SneakyThrows
+    public MethodHandle toMethodHandle(Method method) {
+        return JdkInternals.privateLookupIn(method.getDeclaringClass()).unreflect(method);
+    }
+
+    /**
+     * Returns a method handle that invokes a given constructor, with private access to the declaring class.
+     *
+     * @param constructor the constructor
+     * @return the method handle
+     */
+    @SneakyThrows
+    public MethodHandle toMethodHandle(Constructor<?> constructor) {
+        return JdkInternals.privateLookupIn(constructor.getDeclaringClass()).unreflectConstructor(constructor);
+    }
+
+    /**
+     * Returns a method handle that reads a given field, with private access to the declaring class.
+     *
+     * @param field the field
+     * @return the getter method handle
+     */
+    @SneakyThrows
+    public MethodHandle toGetterHandle(Field field) {
+        return JdkInternals.privateLookupIn(field.getDeclaringClass()).unreflectGetter(field);
+    }
+
+    /**
+     * Returns a method handle that writes a given field, with private access to the declaring class.
+     *
+     * @param field the field
+     * @return the setter method handle
+     */
+    @SneakyThrows
+    public MethodHandle toSetterHandle(Field field) {
+        return JdkInternals.privateLookupIn(field.getDeclaringClass()).unreflectSetter(field);
+    }
+
+    /**
+     * Returns a {@code java.lang.invoke.VarHandle} of a given field, with private access to the declaring class.
+     * Returned as an object, because var handles are only available since JDK 9.
+     *
+     * @param field the field
+     * @return the var handle
+     * @throws UnsupportedOperationException if current JDK version doesn't support var handles
+     */
+    @SneakyThrows
+    public Object toVarHandle(Field field) {
+        if (unreflectVarHandleMethod == null) {
+            throw new UnsupportedOperationException("Var handles are not supported in current JDK version.");
+        }
+        return unreflectVarHandleMethod.invoke(JdkInternals.privateLookupIn(field.getDeclaringClass()), field);
+    }
+
+    /**
+     * Returns the canonical method handle accessor of a given field, generating it if field has no accessor yet.
+     *
+     * @param field the field
+     * @return the field accessor
+     */
+    public MutableAccessor generateMutableAccessor(Field field) {
+        return (MutableAccessor) accessors.get(field, member -> _generateMutableAccessor(field));
+    }
+
+    /**
+     * Returns the canonical method handle accessor of a given method, generating it if method has no accessor yet.
+     *
+     * @param method the method
+     * @return the method accessor
+     */
+    public InvokableAccessor generateInvokableAccessor(Method method) {
+        return (InvokableAccessor) accessors.get(
+                method,
+                member -> _generateInvokableAccessor(method, toMethodHandle(method))
+        );
+    }
+
+    /**
+     * Returns the canonical method handle accessor of a given constructor, generating it if constructor has no
+     * accessor yet.
+     *
+     * @param constructor the constructor
+     * @return the constructor accessor
+     */
+    public InvokableAccessor generateInvokableAccessor(Constructor<?> constructor) {
+        return (InvokableAccessor) accessors.get(
+                constructor,
+                member -> _generateInvokableAccessor(constructor, toMethodHandle(constructor))
+        );
+    }
+
+    private MutableAccessor _generateMutableAccessor(Field field) {
+        val fieldType = field.getType();
+        val isStatic = Modifier.isStatic(field.getModifiers());
+        val getter = withTarget(toGetterHandle(field), isStatic);
+        val setter = withTarget(toSetterHandle(field), isStatic);
+
+        val handles = new LinkedHashMap<String, MethodHandle>();
+        handles.put("apply", getter.asType(methodType(Object.class, Object.class)));
+        handles.put("accept", withConversions(setter).asType(methodType(void.class, Object.class, Object.class)));
+        if (fieldType.isPrimitive()) {
+            val typeName = getTypeName(fieldType);
+            handles.put("get" + typeName, getter.asType(methodType(fieldType, Object.class)));
+            handles.put("set" + typeName, setter.asType(methodType(void.class, Object.class, fieldType)));
+        }
+
+        val accessor = fieldType.isPrimitive()
+                ? generateAccessor(handles, Function.class, BiConsumer.class, getTypedAccessor(fieldType))
+                : generateAccessor(handles, Function.class, BiConsumer.class);
+        return new MutableAccessor((Function) accessor, (BiConsumer) accessor);
+    }
+
+    private InvokableAccessor _generateInvokableAccessor(Executable executable, MethodHandle handle) {
+        val isStatic = executable instanceof Constructor || Modifier.isStatic(executable.getModifiers());
+        val parameterCount = executable.getParameterCount();
+        val invoker = withConversions(withTarget(handle, isStatic));
+
+        val handles = new LinkedHashMap<String, MethodHandle>();
+        val spreader = invoker.asSpreader(Object[].class, parameterCount);
+        handles.put("apply", spreader.asType(getInvokerType(Object.class, 1)));
+
+        // Fixed-arity invocation, parameters are passed directly without an array.
+        if (parameterCount <= MAX_FIXED_ARITY) {
+            handles.put("invoke" + parameterCount, invoker.asType(getInvokerType(Object.class, parameterCount)));
+        }
+
+        // Fixed-arity invocation returning primitive result without boxing.
+        val returnType = executable instanceof Method ? ((Method) executable).getReturnType() : null;
+        val primitiveName = getPrimitiveInvocationName(returnType);
+        if (primitiveName != null && parameterCount <= MAX_PRIMITIVE_ARITY) {
+            handles.put(primitiveName + parameterCount, invoker.asType(getInvokerType(returnType, parameterCount)));
+        }
+
+        return new InvokableAccessor((DirectInvoker) generateAccessor(handles, DirectInvoker.class));
+    }
+
+    /**
+     * Generates an accessor class that implements every given method by invoking a method handle of the exact method
+     * type, stored in a {@code static final} field.
+     *
+     * @param handles    the method handles by implemented method name
+     * @param interfaces the interfaces implemented by accessor
+     * @return the accessor instance
+     */
+    private Object generateAccessor(Map<String, MethodHandle> handles, Class<?>... interfaces) {
+        val accessorGenerator = AccessorGenerator.getInstance();
+        val host = HandleGenerator.class;
+        val className = accessorGenerator.getHostedAccessorName(host);
+        val classOwner = className.replace('.', '/');
+        // Hidden class names are not known until definition, handles are passed by a unique key instead.
+        val handlesKey = String.valueOf(handlesIndex.getAndIncrement());
+        val interfaceNames = Arrays.stream(interfaces).map(Class::getName).toArray(String[]::new);
+        val cw = accessorGenerator.createHostedAccessorWriter(host);
+        accessorGenerator.generateHostedAccessorHeader(cw, host, className, interfaceNames);
+
+        val names = handles.keySet().toArray(new String[0]);
+        for (int i = 0; i < names.length; i++) {
+            cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, "handle" + i, HANDLE_DESCRIPTOR, null, null).visitEnd();
+        }
+
+        // Static initializer takes over the handles, so that they are constant from the start.
+        {
+            val mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+            mv.visitLdcInsn(handlesKey);
+            mv.visitMethodInsn(
+                    INVOKESTATIC,
+                    Type.getInternalName(HandleGenerator.class),
+                    "takeHandles",
+                    "(Ljava/lang/String;)[" + HANDLE_DESCRIPTOR,
+                    false
+            );
+            for (int i = 0; i < names.length; i++) {
+                mv.visitInsn(DUP);
+                mv.visitLdcInsn(i);
+                mv.visitInsn(AALOAD);
+                mv.visitFieldInsn(PUTSTATIC, classOwner, "handle" + i, HANDLE_DESCRIPTOR);
+            }
+            mv.visitInsn(POP);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Accessor methods.
+        for (int i = 0; i < names.length; i++) {
+            val type = handles.get(names[i]).type();
+            val descriptor = type.toMethodDescriptorString();
+            val mv = cw.visitMethod(ACC_PUBLIC, names[i], descriptor, null, null);
+            mv.visitFieldInsn(GETSTATIC, classOwner, "handle" + i, HANDLE_DESCRIPTOR);
+            int slot = 1;
+            for (val parameterType : type.parameterArray()) {
+                val parameter = Type.getType(parameterType);
+                mv.visitVarInsn(parameter.getOpcode(ILOAD), slot);
+                slot += parameter.getSize();
+            }
+            mv.visitMethodInsn(INVOKEVIRTUAL, HANDLE_TYPE, "invokeExact", descriptor, false);
+            mv.visitInsn(Type.getType(type.returnType()).getOpcode(IRETURN));
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Finish class generation.
+        cw.visitEnd();
+
+        pendingHandles.put(handlesKey, handles.values().toArray(new MethodHandle[0]));
+        try {
+            return accessorGenerator.loadHostedAccessor(host, className, cw.toByteArray());
+        } finally {
+            pendingHandles.remove(handlesKey);
+        }
+    }
+
+    private static MethodHandle withTarget(MethodHandle handle, boolean isStatic) {
+        // Static members ignore the target object that is passed to every accessor method.
+        return isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+    }
+
+    @SneakyThrows
+    private static MethodHandle withConversions(MethodHandle handle) {
+        // Primitive parameters are converted by reflection rules, the same way as by generated accessors.
+        val parameterTypes = handle.type().parameterArray();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            val parameterType = parameterTypes[i];
+            if (parameterType.isPrimitive()) {
+                val conversion = MethodHandles.lookup().findStatic(
+                        Conversions.class,
+                        "to" + getTypeName(parameterType),
+                        methodType(parameterType, Object.class)
+                );
+                handle = MethodHandles.filterArguments(handle, i, conversion);
+            }
+        }
+        return handle;
+    }
+
+    private static MethodType getInvokerType(Class<?> returnType, int parameterCount) {
+        val parameterTypes = new Class<?>[parameterCount + 1];
+        Arrays.fill(parameterTypes, Object.class);
+        return methodType(returnType, parameterTypes);
+    }
+
+}
@@ -2,20 +2,91 @@ package dev.klepto.unreflect.bytecode.asm;
 
 import lombok.Value;
 
-import java.util.function.BiFunction;
-
 /**
  * Contains implementation of direct access to method or constructor of a class.
  *
  * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ * @see DirectInvoker
  */
 @Value
 public class InvokableAccessor {
 
-    BiFunction function;
+    DirectInvoker invoker;
 
     public Object invoke(Object object, Object... args) {
-        return function.apply(object, (Object) args);
+        return invoker.apply(object, args);
+    }
+
+    public Object invoke0(Object object) {
+        return invoker.invoke0(object);
+    }
+
+    public Object invoke1(Object object, Object a) {
+        return invoker.invoke1(object, a);
+    }
+
+    public Object invoke2(Object object, Object a, Object b) {
+        return invoker.invoke2(object, a, b);
+    }
+
+    public Object invoke3(Object object, Object a, Object b, Object c) {
+        return invoker.invoke3(object, a, b, c);
+    }
+
+    public Object invoke4(Object object, Object a, Object b, Object c, Object d) {
+        return invoker.invoke4(object, a, b, c, d);
+    }
+
+    public Object invoke5(Object object, Object a, Object b, Object c, Object d, Object e) {
+        return invoker.invoke5(object, a, b, c, d, e);
+    }
+
+    public int invokeInt0(Object object) {
+        return invoker.invokeInt0(object);
+    }
+
+    public int invokeInt1(Object object, Object a) {
+        return invoker.invokeInt1(object, a);
+    }
+
+    public int invokeInt2(Object object, Object a, Object b) {
+        return invoker.invokeInt2(object, a, b);
+    }
+
+    public int invokeInt3(Object object, Object a, Object b, Object c) {
+        return invoker.invokeInt3(object, a, b, c);
+    }
+
+    public long invokeLong0(Object object) {
+        return invoker.invokeLong0(object);
+    }
+
+    public long invokeLong1(Object object, Object a) {
+        return invoker.invokeLong1(object, a);
+    }
+
+    public long invokeLong2(Object object, Object a, Object b) {
+        return invoker.invokeLong2(object, a, b);
+    }
+
+    public long invokeLong3(Object object, Object a, Object b, Object c) {
+        return invoker.invokeLong3(object, a, b, c);
+    }
+
+    public boolean invokeBoolean0(Object object) {
+        return invoker.invokeBoolean0(object);
+    }
+
+    public boolean invokeBoolean1(Object object, Object a) {
+        return invoker.invokeBoolean1(object, a);
+    }
+
+    public boolean invokeBoolean2(Object object, Object a, Object b) {
+        return invoker.invokeBoolean2(object, a, b);
+    }
+
+    public boolean invokeBoolean3(Object object, Object a, Object b, Object c) {
+        return invoker.invokeBoolean3(object, a, b, c);
     }
 
 }
@@ -0,0 +1,111 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Invoker of a single member in {@link InvokerTable}.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+@RequiredArgsConstructor
+final class InvokerSlotAccessor implements DirectInvoker {
+
+    private final InvokerTable table;
+    private final int slot;
+
+    @Override
+    public Object apply(Object object, Object args) {
+        return table.invoke(object, slot, (Object[]) args);
+    }
+
+    @Override
+    public Object invoke0(Object object) {
+        return table.invoke0(object, slot);
+    }
+
+    @Override
+    public Object invoke1(Object object, Object a) {
+        return table.invoke1(object, slot, a);
+    }
+
+    @Override
+    public Object invoke2(Object object, Object a, Object b) {
+        return table.invoke2(object, slot, a, b);
+    }
+
+    @Override
+    public Object invoke3(Object object, Object a, Object b, Object c) {
+        return table.invoke3(object, slot, a, b, c);
+    }
+
+    @Override
+    public Object invoke4(Object object, Object a, Object b, Object c, Object d) {
+        return table.invoke4(object, slot, a, b, c, d);
+    }
+
+    @Override
+    public Object invoke5(Object object, Object a, Object b, Object c, Object d, Object e) {
+        return table.invoke5(object, slot, a, b, c, d, e);
+    }
+
+    @Override
+    public int invokeInt0(Object object) {
+        return table.invokeInt0(object, slot);
+    }
+
+    @Override
+    public int invokeInt1(Object object, Object a) {
+        return table.invokeInt1(object, slot, a);
+    }
+
+    @Override
+    public int invokeInt2(Object object, Object a, Object b) {
+        return table.invokeInt2(object, slot, a, b);
+    }
+
+    @Override
+    public int invokeInt3(Object object, Object a, Object b, Object c) {
+        return table.invokeInt3(object, slot, a, b, c);
+    }
+
+    @Override
+    public long invokeLong0(Object object) {
+        return table.invokeLong0(object, slot);
+    }
+
+    @Override
+    public long invokeLong1(Object object, Object a) {
+        return table.invokeLong1(object, slot, a);
+    }
+
+    @Override
+    public long invokeLong2(Object object, Object a, Object b) {
+        return table.invokeLong2(object, slot, a, b);
+    }
+
+    @Override
+    public long invokeLong3(Object object, Object a, Object b, Object c) {
+        return table.invokeLong3(object, slot, a, b, c);
+    }
+
+    @Override
+    public boolean invokeBoolean0(Object object) {
+        return table.invokeBoolean0(object, slot);
+    }
+
+    @Override
+    public boolean invokeBoolean1(Object object, Object a) {
+        return table.invokeBoolean1(object, slot, a);
+    }
+
+    @Override
+    public boolean invokeBoolean2(Object object, Object a, Object b) {
+        return table.invokeBoolean2(object, slot, a, b);
+    }
+
+    @Override
+    public boolean invokeBoolean3(Object object, Object a, Object b, Object c) {
+        return table.invokeBoolean3(object, slot, a, b, c);
+    }
+
+}
@@ -0,0 +1,245 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+/**
+ * Direct invocation of many methods and constructors through a single generated class. Every member in the table has
+ * an integer slot, which is the index of the member in the batch the table was generated for. Invocation by slot is
+ * implemented with a {@code tableswitch}, so a batch of members is defined as one generated class instead of a
+ * generated class per member.
+ * <p>
+ * Fixed-arity and primitive methods invoke members of the matching parameter count and return type directly, other
+ * members are invoked the same way as by {@link DirectInvoker}. Arguments and results are converted by
+ * {@link Conversions}, the same way as by accessors of single members.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ * @see AccessorGenerator#generateAccessors(java.util.Collection)
+ */
+public interface InvokerTable {
+
+    /**
+     * Returns the number of members in this table.
+     *
+     * @return the number of member slots
+     */
+    int size();
+
+    /**
+     * Invokes a member.
+     *
+     * @param target the instance of declaring class, ignored for static methods and constructors
+     * @param slot   the member slot
+     * @param args   the invocation arguments
+     * @return the result of invocation, or null if result is void
+     * @throws IndexOutOfBoundsException if slot is out of bounds
+     */
+    Object invoke(Object target, int slot, Object[] args);
+
+    /**
+     * Invokes a member with 0 arguments.
+     *
+     * @param target the instance of declaring class, ignored for static methods and constructors
+     * @param slot   the member slot
+     * @return the result of invocation, or null if result is void
+     */
+    Object invoke0(Object target, int slot);
+
+    /**
+     * Invokes a member with 1 argument.
+     *
+     * @param target the instance of declaring class, ignored for static methods and constructors
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @return the result of invocation, or null if result is void
+     */
+    Object invoke1(Object target, int slot, Object a);
+
+    /**
+     * Invokes a member with 2 arguments.
+     *
+     * @param target the instance of declaring class, ignored for static methods and constructors
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @param b      the second argument
+     * @return the result of invocation, or null if result is void
+     */
+    Object invoke2(Object target, int slot, Object a, Object b);
+
+    /**
+     * Invokes a member with 3 arguments.
+     *
+     * @param target the instance of declaring class, ignored for static methods and constructors
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @param b      the second argument
+     * @param c      the third argument
+     * @return the result of invocation, or null if result is void
+     */
+    Object invoke3(Object target, int slot, Object a, Object b, Object c);
+
+    /**
+     * Invokes a member with 4 arguments.
+     *
+     * @param target the instance of declaring class, ignored for static methods and constructors
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @param b      the second argument
+     * @param c      the third argument
+     * @param d      the fourth argument
+     * @return the result of invocation, or null if result is void
+     */
+    Object invoke4(Object target, int slot, Object a, Object b, Object c, Object d);
+
+    /**
+     * Invokes a member with 5 arguments.
+     *
+     * @param target the instance of declaring class, ignored for static methods and constructors
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @param b      the second argument
+     * @param c      the third argument
+     * @param d      the fourth argument
+     * @param e      the fifth argument
+     * @return the result of invocation, or null if result is void
+     */
+    Object invoke5(Object target, int slot, Object a, Object b, Object c, Object d, Object e);
+
+    /**
+     * Invokes a member with 0 arguments and returns {@code int} result, without boxing if member returns {@code int}.
+     *
+     * @param target the instance of declaring class, ignored for static methods
+     * @param slot   the member slot
+     * @return the result of invocation
+     */
+    int invokeInt0(Object target, int slot);
+
+    /**
+     * Invokes a member with 1 argument and returns {@code int} result, without boxing if member returns {@code int}.
+     *
+     * @param target the instance of declaring class, ignored for static methods
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @return the result of invocation
+     */
+    int invokeInt1(Object target, int slot, Object a);
+
+    /**
+     * Invokes a member with 2 arguments and returns {@code int} result, without boxing if member returns {@code int}.
+     *
+     * @param target the instance of declaring class, ignored for static methods
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @param b      the second argument
+     * @return the result of invocation
+     */
+    int invokeInt2(Object target, int slot, Object a, Object b);
+
+    /**
+     * Invokes a member with 3 arguments and returns {@code int} result, without boxing if member returns {@code int}.
+     *
+     * @param target the instance of declaring class, ignored for static methods
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @param b      the second argument
+     * @param c      the third argument
+     * @return the result of invocation
+     */
+    int invokeInt3(Object target, int slot, Object a, Object b, Object c);
+
+    /**
+     * Invokes a member with 0 arguments and returns {@code long} result, without boxing if member returns {@code long}.
+     *
+     * @param target the instance of declaring class, ignored for static methods
+     * @param slot   the member slot
+     * @return the result of invocation
+     */
+    long invokeLong0(Object target, int slot);
+
+    /**
+     * Invokes a member with 1 argument and returns {@code long} result, without boxing if member returns {@code long}.
+     *
+     * @param target the instance of declaring class, ignored for static methods
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @return the result of invocation
+     */
+    long invokeLong1(Object target, int slot, Object a);
+
+    /**
+     * Invokes a member with 2 arguments and returns {@code long} result, without boxing if member returns {@code long}.
+     *
+     * @param target the instance of declaring class, ignored for static methods
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @param b      the second argument
+     * @return the result of invocation
+     */
+    long invokeLong2(Object target, int slot, Object a, Object b);
+
+    /**
+     * Invokes a member with 3 arguments and returns {@code long} result, without boxing if member returns {@code long}.
+     *
+     * @param target the instance of declaring class, ignored for static methods
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @param b      the second argument
+     * @param c      the third argument
+     * @return the result of invocation
+     */
+    long invokeLong3(Object target, int slot, Object a, Object b, Object c);
+
+    /**
+     * Invokes a member with 0 arguments and returns {@code boolean} result, without boxing if member returns
+     * {@code boolean}.
+     *
+     * @param target the instance of declaring class, ignored for static methods
+     * @param slot   the member slot
+     * @return the result of invocation
+     */
+    boolean invokeBoolean0(Object target, int slot);
+
+    /**
+     * Invokes a member with 1 argument and returns {@code boolean} result, without boxing if member returns
+     * {@code boolean}.
+     *
+     * @param target the instance of declaring class, ignored for static methods
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @return the result of invocation
+     */
+    boolean invokeBoolean1(Object target, int slot, Object a);
+
+    /**
+     * Invokes a member with 2 arguments and returns {@code boolean} result, without boxing if member returns
+     * {@code boolean}.
+     *
+     * @param target the instance of declaring class, ignored for static methods
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @param b      the second argument
+     * @return the result of invocation
+     */
+    boolean invokeBoolean2(Object target, int slot, Object a, Object b);
+
+    /**
+     * Invokes a member with 3 arguments and returns {@code boolean} result, without boxing if member returns
+     * {@code boolean}.
+     *
+     * @param target the instance of declaring class, ignored for static methods
+     * @param slot   the member slot
+     * @param a      the first argument
+     * @param b      the second argument
+     * @param c      the third argument
+     * @return the result of invocation
+     */
+    boolean invokeBoolean3(Object target, int slot, Object a, Object b, Object c);
+
+    /**
+     * Returns accessor of a single member in this table.
+     *
+     * @param slot the member slot
+     * @return the member accessor
+     */
+    default InvokableAccessor accessor(int slot) {
+        return new InvokableAccessor(new InvokerSlotAccessor(this, slot));
+    }
+
+}
@@ -0,0 +1,402 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+import dev.klepto.unreflect.util.JdkInternals;
+import dev.klepto.unreflect.util.MemberCache;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.val;
+import one.util.streamex.StreamEx;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.*;
+
+import static dev.klepto.unreflect.bytecode.asm.AccessorGenerator.*;
+import static java.lang.invoke.MethodType.methodType;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generation of method and constructor accessors through {@link LambdaMetafactory}. Every member is implemented by a
+ * lambda of a generic functional interface of the exact arity ({@link Function}, {@link BiFunction}, {@link Function3}
+ * etc.), lambdas are spun by the JDK itself in context of the declaring class with private access, which is cheaper
+ * than generating a complete accessor class and is optimized by JIT compiler just as well. Methods returning
+ * {@code int}, {@code long} or {@code boolean} with up to 2 arguments (including the instance) are additionally
+ * implemented by a primitive-specialized interface (e.g. {@link ToIntFunction}).
+ * <p>
+ * Lambdas of every member are held in {@code static final} fields of a tiny generated invoker, which calls the lambda
+ * of the exact arity directly, so JIT compiler inlines the member call. Primitive arguments are converted by
+ * {@link Conversions} before they reach the lambda, the same way as by other accessors.
+ * <p>
+ * Lambda metafactory doesn't support field handles and member functions must be visible to declaring class, members
+ * that cannot be implemented by lambdas fall back to {@link AccessorGenerator}.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public class LambdaGenerator {
+
+    @Getter(lazy = true)
+    private static final LambdaGenerator instance = new LambdaGenerator();
+
+    private static final Class<?>[] FUNCTIONS = {
+            Supplier.class, Function.class, BiFunction.class,
+            Function3.class, Function4.class, Function5.class, Function6.class
+    };
+    private static final Class<?>[] CONSUMERS = {
+            Runnable.class, Consumer.class, BiConsumer.class,
+            Consumer3.class, Consumer4.class, Consumer5.class, Consumer6.class
+    };
+    private static final Class<?>[] INT_FUNCTIONS = {IntSupplier.class, ToIntFunction.class, ToIntBiFunction.class};
+    private static final Class<?>[] LONG_FUNCTIONS = {LongSupplier.class, ToLongFunction.class, ToLongBiFunction.class};
+    private static final Class<?>[] BOOLEAN_FUNCTIONS = {BooleanSupplier.class, Predicate.class, BiPredicate.class};
+    private static final String FUNCTION_FIELD = "function";
+    private static final String PRIMITIVE_FUNCTION_FIELD = "primitiveFunction";
+    private static final Map<String, Object[]> pendingFunctions = new ConcurrentHashMap<>();
+    private static final AtomicInteger functionsIndex = new AtomicInteger();
+
+    private final MemberCache<InvokableAccessor> accessors = new MemberCache<>();
+
+    private LambdaGenerator() {
+    }
+
+    /**
+     * Hands over lambdas to the static initializer of a generated invoker. Called only by generated classes.
+     *
+     * @param key the functions key of generated class
+     * @return the lambdas of generated class
+     */
+    public static Object[] takeFunctions(String key) {
+        return pendingFunctions.remove(key);
+    }
+
+    /**
+     * Returns the canonical lambda accessor of a given method, generating it if method has no accessor yet.
+     *
+     * @param method the method
+     * @return the method accessor
+     */
+    public InvokableAccessor generateInvokableAccessor(Method method) {
+        if (!isSupported(method)) {
+            return AccessorGenerator.getInstance().generateInvokableAccessor(method);
+        }
+        return accessors.get(method, this::_generateInvokableAccessor);
+    }
+
+    /**
+     * Returns the canonical lambda accessor of a given constructor, generating it if constructor has no accessor yet.
+     *
+     * @param constructor the constructor
+     * @return the constructor accessor
+     */
+    public InvokableAccessor generateInvokableAccessor(Constructor<?> constructor) {
+        if (!isSupported(constructor)) {
+            return AccessorGenerator.getInstance().generateInvokableAccessor(constructor);
+        }
+        return accessors.get(constructor, this::_generateInvokableAccessor);
+    }
+
+    /**
+     * Checks if a given method or constructor can be implemented by lambdas. Members with more than 5 parameters, and
+     * members with more than 2 arguments of classes that cannot see unreflect classes are not supported.
+     *
+     * @param executable the method or constructor
+     * @return true if lambda accessor can be generated for a given member
+     */
+    public boolean isSupported(Executable executable) {
+        val arity = getArity(executable);
+        if (executable.getParameterCount() > MAX_FIXED_ARITY) {
+            return false;
+        }
+        return arity <= 2 || AccessorGenerator.isLibraryVisible(executable.getDeclaringClass().getClassLoader());
+    }
+
+    private InvokableAccessor _generateInvokableAccessor(Member member) {
+        val executable = (Executable) member;
+        val handle = executable instanceof Method
+                ? HandleGenerator.getInstance().toMethodHandle((Method) executable)
+                : HandleGenerator.getInstance().toMethodHandle((Constructor<?>) executable);
+        val arity = getArity(executable);
+        val returnType = handle.type().returnType();
+
+        val functionType = returnType == void.class ? CONSUMERS[arity] : FUNCTIONS[arity];
+        val function = metafactory(member, handle, functionType);
+        Class<?> primitiveFunctionType = null;
+        Object primitiveFunction = null;
+        val primitiveFunctions = getPrimitiveFunctions(returnType);
+        if (primitiveFunctions != null && arity < primitiveFunctions.length) {
+            primitiveFunctionType = primitiveFunctions[arity];
+            primitiveFunction = metafactory(member, handle, primitiveFunctionType);
+        }
+
+        val invoker = generateInvoker(executable, functionType, function, primitiveFunctionType, primitiveFunction);
+        return new InvokableAccessor(invoker);
+    }
+
+    @SneakyThrows
+    private Object metafactory(Member member, MethodHandle handle, Class<?> functionalInterface) {
+        val interfaceMethod = getFunctionalMethod(functionalInterface);
+        val interfaceType = methodType(interfaceMethod.getReturnType(), interfaceMethod.getParameterTypes());
+
+        // Lambda casts arguments to exact member types, primitive arguments are unboxed from their exact wrappers.
+        val memberType = handle.type().wrap();
+        val instantiatedType = interfaceType.returnType() == Object.class
+                ? memberType
+                : memberType.changeReturnType(interfaceType.returnType());
+        val lookup = JdkInternals.privateLookupIn(member.getDeclaringClass());
+        val callSite = LambdaMetafactory.metafactory(
+                lookup,
+                interfaceMethod.getName(),
+                methodType(functionalInterface),
+                interfaceType,
+                handle,
+                instantiatedType
+        );
+        return callSite.getTarget().invoke();
+    }
+
+    /**
+     * Generates an invoker of a single member, which holds the lambdas of the member in {@code static final} fields
+     * and implements the invocation methods that match parameter count of the member by calling the lambdas.
+     *
+     * @param executable            the method or constructor
+     * @param functionType          the functional interface of generic lambda
+     * @param function              the generic lambda
+     * @param primitiveFunctionType the functional interface of primitive-specialized lambda, or null
+     * @param primitiveFunction     the primitive-specialized lambda, or null
+     * @return the member invoker
+     */
+    private DirectInvoker generateInvoker(Executable executable,
+                                          Class<?> functionType,
+                                          Object function,
+                                          Class<?> primitiveFunctionType,
+                                          Object primitiveFunction) {
+        val accessorGenerator = AccessorGenerator.getInstance();
+        val host = LambdaGenerator.class;
+        val className = accessorGenerator.getHostedAccessorName(host);
+        val classOwner = className.replace('.', '/');
+        // Hidden class names are not known until definition, lambdas are passed by a unique key instead.
+        val functionsKey = String.valueOf(functionsIndex.getAndIncrement());
+        val parameterCount = executable.getParameterCount();
+        val cw = accessorGenerator.createHostedAccessorWriter(host);
+        accessorGenerator.generateHostedAccessorHeader(cw, host, className, DirectInvoker.class.getName());
+
+        val functionDescriptor = Type.getDescriptor(functionType);
+        cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, FUNCTION_FIELD, functionDescriptor, null, null).visitEnd();
+        if (primitiveFunctionType != null) {
+            val descriptor = Type.getDescriptor(primitiveFunctionType);
+            cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, PRIMITIVE_FUNCTION_FIELD, descriptor, null, null)
+                    .visitEnd();
+        }
+
+        // Static initializer takes over the lambdas, so that they are constant from the start.
+        {
+            val mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+            mv.visitLdcInsn(functionsKey);
+            mv.visitMethodInsn(
+                    INVOKESTATIC,
+                    Type.getInternalName(LambdaGenerator.class),
+                    "takeFunctions",
+                    "(Ljava/lang/String;)[Ljava/lang/Object;",
+                    false
+            );
+            mv.visitInsn(DUP);
+            mv.visitLdcInsn(0);
+            mv.visitInsn(AALOAD);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(functionType));
+            mv.visitFieldInsn(PUTSTATIC, classOwner, FUNCTION_FIELD, functionDescriptor);
+            if (primitiveFunctionType != null) {
+                mv.visitInsn(DUP);
+                mv.visitLdcInsn(1);
+                mv.visitInsn(AALOAD);
+                mv.visitTypeInsn(CHECKCAST, Type.getInternalName(primitiveFunctionType));
+                val descriptor = Type.getDescriptor(primitiveFunctionType);
+                mv.visitFieldInsn(PUTSTATIC, classOwner, PRIMITIVE_FUNCTION_FIELD, descriptor);
+            }
+            mv.visitInsn(POP);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Invocation with arguments array.
+        {
+            val descriptor = Type.getMethodDescriptor(
+                    Type.getType(Object.class),
+                    Type.getType(Object.class),
+                    Type.getType(Object.class)
+            );
+            val mv = cw.visitMethod(ACC_PUBLIC, "apply", descriptor, null, null);
+            accessorGenerator.generateParameterCountCheck(mv, 2, executable, parameterCount);
+            generateCall(mv, classOwner, FUNCTION_FIELD, functionType, executable, index -> {
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitTypeInsn(CHECKCAST, "[Ljava/lang/Object;");
+                mv.visitLdcInsn(index);
+                mv.visitInsn(AALOAD);
+            });
+            generateReturnObject(mv, functionType);
+        }
+
+        // Fixed-arity invocation, invocations with a different parameter count fall back to arguments array.
+        {
+            val descriptor = getFixedArityDescriptor(Object.class, parameterCount);
+            val mv = cw.visitMethod(ACC_PUBLIC, "invoke" + parameterCount, descriptor, null, null);
+            generateCall(mv, classOwner, FUNCTION_FIELD, functionType, executable, index -> {
+                mv.visitVarInsn(ALOAD, 2 + index);
+            });
+            generateReturnObject(mv, functionType);
+        }
+
+        // Fixed-arity invocation returning primitive result without boxing.
+        if (primitiveFunctionType != null) {
+            val returnType = ((Method) executable).getReturnType();
+            val descriptor = getFixedArityDescriptor(returnType, parameterCount);
+            val name = getPrimitiveInvocationName(returnType) + parameterCount;
+            val mv = cw.visitMethod(ACC_PUBLIC, name, descriptor, null, null);
+            generateCall(mv, classOwner, PRIMITIVE_FUNCTION_FIELD, primitiveFunctionType, executable, index -> {
+                mv.visitVarInsn(ALOAD, 2 + index);
+            });
+            mv.visitInsn(Type.getType(returnType).getOpcode(IRETURN));
+            mv.visitMaxs(-1, -1);
+            mv.visitEnd();
+        }
+
+        // Finish class generation.
+        cw.visitEnd();
+
+        val functions = primitiveFunctionType != null
+                ? new Object[]{function, primitiveFunction}
+                : new Object[]{function};
+        pendingFunctions.put(functionsKey, functions);
+        try {
+            return (DirectInvoker) accessorGenerator.loadHostedAccessor(host, className, cw.toByteArray());
+        } finally {
+            pendingFunctions.remove(functionsKey);
+        }
+    }
+
+    private void generateCall(MethodVisitor mv,
+                              String classOwner,
+                              String fieldName,
+                              Class<?> functionType,
+                              Executable executable,
+                              IntConsumer argumentLoader) {
+        val functionMethod = getFunctionalMethod(functionType);
+        mv.visitFieldInsn(GETSTATIC, classOwner, fieldName, Type.getDescriptor(functionType));
+
+        // Instance is the first argument of instance method lambdas, static members don't take the instance.
+        if (getArity(executable) > executable.getParameterCount()) {
+            mv.visitVarInsn(ALOAD, 1);
+        }
+
+        // Primitive arguments are converted and boxed to the exact wrapper that lambda unboxes.
+        val parameterTypes = executable.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            argumentLoader.accept(i);
+            if (parameterTypes[i].isPrimitive()) {
+                AccessorGenerator.getInstance().generateUnwrapPrimitive(mv, parameterTypes[i]);
+                AccessorGenerator.getInstance().generateWrapPrimitive(mv, parameterTypes[i]);
+            }
+        }
+
+        mv.visitMethodInsn(
+                INVOKEINTERFACE,
+                Type.getInternalName(functionType),
+                functionMethod.getName(),
+                Type.getMethodDescriptor(functionMethod),
+                true
+        );
+    }
+
+    private void generateReturnObject(MethodVisitor mv, Class<?> functionType) {
+        if (getFunctionalMethod(functionType).getReturnType() == void.class) {
+            mv.visitInsn(ACONST_NULL);
+        }
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+    }
+
+    private static Method getFunctionalMethod(Class<?> functionalInterface) {
+        return StreamEx.of(functionalInterface.getMethods())
+                .findFirst(method -> Modifier.isAbstract(method.getModifiers()))
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    private static int getArity(Executable executable) {
+        val isStatic = executable instanceof Constructor || Modifier.isStatic(executable.getModifiers());
+        return isStatic ? executable.getParameterCount() : executable.getParameterCount() + 1;
+    }
+
+    private static Class<?>[] getPrimitiveFunctions(Class<?> returnType) {
+        if (returnType == int.class) {
+            return INT_FUNCTIONS;
+        } else if (returnType == long.class) {
+            return LONG_FUNCTIONS;
+        } else if (returnType == boolean.class) {
+            return BOOLEAN_FUNCTIONS;
+        }
+        return null;
+    }
+
+    /**
+     * Function of 3 arguments, implemented by lambdas of members with 3 arguments (including the instance).
+     */
+    public interface Function3 {
+        Object apply(Object a, Object b, Object c);
+    }
+
+    /**
+     * Function of 4 arguments, implemented by lambdas of members with 4 arguments (including the instance).
+     */
+    public interface Function4 {
+        Object apply(Object a, Object b, Object c, Object d);
+    }
+
+    /**
+     * Function of 5 arguments, implemented by lambdas of members with 5 arguments (including the instance).
+     */
+    public interface Function5 {
+        Object apply(Object a, Object b, Object c, Object d, Object e);
+    }
+
+    /**
+     * Function of 6 arguments, implemented by lambdas of members with 6 arguments (including the instance).
+     */
+    public interface Function6 {
+        Object apply(Object a, Object b, Object c, Object d, Object e, Object f);
+    }
+
+    /**
+     * Consumer of 3 arguments, implemented by lambdas of void methods with 3 arguments (including the instance).
+     */
+    public interface Consumer3 {
+        void accept(Object a, Object b, Object c);
+    }
+
+    /**
+     * Consumer of 4 arguments, implemented by lambdas of void methods with 4 arguments (including the instance).
+     */
+    public interface Consumer4 {
+        void accept(Object a, Object b, Object c, Object d);
+    }
+
+    /**
+     * Consumer of 5 arguments, implemented by lambdas of void methods with 5 arguments (including the instance).
+     */
+    public interface Consumer5 {
+        void accept(Object a, Object b, Object c, Object d, Object e);
+    }
+
+    /**
+     * Consumer of 6 arguments, implemented by lambdas of void methods with 6 arguments (including the instance).
+     */
+    public interface Consumer6 {
+        void accept(Object a, Object b, Object c, Object d, Object e, Object f);
+    }
+
+}
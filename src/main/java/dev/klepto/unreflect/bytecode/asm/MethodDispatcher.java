@@ -0,0 +1,33 @@
+package dev.klepto.unreflect.bytecode.asm;
+
+/**
+ * Direct invocation of methods of a class by name. Implemented by a single generated class per class, which switches
+ * on the method name (hash code and equality, the same way as {@code switch} on a string) and the number of arguments
+ * directly to the method call.
+ * <p>
+ * Only methods that are uniquely identified by their name and number of parameters are dispatched. Invocation of
+ * overloaded methods with the same number of parameters, of methods that don't exist, or with arguments that are not
+ * instances of parameter types returns {@link #UNRESOLVED}, in which case method has to be resolved by argument types.
+ * Target that is not an instance of the declaring class is rejected with {@link IllegalArgumentException}.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public interface MethodDispatcher {
+
+    /**
+     * Result of invocation that couldn't be dispatched by method name and number of arguments.
+     */
+    Object UNRESOLVED = new Object();
+
+    /**
+     * Invokes a method by name.
+     *
+     * @param target the instance of declaring class, ignored for static methods
+     * @param name   the method name
+     * @param args   the method arguments
+     * @return the result of method invocation, null for void methods or {@link #UNRESOLVED} if method couldn't be
+     * dispatched
+     */
+    Object invoke(Object target, String name, Object[] args);
+
+}
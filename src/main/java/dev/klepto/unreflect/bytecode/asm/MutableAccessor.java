@@ -1,13 +1,14 @@
 package dev.klepto.unreflect.bytecode.asm;
 
-
 import lombok.Value;
 
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 /**
- * Contains implementations of direct access to a field of class.
+ * Contains implementations of direct access to a field of class. Accessors of primitive fields also implement a typed
+ * accessor interface (e.g. {@link IntFieldAccessor}), in which case typed methods read and write field value without
+ * boxing. Otherwise values are converted by {@link Conversions}, which only allows widening conversions.
  *
  * @author <a href="http://github.com/klepto">Augustinas R.</a>
  */
@@ -25,4 +26,124 @@ public class MutableAccessor {
         setter.accept(object, value);
     }
 
+    public boolean getBoolean(Object object) {
+        if (getter instanceof BooleanFieldAccessor) {
+            return ((BooleanFieldAccessor) getter).getBoolean(object);
+        }
+        return Conversions.toBoolean(getter.apply(object));
+    }
+
+    public void setBoolean(Object object, boolean value) {
+        if (setter instanceof BooleanFieldAccessor) {
+            ((BooleanFieldAccessor) setter).setBoolean(object, value);
+        } else {
+            setter.accept(object, value);
+        }
+    }
+
+    public byte getByte(Object object) {
+        if (getter instanceof ByteFieldAccessor) {
+            return ((ByteFieldAccessor) getter).getByte(object);
+        }
+        return Conversions.toByte(getter.apply(object));
+    }
+
+    public void setByte(Object object, byte value) {
+        if (setter instanceof ByteFieldAccessor) {
+            ((ByteFieldAccessor) setter).setByte(object, value);
+        } else {
+            setter.accept(object, value);
+        }
+    }
+
+    public char getChar(Object object) {
+        if (getter instanceof CharFieldAccessor) {
+            return ((CharFieldAccessor) getter).getChar(object);
+        }
+        return Conversions.toChar(getter.apply(object));
+    }
+
+    public void setChar(Object object, char value) {
+        if (setter instanceof CharFieldAccessor) {
+            ((CharFieldAccessor) setter).setChar(object, value);
+        } else {
+            setter.accept(object, value);
+        }
+    }
+
+    public short getShort(Object object) {
+        if (getter instanceof ShortFieldAccessor) {
+            return ((ShortFieldAccessor) getter).getShort(object);
+        }
+        return Conversions.toShort(getter.apply(object));
+    }
+
+    public void setShort(Object object, short value) {
+        if (setter instanceof ShortFieldAccessor) {
+            ((ShortFieldAccessor) setter).setShort(object, value);
+        } else {
+            setter.accept(object, value);
+        }
+    }
+
+    public int getInt(Object object) {
+        if (getter instanceof IntFieldAccessor) {
+            return ((IntFieldAccessor) getter).getInt(object);
+        }
+        return Conversions.toInt(getter.apply(object));
+    }
+
+    public void setInt(Object object, int value) {
+        if (setter instanceof IntFieldAccessor) {
+            ((IntFieldAccessor) setter).setInt(object, value);
+        } else {
+            setter.accept(object, value);
+        }
+    }
+
+    public long getLong(Object object) {
+        if (getter instanceof LongFieldAccessor) {
+            return ((LongFieldAccessor) getter).getLong(object);
+        }
+        return Conversions.toLong(getter.apply(object));
+    }
+
+    public void setLong(Object object, long value) {
+        if (setter instanceof LongFieldAccessor) {
+            ((LongFieldAccessor) setter).setLong(object, value);
+        } else {
+            setter.accept(object, value);
+        }
+    }
+
+    public float getFloat(Object object) {
+        if (getter instanceof FloatFieldAccessor) {
+            return ((FloatFieldAccessor) getter).getFloat(object);
+        }
+        return Conversions.toFloat(getter.apply(object));
+    }
+
+    public void setFloat(Object object, float value) {
+        if (setter instanceof FloatFieldAccessor) {
+            ((FloatFieldAccessor) setter).setFloat(object, value);
+        } else {
+            setter.accept(object, value);
+        }
+    }
+
+    public double getDouble(Object object) {
+        if (getter instanceof DoubleFieldAccessor) {
+            return ((DoubleFieldAccessor) getter).getDouble(object);
+        }
+        return Conversions.toDouble(getter.apply(object));
+    }
+
+    public void setDouble(Object object, double value) {
+        if (setter instanceof DoubleFieldAccessor) {
+            ((DoubleFieldAccessor) setter).setDouble(object, value);
+        } else {
+            setter.accept(object, value);
+        }
+    }
+
 }
@@ -0,0 +1,69 @@
+package dev.klepto.unreflect.engine;
+
+import dev.klepto.unreflect.bytecode.asm.InvokableAccessor;
+import dev.klepto.unreflect.bytecode.asm.MutableAccessor;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+/**
+ * Strategy of direct member access, provides the accessors that back unreflected fields, methods and constructors.
+ * Engines differ in how accessors reach the member (e.g. generated bytecode, method handles or lambdas), but every
+ * engine must return accessors that behave identically.
+ * <p>
+ * Additional engines can be provided through {@link java.util.ServiceLoader}, by listing implementations with a public
+ * no-argument constructor in {@code META-INF/services/dev.klepto.unreflect.engine.AccessEngine}. Provided engines
+ * are listed after the built-in engines and never become a default engine unless set explicitly.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ * @see AccessEngines
+ * @see dev.klepto.unreflect.FieldAccess#unreflect(AccessEngine)
+ */
+public interface AccessEngine {
+
+    /**
+     * Checks if this engine is supported by the running JDK. Unavailable engines are never selected automatically.
+     *
+     * @return true if this engine can access members
+     */
+    default boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Returns the accessor of a given field.
+     *
+     * @param field the field
+     * @return the field accessor
+     */
+    MutableAccessor fieldAccessor(Field field);
+
+    /**
+     * Returns the accessor of a given method.
+     *
+     * @param method the method
+     * @return the method accessor
+     */
+    InvokableAccessor methodAccessor(Method method);
+
+    /**
+     * Returns the accessor of a given constructor.
+     *
+     * @param constructor the constructor
+     * @return the constructor accessor
+     */
+    InvokableAccessor constructorAccessor(Constructor<?> constructor);
+
+    /**
+     * Prepares accessors of many members at once, ahead of accessor calls of given members. Engines that can create
+     * accessors in batches override this method, other engines create accessors on demand.
+     *
+     * @param members the fields, methods and constructors
+     */
+    default void prepareAccessors(Collection<? extends Member> members) {
+    }
+
+}
@@ -0,0 +1,239 @@
+package dev.klepto.unreflect.engine;
+
+import com.google.common.collect.ImmutableList;
+import dev.klepto.unreflect.bytecode.asm.InvokableAccessor;
+import dev.klepto.unreflect.bytecode.asm.MutableAccessor;
+import lombok.SneakyThrows;
+import lombok.val;
+import one.util.streamex.EntryStream;
+import one.util.streamex.StreamEx;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Registry of access engines and of the default engines used by
+ * {@link dev.klepto.unreflect.property.Accessible#unreflect()} of fields, methods and constructors.
+ * <p>
+ * Built-in engines are preferred in order: {@link BytecodeEngine}, {@link MethodHandleEngine}, {@link LambdaEngine},
+ * {@link UnsafeEngine} and {@link ReflectionEngine}. Engines discovered through {@link ServiceLoader} are listed after
+ * the built-in engines and are only used once set explicitly. Engines are probed for availability on the running JDK
+ * and the first available engine is the default engine of all members, unless a member kind has its own default
+ * engine set either explicitly or by {@link #calibrate()}.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public final class AccessEngines {
+
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int CALIBRATION_ROUNDS = 5;
+    private static final int CALIBRATION_ITERATIONS = 20_000;
+
+    private static final List<AccessEngine> engines = findEngines();
+    private static volatile AccessEngine defaultEngine = engines.get(0);
+    private static volatile AccessEngine fieldEngine;
+    private static volatile AccessEngine methodEngine;
+    private static volatile AccessEngine constructorEngine;
+
+    private AccessEngines() {
+    }
+
+    private static List<AccessEngine> findEngines() {
+        val result = ImmutableList.<AccessEngine>builder();
+        result.add(
+                BytecodeEngine.getInstance(),
+                MethodHandleEngine.getInstance(),
+                LambdaEngine.getInstance(),
+                UnsafeEngine.getInstance(),
+                ReflectionEngine.getInstance()
+        );
+        val iterator = ServiceLoader.load(AccessEngine.class, AccessEngine.class.getClassLoader()).iterator();
+        try {
+            while (iterator.hasNext()) {
+                result.add(iterator.next());
+            }
+        } catch (ServiceConfigurationError e) {
+            // Broken provider configuration shouldn't prevent built-in engines from working.
+        }
+        return StreamEx.of(result.build()).filter(AccessEngines::isAvailable).toImmutableList();
+    }
+
+    private static boolean isAvailable(AccessEngine engine) {
+        try {
+            return engine.isAvailable();
+        } catch (Throwable err) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns all engines that are available on the running JDK, in order of preference.
+     *
+     * @return the available access engines
+     */
+    public static List<AccessEngine> engines() {
+        return engines;
+    }
+
+    /**
+     * Returns the default access engine, the first available engine unless changed.
+     *
+     * @return the default access engine
+     */
+    public static AccessEngine getDefault() {
+        return defaultEngine;
+    }
+
+    /**
+     * Sets the default access engine. Member kinds that have their own default engine keep using it. Members that are
+     * already unreflected keep their accessors.
+     *
+     * @param engine the default access engine
+     */
+    public static void setDefault(AccessEngine engine) {
+        defaultEngine = checkNotNull(engine);
+    }
+
+    /**
+     * Returns the default access engine of fields, the default access engine unless a field engine is set.
+     *
+     * @return the default field access engine
+     */
+    public static AccessEngine getFieldDefault() {
+        val engine = fieldEngine;
+        return engine != null ? engine : defaultEngine;
+    }
+
+    /**
+     * Sets the default access engine of fields. Members that are already unreflected keep their accessors.
+     *
+     * @param engine the default field access engine, or null to access fields through the default engine
+     */
+    public static void setFieldDefault(AccessEngine engine) {
+        fieldEngine = engine;
+    }
+
+    /**
+     * Returns the default access engine of methods, the default access engine unless a method engine is set.
+     *
+     * @return the default method access engine
+     */
+    public static AccessEngine getMethodDefault() {
+        val engine = methodEngine;
+        return engine != null ? engine : defaultEngine;
+    }
+
+    /**
+     * Sets the default access engine of methods. Members that are already unreflected keep their accessors.
+     *
+     * @param engine the default method access engine, or null to invoke methods through the default engine
+     */
+    public static void setMethodDefault(AccessEngine engine) {
+        methodEngine = engine;
+    }
+
+    /**
+     * Returns the default access engine of constructors, the default access engine unless a constructor engine is
+     * set.
+     *
+     * @return the default constructor access engine
+     */
+    public static AccessEngine getConstructorDefault() {
+        val engine = constructorEngine;
+        return engine != null ? engine : defaultEngine;
+    }
+
+    /**
+     * Sets the default access engine of constructors. Members that are already unreflected keep their accessors.
+     *
+     * @param engine the default constructor access engine, or null to invoke constructors through the default engine
+     */
+    public static void setConstructorDefault(AccessEngine engine) {
+        constructorEngine = engine;
+    }
+
+    /**
+     * Measures available engines on a sample field, method and constructor and sets the fastest engine as the default
+     * engine of each member kind. Calibration takes a fraction of a second and is only a rough estimate, every engine
+     * is warmed up before it's measured. Only the built-in code generating engines ({@link BytecodeEngine},
+     * {@link MethodHandleEngine}, {@link LambdaEngine} and {@link UnsafeEngine} for fields) are candidates, because
+     * their accessors convert arguments and propagate exceptions identically, so calibration changes performance but
+     * never behavior. Engines that fail to access sample members are skipped. Calibration never runs implicitly.
+     */
+    @SneakyThrows
+    public static void calibrate() {
+        val subject = new CalibrationSubject();
+        val field = CalibrationSubject.class.getDeclaredField("value");
+        val method = CalibrationSubject.class.getDeclaredMethod("increase", int.class);
+        val constructor = CalibrationSubject.class.getDeclaredConstructor();
+
+        fieldEngine = selectFastest(engine -> {
+            MutableAccessor accessor = engine.fieldAccessor(field);
+            return () -> accessor.setInt(subject, accessor.getInt(subject) + 1);
+        });
+        methodEngine = selectFastest(engine -> {
+            InvokableAccessor accessor = engine.methodAccessor(method);
+            return () -> accessor.invokeInt1(subject, 1);
+        });
+        constructorEngine = selectFastest(engine -> {
+            InvokableAccessor accessor = engine.constructorAccessor(constructor);
+            return () -> accessor.invoke0(null);
+        });
+    }
+
+    private static boolean isCalibrationCandidate(AccessEngine engine) {
+        return engine == BytecodeEngine.getInstance()
+                || engine == MethodHandleEngine.getInstance()
+                || engine == LambdaEngine.getInstance()
+                || engine == UnsafeEngine.getInstance();
+    }
+
+    private static AccessEngine selectFastest(Function<AccessEngine, Runnable> benchmark) {
+        val candidates = new LinkedHashMap<AccessEngine, Runnable>();
+        for (val engine : engines) {
+            if (!isCalibrationCandidate(engine)) {
+                continue;
+            }
+            try {
+                val action = benchmark.apply(engine);
+                for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                    measure(action);
+                }
+                candidates.put(engine, action);
+            } catch (Throwable err) {
+                // Engine cannot access sample member, it's not a candidate.
+            }
+        }
+
+        // Rounds are interleaved so that every engine is measured under similar JIT and GC conditions.
+        val times = new HashMap<AccessEngine, Long>();
+        for (int round = 0; round < CALIBRATION_ROUNDS; round++) {
+            candidates.forEach((engine, action) -> times.merge(engine, measure(action), Math::min));
+        }
+        return EntryStream.of(times).minBy(Map.Entry::getValue).map(Map.Entry::getKey).orElse(null);
+    }
+
+    private static long measure(Runnable action) {
+        val start = System.nanoTime();
+        for (int i = 0; i < CALIBRATION_ITERATIONS; i++) {
+            action.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static class CalibrationSubject {
+        private int value;
+
+        private int increase(int amount) {
+            return value += amount;
+        }
+    }
+
+}
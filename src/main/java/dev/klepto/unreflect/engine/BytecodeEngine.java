@@ -0,0 +1,54 @@
+package dev.klepto.unreflect.engine;
+
+import dev.klepto.unreflect.bytecode.asm.AccessorGenerator;
+import dev.klepto.unreflect.bytecode.asm.InvokableAccessor;
+import dev.klepto.unreflect.bytecode.asm.MutableAccessor;
+import dev.klepto.unreflect.util.JdkInternals;
+import lombok.Getter;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+/**
+ * Access engine that directly accesses members from generated bytecode. Default engine of unreflect.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ * @see AccessorGenerator
+ */
+public class BytecodeEngine implements AccessEngine {
+
+    @Getter(lazy = true)
+    private static final BytecodeEngine instance = new BytecodeEngine();
+
+    private BytecodeEngine() {
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return JdkInternals.isClassDefinerSupported() || JdkInternals.isHiddenClassSupported();
+    }
+
+    @Override
+    public MutableAccessor fieldAccessor(Field field) {
+        return AccessorGenerator.getInstance().generateMutableAccessor(field);
+    }
+
+    @Override
+    public InvokableAccessor methodAccessor(Method method) {
+        return AccessorGenerator.getInstance().generateInvokableAccessor(method);
+    }
+
+    @Override
+    public InvokableAccessor constructorAccessor(Constructor<?> constructor) {
+        return AccessorGenerator.getInstance().generateInvokableAccessor(constructor);
+    }
+
+    @Override
+    public void prepareAccessors(Collection<? extends Member> members) {
+        AccessorGenerator.getInstance().generateAccessors(members);
+    }
+
+}
@@ -0,0 +1,64 @@
+package dev.klepto.unreflect.engine;
+
+import lombok.val;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Accessor that starts on reflection and inflates to an accessor of another engine once it's used more times than the
+ * inflation threshold, the same way as JDK inflates native method accessors into generated ones. Invocation counter is
+ * deliberately not atomic, lost increments only delay inflation. Accessor is inflated at most once, concurrent callers
+ * keep using reflection until inflated accessor is published. If inflated accessor cannot be created, reflection is
+ * used for good.
+ *
+ * @param <A> the type of accessor
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ * @see InflatingEngine
+ */
+abstract class InflatingAccessor<A> {
+
+    private final A reflectionAccessor;
+    private final Supplier<A> inflater;
+    private final InflatingEngine engine;
+    private final AtomicBoolean isInflating = new AtomicBoolean();
+    private volatile A accessor;
+    private int invocations;
+
+    InflatingAccessor(A reflectionAccessor, Supplier<A> inflater, InflatingEngine engine) {
+        this.reflectionAccessor = reflectionAccessor;
+        this.inflater = inflater;
+        this.engine = engine;
+    }
+
+    /**
+     * Returns the accessor to use for the current access, counting the access until accessor is inflated.
+     *
+     * @return the inflated accessor, or reflection accessor if not inflated yet
+     */
+    A accessor() {
+        val inflated = accessor;
+        if (inflated != null) {
+            return inflated;
+        }
+        if (++invocations > engine.getThreshold() && isInflating.compareAndSet(false, true)) {
+            if (engine.isBackground()) {
+                InflatingEngine.getExecutor().execute(this::inflate);
+            } else {
+                inflate();
+            }
+        }
+        val current = accessor;
+        return current != null ? current : reflectionAccessor;
+    }
+
+    private void inflate() {
+        try {
+            accessor = inflater.get();
+        } catch (Throwable err) {
+            // Member stays accessible through reflection, which is what it was accessed by so far.
+            accessor = reflectionAccessor;
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package dev.klepto.unreflect.engine;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import dev.klepto.unreflect.bytecode.asm.InvokableAccessor;
+import dev.klepto.unreflect.bytecode.asm.MutableAccessor;
+import dev.klepto.unreflect.util.MemberCache;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.val;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Access engine that accesses members through reflection first and switches to accessors of another engine once
+ * members are used more times than the inflation threshold, similar to {@code sun.reflect.inflationThreshold} of the
+ * JDK. Rarely used members never pay for accessor generation, while hot members end up as fast as with the inflated
+ * engine itself. Inflated accessors can be created on a background thread, in which case members keep using reflection
+ * until inflated accessor is ready. Accessors are cached per member, so that every access of a member counts towards
+ * the same threshold. Before inflation, members are accessed by {@link ReflectionEngine}, which converts values and
+ * propagates exceptions the same way as inflated accessors.
+ * <p>
+ * Default instance inflates to the preferred available engine after 15 accesses, which can be changed by
+ * {@code unreflect.inflationThreshold} system property. Setting {@code unreflect.inflationBackground} system property
+ * to {@code true} inflates accessors on a background thread.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ * @see AccessEngines#setDefault(AccessEngine)
+ */
+@Getter
+public class InflatingEngine implements AccessEngine {
+
+    private static final int DEFAULT_THRESHOLD = 15;
+
+    @Getter(lazy = true)
+    private static final InflatingEngine instance = new InflatingEngine(
+            AccessEngines.engines().get(0),
+            Integer.getInteger("unreflect.inflationThreshold", DEFAULT_THRESHOLD),
+            Boolean.getBoolean("unreflect.inflationBackground")
+    );
+    @Getter(value = AccessLevel.PACKAGE, lazy = true)
+    private static final Executor executor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("unreflect-inflation").setDaemon(true).build()
+    );
+
+    private final AccessEngine engine;
+    private final int threshold;
+    private final boolean background;
+    @Getter(AccessLevel.NONE)
+    private final MemberCache<Object> accessors = new MemberCache<>();
+
+    /**
+     * Creates an inflating engine.
+     *
+     * @param engine     the engine that creates inflated accessors
+     * @param threshold  the number of accesses through reflection before member is inflated, 0 inflates on first access
+     * @param background true to create inflated accessors on a background thread
+     */
+    public InflatingEngine(AccessEngine engine, int threshold, boolean background) {
+        checkNotNull(engine);
+        checkArgument(!(engine instanceof InflatingEngine), "Inflating engine cannot inflate to itself.");
+        checkArgument(threshold >= 0, "Inflation threshold cannot be negative.");
+        this.engine = engine;
+        this.threshold = threshold;
+        this.background = background;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return engine.isAvailable();
+    }
+
+    @Override
+    public MutableAccessor fieldAccessor(Field field) {
+        return (MutableAccessor) accessors.get(field, member -> {
+            val reflectionAccessor = ReflectionEngine.getInstance().fieldAccessor(field);
+            val accessor = new InflatingFieldAccessor(reflectionAccessor, () -> engine.fieldAccessor(field), this);
+            return new MutableAccessor(accessor, accessor);
+        });
+    }
+
+    @Override
+    public InvokableAccessor methodAccessor(Method method) {
+        return (InvokableAccessor) accessors.get(method, member -> {
+            val reflectionAccessor = ReflectionEngine.getInstance().methodAccessor(method);
+            val invoker = new InflatingInvoker(reflectionAccessor, () -> engine.methodAccessor(method), this);
+            return new InvokableAccessor(invoker);
+        });
+    }
+
+    @Override
+    public InvokableAccessor constructorAccessor(Constructor<?> constructor) {
+        return (InvokableAccessor) accessors.get(constructor, member -> {
+            val reflectionAccessor = ReflectionEngine.getInstance().constructorAccessor(constructor);
+            val invoker = new InflatingInvoker(reflectionAccessor, () -> engine.constructorAccessor(constructor), this);
+            return new InvokableAccessor(invoker);
+        });
+    }
+
+}
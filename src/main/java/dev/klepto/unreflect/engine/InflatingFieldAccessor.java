@@ -0,0 +1,116 @@
+package dev.klepto.unreflect.engine;
+
+import dev.klepto.unreflect.bytecode.asm.*;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Field accessor that starts on reflection and inflates to an accessor of another engine. Implements every typed
+ * accessor interface, typed access is converted by reflection accessor until inflated.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+final class InflatingFieldAccessor extends InflatingAccessor<MutableAccessor>
+        implements Function<Object, Object>, BiConsumer<Object, Object>,
+        BooleanFieldAccessor, ByteFieldAccessor, CharFieldAccessor, ShortFieldAccessor,
+        IntFieldAccessor, LongFieldAccessor, FloatFieldAccessor, DoubleFieldAccessor {
+
+    InflatingFieldAccessor(MutableAccessor reflectionAccessor,
+                           Supplier<MutableAccessor> inflater,
+                           InflatingEngine engine) {
+        super(reflectionAccessor, inflater, engine);
+    }
+
+    @Override
+    public Object apply(Object object) {
+        return accessor().get(object);
+    }
+
+    @Override
+    public void accept(Object object, Object value) {
+        accessor().set(object, value);
+    }
+
+    @Override
+    public boolean getBoolean(Object object) {
+        return accessor().getBoolean(object);
+    }
+
+    @Override
+    public void setBoolean(Object object, boolean value) {
+        accessor().setBoolean(object, value);
+    }
+
+    @Override
+    public byte getByte(Object object) {
+        return accessor().getByte(object);
+    }
+
+    @Override
+    public void setByte(Object object, byte value) {
+        accessor().setByte(object, value);
+    }
+
+    @Override
+    public char getChar(Object object) {
+        return accessor().getChar(object);
+    }
+
+    @Override
+    public void setChar(Object object, char value) {
+        accessor().setChar(object, value);
+    }
+
+    @Override
+    public short getShort(Object object) {
+        return accessor().getShort(object);
+    }
+
+    @Override
+    public void setShort(Object object, short value) {
+        accessor().setShort(object, value);
+    }
+
+    @Override
+    public int getInt(Object object) {
+        return accessor().getInt(object);
+    }
+
+    @Override
+    public void setInt(Object object, int value) {
+        accessor().setInt(object, value);
+    }
+
+    @Override
+    public long getLong(Object object) {
+        return accessor().getLong(object);
+    }
+
+    @Override
+    public void setLong(Object object, long value) {
+        accessor().setLong(object, value);
+    }
+
+    @Override
+    public float getFloat(Object object) {
+        return accessor().getFloat(object);
+    }
+
+    @Override
+    public void setFloat(Object object, float value) {
+        accessor().setFloat(object, value);
+    }
+
+    @Override
+    public double getDouble(Object object) {
+        return accessor().getDouble(object);
+    }
+
+    @Override
+    public void setDouble(Object object, double value) {
+        accessor().setDouble(object, value);
+    }
+
+}
@@ -0,0 +1,116 @@
+package dev.klepto.unreflect.engine;
+
+import dev.klepto.unreflect.bytecode.asm.DirectInvoker;
+import dev.klepto.unreflect.bytecode.asm.InvokableAccessor;
+
+import java.util.function.Supplier;
+
+/**
+ * Method and constructor invoker that starts on reflection and inflates to an accessor of another engine.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+final class InflatingInvoker extends InflatingAccessor<InvokableAccessor> implements DirectInvoker {
+
+    InflatingInvoker(InvokableAccessor reflectionAccessor,
+                     Supplier<InvokableAccessor> inflater,
+                     InflatingEngine engine) {
+        super(reflectionAccessor, inflater, engine);
+    }
+
+    @Override
+    public Object apply(Object object, Object args) {
+        return accessor().invoke(object, (Object[]) args);
+    }
+
+    @Override
+    public Object invoke0(Object object) {
+        return accessor().invoke0(object);
+    }
+
+    @Override
+    public Object invoke1(Object object, Object a) {
+        return accessor().invoke1(object, a);
+    }
+
+    @Override
+    public Object invoke2(Object object, Object a, Object b) {
+        return accessor().invoke2(object, a, b);
+    }
+
+    @Override
+    public Object invoke3(Object object, Object a, Object b, Object c) {
+        return accessor().invoke3(object, a, b, c);
+    }
+
+    @Override
+    public Object invoke4(Object object, Object a, Object b, Object c, Object d) {
+        return accessor().invoke4(object, a, b, c, d);
+    }
+
+    @Override
+    public Object invoke5(Object object, Object a, Object b, Object c, Object d, Object e) {
+        return accessor().invoke5(object, a, b, c, d, e);
+    }
+
+    @Override
+    public int invokeInt0(Object object) {
+        return accessor().invokeInt0(object);
+    }
+
+    @Override
+    public int invokeInt1(Object object, Object a) {
+        return accessor().invokeInt1(object, a);
+    }
+
+    @Override
+    public int invokeInt2(Object object, Object a, Object b) {
+        return accessor().invokeInt2(object, a, b);
+    }
+
+    @Override
+    public int invokeInt3(Object object, Object a, Object b, Object c) {
+        return accessor().invokeInt3(object, a, b, c);
+    }
+
+    @Override
+    public long invokeLong0(Object object) {
+        return accessor().invokeLong0(object);
+    }
+
+    @Override
+    public long invokeLong1(Object object, Object a) {
+        return accessor().invokeLong1(object, a);
+    }
+
+    @Override
+    public long invokeLong2(Object object, Object a, Object b) {
+        return accessor().invokeLong2(object, a, b);
+    }
+
+    @Override
+    public long invokeLong3(Object object, Object a, Object b, Object c) {
+        return accessor().invokeLong3(object, a, b, c);
+    }
+
+    @Override
+    public boolean invokeBoolean0(Object object) {
+        return accessor().invokeBoolean0(object);
+    }
+
+    @Override
+    public boolean invokeBoolean1(Object object, Object a) {
+        return accessor().invokeBoolean1(object, a);
+    }
+
+    @Override
+    public boolean invokeBoolean2(Object object, Object a, Object b) {
+        return accessor().invokeBoolean2(object, a, b);
+    }
+
+    @Override
+    public boolean invokeBoolean3(Object object, Object a, Object b, Object c) {
+        return accessor().invokeBoolean3(object, a, b, c);
+    }
+
+}
@@ -0,0 +1,50 @@
+package dev.klepto.unreflect.engine;
+
+import dev.klepto.unreflect.bytecode.asm.AccessorGenerator;
+import dev.klepto.unreflect.bytecode.asm.InvokableAccessor;
+import dev.klepto.unreflect.bytecode.asm.LambdaGenerator;
+import dev.klepto.unreflect.bytecode.asm.MutableAccessor;
+import dev.klepto.unreflect.util.JdkInternals;
+import lombok.Getter;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Access engine that invokes methods and constructors through lambdas spun by
+ * {@link java.lang.invoke.LambdaMetafactory}. Lambda metafactory cannot implement field access, fields are accessed
+ * from generated bytecode.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ * @see LambdaGenerator
+ */
+public class LambdaEngine implements AccessEngine {
+
+    @Getter(lazy = true)
+    private static final LambdaEngine instance = new LambdaEngine();
+
+    private LambdaEngine() {
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return JdkInternals.isPrivateLookupSupported() && BytecodeEngine.getInstance().isAvailable();
+    }
+
+    @Override
+    public MutableAccessor fieldAccessor(Field field) {
+        return AccessorGenerator.getInstance().generateMutableAccessor(field);
+    }
+
+    @Override
+    public InvokableAccessor methodAccessor(Method method) {
+        return LambdaGenerator.getInstance().generateInvokableAccessor(method);
+    }
+
+    @Override
+    public InvokableAccessor constructorAccessor(Constructor<?> constructor) {
+        return LambdaGenerator.getInstance().generateInvokableAccessor(constructor);
+    }
+
+}
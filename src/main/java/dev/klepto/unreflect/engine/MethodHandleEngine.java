@@ -0,0 +1,48 @@
+package dev.klepto.unreflect.engine;
+
+import dev.klepto.unreflect.bytecode.asm.HandleGenerator;
+import dev.klepto.unreflect.bytecode.asm.InvokableAccessor;
+import dev.klepto.unreflect.bytecode.asm.MutableAccessor;
+import dev.klepto.unreflect.util.JdkInternals;
+import lombok.Getter;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Access engine that accesses members through method handles, held as constants by generated classes. Handles are
+ * acquired through a lookup with private access, generated classes themselves don't require any special privileges.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ * @see HandleGenerator
+ */
+public class MethodHandleEngine implements AccessEngine {
+
+    @Getter(lazy = true)
+    private static final MethodHandleEngine instance = new MethodHandleEngine();
+
+    private MethodHandleEngine() {
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return JdkInternals.isPrivateLookupSupported() && BytecodeEngine.getInstance().isAvailable();
+    }
+
+    @Override
+    public MutableAccessor fieldAccessor(Field field) {
+        return HandleGenerator.getInstance().generateMutableAccessor(field);
+    }
+
+    @Override
+    public InvokableAccessor methodAccessor(Method method) {
+        return HandleGenerator.getInstance().generateInvokableAccessor(method);
+    }
+
+    @Override
+    public InvokableAccessor constructorAccessor(Constructor<?> constructor) {
+        return HandleGenerator.getInstance().generateInvokableAccessor(constructor);
+    }
+
+}
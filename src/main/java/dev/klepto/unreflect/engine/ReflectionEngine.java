@@ -0,0 +1,117 @@
+package dev.klepto.unreflect.engine;
+
+import dev.klepto.unreflect.bytecode.asm.Conversions;
+import dev.klepto.unreflect.bytecode.asm.DirectInvoker;
+import dev.klepto.unreflect.bytecode.asm.InvokableAccessor;
+import dev.klepto.unreflect.bytecode.asm.MutableAccessor;
+import dev.klepto.unreflect.util.JdkInternals;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.val;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Access engine that accesses members through plain reflection. Slowest engine, but doesn't generate any code and
+ * doesn't depend on any JDK internals beyond accessibility, which makes it the last resort of automatic selection.
+ * <p>
+ * Accessors behave the same way as generated accessors rather than as reflection: values of primitive types are
+ * converted by {@link Conversions}, receivers and values of other types are cast (throwing
+ * {@link ClassCastException}) and exceptions thrown by invoked members are rethrown as is, instead of being wrapped in
+ * {@link InvocationTargetException}.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public class ReflectionEngine implements AccessEngine {
+
+    @Getter(lazy = true)
+    private static final ReflectionEngine instance = new ReflectionEngine();
+
+    private ReflectionEngine() {
+    }
+
+    @Override
+    public MutableAccessor fieldAccessor(Field field) {
+        JdkInternals.setAccessible(field, true);
+        Function<Object, Object> getter = object -> get(field, object);
+        BiConsumer<Object, Object> setter = (object, value) -> set(field, object, value);
+        return new MutableAccessor(getter, setter);
+    }
+
+    @Override
+    public InvokableAccessor methodAccessor(Method method) {
+        JdkInternals.setAccessible(method, true);
+        DirectInvoker invoker = (object, args) -> invoke(method, object, (Object[]) args);
+        return new InvokableAccessor(invoker);
+    }
+
+    @Override
+    public InvokableAccessor constructorAccessor(Constructor<?> constructor) {
+        JdkInternals.setAccessible(constructor, true);
+        DirectInvoker invoker = (object, args) -> create(constructor, (Object[]) args);
+        return new InvokableAccessor(invoker);
+    }
+
+    @SneakyThrows
+    private static Object get(Field field, Object object) {
+        return field.get(receiver(field, object));
+    }
+
+    @SneakyThrows
+    private static void set(Field field, Object object, Object value) {
+        field.set(receiver(field, object), convert(value, field.getType()));
+    }
+
+    @SneakyThrows
+    private static Object invoke(Method method, Object object, Object[] args) {
+        try {
+            return method.invoke(receiver(method, object), convert(method, args));
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SneakyThrows
+    private static Object create(Constructor<?> constructor, Object[] args) {
+        try {
+            return constructor.newInstance(convert(constructor, args));
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object receiver(Member member, Object object) {
+        if (Modifier.isStatic(member.getModifiers())) {
+            return null;
+        } else if (object == null) {
+            throw new NullPointerException("Cannot access " + member + " of null.");
+        }
+        return member.getDeclaringClass().cast(object);
+    }
+
+    private static Object[] convert(Executable executable, Object[] args) {
+        val parameterTypes = executable.getParameterTypes();
+        val length = args != null ? args.length : 0;
+        if (length != parameterTypes.length) {
+            throw new RuntimeException("Parameter count mismatch for: " + executable);
+        }
+        val result = new Object[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = convert(args[i], parameterTypes[i]);
+        }
+        return result;
+    }
+
+    private static Object convert(Object value, Class<?> type) {
+        return type.isPrimitive() ? Conversions.toPrimitive(value, type) : type.cast(value);
+    }
+
+}
@@ -0,0 +1,60 @@
+package dev.klepto.unreflect.engine;
+
+import dev.klepto.unreflect.bytecode.asm.AccessorGenerator;
+import dev.klepto.unreflect.bytecode.asm.InvokableAccessor;
+import dev.klepto.unreflect.bytecode.asm.MutableAccessor;
+import dev.klepto.unreflect.util.MemberCache;
+import lombok.Getter;
+import lombok.val;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Access engine that reads and writes fields directly through {@link sun.misc.Unsafe}, without defining any classes.
+ * Field offset is resolved once per field, access itself is as fast as generated bytecode once inlined. Unsafe cannot
+ * invoke methods, methods and constructors are invoked from generated bytecode.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public class UnsafeEngine implements AccessEngine {
+
+    @Getter(lazy = true)
+    private static final UnsafeEngine instance = new UnsafeEngine();
+
+    private final MemberCache<MutableAccessor> accessors = new MemberCache<>();
+
+    private UnsafeEngine() {
+    }
+
+    @Override
+    public boolean isAvailable() {
+        // Methods and constructors are invoked from generated bytecode.
+        return BytecodeEngine.getInstance().isAvailable();
+    }
+
+    @Override
+    public MutableAccessor fieldAccessor(Field field) {
+        return accessors.get(field, member -> {
+            try {
+                val accessor = UnsafeFieldAccessor.of(field);
+                return new MutableAccessor(accessor, accessor);
+            } catch (UnsupportedOperationException e) {
+                // Unsafe refuses offsets of fields of hidden classes and records.
+                return AccessorGenerator.getInstance().generateMutableAccessor(field);
+            }
+        });
+    }
+
+    @Override
+    public InvokableAccessor methodAccessor(Method method) {
+        return AccessorGenerator.getInstance().generateInvokableAccessor(method);
+    }
+
+    @Override
+    public InvokableAccessor constructorAccessor(Constructor<?> constructor) {
+        return AccessorGenerator.getInstance().generateInvokableAccessor(constructor);
+    }
+
+}
@@ -0,0 +1,404 @@
+package dev.klepto.unreflect.engine;
+
+import dev.klepto.unreflect.bytecode.asm.*;
+import dev.klepto.unreflect.util.JdkInternals;
+import lombok.SneakyThrows;
+import lombok.val;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Field accessor that reads and writes field memory directly through {@link Unsafe}, using the offset (and the base,
+ * for static fields) resolved once per field. Volatile fields are accessed with volatile variants of Unsafe methods.
+ * Every access checks the instance against the declaring class and every write checks the value against the field
+ * type, Unsafe itself doesn't check either. Values are converted by {@link Conversions}, so only widening primitive
+ * conversions are allowed. Writes to {@code static final} fields are refused, same as by reflection, while
+ * {@code final} instance fields are written the same way as by reflection of an accessible field.
+ * <p>
+ * Accessors of primitive fields are subclasses that implement the typed accessor interface of the field type.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+abstract class UnsafeFieldAccessor implements Function<Object, Object>, BiConsumer<Object, Object> {
+
+    static final Unsafe unsafe = JdkInternals.getUnsafe();
+
+    final Field field;
+    final Class<?> declaringClass;
+    final Object base;
+    final long offset;
+    final boolean isVolatile;
+    final boolean isConstant;
+
+    @SneakyThrows
+    UnsafeFieldAccessor(Field field) {
+        val isStatic = Modifier.isStatic(field.getModifiers());
+        this.field = field;
+        this.declaringClass = field.getDeclaringClass();
+        this.offset = isStatic ? unsafe.staticFieldOffset(field) : unsafe.objectFieldOffset(field);
+        this.base = isStatic ? unsafe.staticFieldBase(field) : null;
+        this.isVolatile = Modifier.isVolatile(field.getModifiers());
+        this.isConstant = isStatic && Modifier.isFinal(field.getModifiers());
+        if (isStatic) {
+            // Static fields are read from memory directly, declaring class must be initialized first.
+            Class.forName(declaringClass.getName(), true, declaringClass.getClassLoader());
+        }
+    }
+
+    /**
+     * Creates an accessor of a given field.
+     *
+     * @param field the field
+     * @return the unsafe field accessor
+     * @throws UnsupportedOperationException if field offset cannot be resolved (fields of hidden classes and records)
+     */
+    static UnsafeFieldAccessor of(Field field) {
+        val type = field.getType();
+        if (type == boolean.class) {
+            return new BooleanAccessor(field);
+        } else if (type == byte.class) {
+            return new ByteAccessor(field);
+        } else if (type == char.class) {
+            return new CharAccessor(field);
+        } else if (type == short.class) {
+            return new ShortAccessor(field);
+        } else if (type == int.class) {
+            return new IntAccessor(field);
+        } else if (type == long.class) {
+            return new LongAccessor(field);
+        } else if (type == float.class) {
+            return new FloatAccessor(field);
+        } else if (type == double.class) {
+            return new DoubleAccessor(field);
+        }
+        return new ObjectAccessor(field);
+    }
+
+    Object target(Object object) {
+        if (base != null) {
+            return base;
+        }
+        // Unsafe would read arbitrary memory from null or foreign objects.
+        if (!declaringClass.isInstance(object)) {
+            if (object == null) {
+                throw new NullPointerException("Instance field " + field + " requires an instance.");
+            }
+            val typeName = object.getClass().getName();
+            throw new ClassCastException(typeName + " is not an instance of " + declaringClass.getName());
+        }
+        return object;
+    }
+
+    Object writeTarget(Object object) {
+        // Static final fields might be inlined as constants, writes wouldn't be seen by compiled code.
+        if (isConstant) {
+            throw new UnsupportedOperationException("Cannot write static final field " + field + ".");
+        }
+        return target(object);
+    }
+
+    static final class ObjectAccessor extends UnsafeFieldAccessor {
+
+        private final Class<?> type;
+
+        ObjectAccessor(Field field) {
+            super(field);
+            this.type = field.getType();
+        }
+
+        @Override
+        public Object apply(Object object) {
+            val target = target(object);
+            return isVolatile ? unsafe.getObjectVolatile(target, offset) : unsafe.getObject(target, offset);
+        }
+
+        @Override
+        public void accept(Object object, Object value) {
+            val target = writeTarget(object);
+            val checkedValue = type.cast(value);
+            if (isVolatile) {
+                unsafe.putObjectVolatile(target, offset, checkedValue);
+            } else {
+                unsafe.putObject(target, offset, checkedValue);
+            }
+        }
+
+    }
+
+    static final class BooleanAccessor extends UnsafeFieldAccessor implements BooleanFieldAccessor {
+
+        BooleanAccessor(Field field) {
+            super(field);
+        }
+
+        @Override
+        public Object apply(Object object) {
+            return getBoolean(object);
+        }
+
+        @Override
+        public void accept(Object object, Object value) {
+            setBoolean(object, Conversions.toBoolean(value));
+        }
+
+        @Override
+        public boolean getBoolean(Object object) {
+            val target = target(object);
+            return isVolatile ? unsafe.getBooleanVolatile(target, offset) : unsafe.getBoolean(target, offset);
+        }
+
+        @Override
+        public void setBoolean(Object object, boolean value) {
+            val target = writeTarget(object);
+            if (isVolatile) {
+                unsafe.putBooleanVolatile(target, offset, value);
+            } else {
+                unsafe.putBoolean(target, offset, value);
+            }
+        }
+
+    }
+
+    static final class ByteAccessor extends UnsafeFieldAccessor implements ByteFieldAccessor {
+
+        ByteAccessor(Field field) {
+            super(field);
+        }
+
+        @Override
+        public Object apply(Object object) {
+            return getByte(object);
+        }
+
+        @Override
+        public void accept(Object object, Object value) {
+            setByte(object, Conversions.toByte(value));
+        }
+
+        @Override
+        public byte getByte(Object object) {
+            val target = target(object);
+            return isVolatile ? unsafe.getByteVolatile(target, offset) : unsafe.getByte(target, offset);
+        }
+
+        @Override
+        public void setByte(Object object, byte value) {
+            val target = writeTarget(object);
+            if (isVolatile) {
+                unsafe.putByteVolatile(target, offset, value);
+            } else {
+                unsafe.putByte(target, offset, value);
+            }
+        }
+
+    }
+
+    static final class CharAccessor extends UnsafeFieldAccessor implements CharFieldAccessor {
+
+        CharAccessor(Field field) {
+            super(field);
+        }
+
+        @Override
+        public Object apply(Object object) {
+            return getChar(object);
+        }
+
+        @Override
+        public void accept(Object object, Object value) {
+            setChar(object, Conversions.toChar(value));
+        }
+
+        @Override
+        public char getChar(Object object) {
+            val target = target(object);
+            return isVolatile ? unsafe.getCharVolatile(target, offset) : unsafe.getChar(target, offset);
+        }
+
+        @Override
+        public void setChar(Object object, char value) {
+            val target = writeTarget(object);
+            if (isVolatile) {
+                unsafe.putCharVolatile(target, offset, value);
+            } else {
+                unsafe.putChar(target, offset, value);
+            }
+        }
+
+    }
+
+    static final class ShortAccessor extends UnsafeFieldAccessor implements ShortFieldAccessor {
+
+        ShortAccessor(Field field) {
+            super(field);
+        }
+
+        @Override
+        public Object apply(Object object) {
+            return getShort(object);
+        }
+
+        @Override
+        public void accept(Object object, Object value) {
+            setShort(object, Conversions.toShort(value));
+        }
+
+        @Override
+        public short getShort(Object object) {
+            val target = target(object);
+            return isVolatile ? unsafe.getShortVolatile(target, offset) : unsafe.getShort(target, offset);
+        }
+
+        @Override
+        public void setShort(Object object, short value) {
+            val target = writeTarget(object);
+            if (isVolatile) {
+                unsafe.putShortVolatile(target, offset, value);
+            } else {
+                unsafe.putShort(target, offset, value);
+            }
+        }
+
+    }
+
+    static final class IntAccessor extends UnsafeFieldAccessor implements IntFieldAccessor {
+
+        IntAccessor(Field field) {
+            super(field);
+        }
+
+        @Override
+        public Object apply(Object object) {
+            return getInt(object);
+        }
+
+        @Override
+        public void accept(Object object, Object value) {
+            setInt(object, Conversions.toInt(value));
+        }
+
+        @Override
+        public int getInt(Object object) {
+            val target = target(object);
+            return isVolatile ? unsafe.getIntVolatile(target, offset) : unsafe.getInt(target, offset);
+        }
+
+        @Override
+        public void setInt(Object object, int value) {
+            val target = writeTarget(object);
+            if (isVolatile) {
+                unsafe.putIntVolatile(target, offset, value);
+            } else {
+                unsafe.putInt(target, offset, value);
+            }
+        }
+
+    }
+
+    static final class LongAccessor extends UnsafeFieldAccessor implements LongFieldAccessor {
+
+        LongAccessor(Field field) {
+            super(field);
+        }
+
+        @Override
+        public Object apply(Object object) {
+            return getLong(object);
+        }
+
+        @Override
+        public void accept(Object object, Object value) {
+            setLong(object, Conversions.toLong(value));
+        }
+
+        @Override
+        public long getLong(Object object) {
+            val target = target(object);
+            return isVolatile ? unsafe.getLongVolatile(target, offset) : unsafe.getLong(target, offset);
+        }
+
+        @Override
+        public void setLong(Object object, long value) {
+            val target = writeTarget(object);
+            if (isVolatile) {
+                unsafe.putLongVolatile(target, offset, value);
+            } else {
+                unsafe.putLong(target, offset, value);
+            }
+        }
+
+    }
+
+    static final class FloatAccessor extends UnsafeFieldAccessor implements FloatFieldAccessor {
+
+        FloatAccessor(Field field) {
+            super(field);
+        }
+
+        @Override
+        public Object apply(Object object) {
+            return getFloat(object);
+        }
+
+        @Override
+        public void accept(Object object, Object value) {
+            setFloat(object, Conversions.toFloat(value));
+        }
+
+        @Override
+        public float getFloat(Object object) {
+            val target = target(object);
+            return isVolatile ? unsafe.getFloatVolatile(target, offset) : unsafe.getFloat(target, offset);
+        }
+
+        @Override
+        public void setFloat(Object object, float value) {
+            val target = writeTarget(object);
+            if (isVolatile) {
+                unsafe.putFloatVolatile(target, offset, value);
+            } else {
+                unsafe.putFloat(target, offset, value);
+            }
+        }
+
+    }
+
+    static final class DoubleAccessor extends UnsafeFieldAccessor implements DoubleFieldAccessor {
+
+        DoubleAccessor(Field field) {
+            super(field);
+        }
+
+        @Override
+        public Object apply(Object object) {
+            return getDouble(object);
+        }
+
+        @Override
+        public void accept(Object object, Object value) {
+            setDouble(object, Conversions.toDouble(value));
+        }
+
+        @Override
+        public double getDouble(Object object) {
+            val target = target(object);
+            return isVolatile ? unsafe.getDoubleVolatile(target, offset) : unsafe.getDouble(target, offset);
+        }
+
+        @Override
+        public void setDouble(Object object, double value) {
+            val target = writeTarget(object);
+            if (isVolatile) {
+                unsafe.putDoubleVolatile(target, offset, value);
+            } else {
+                unsafe.putDouble(target, offset, value);
+            }
+        }
+
+    }
+
+}
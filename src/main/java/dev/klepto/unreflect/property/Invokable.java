@@ -3,6 +3,8 @@ package dev.klepto.unreflect.property;
 import dev.klepto.unreflect.ParameterAccess;
 import one.util.streamex.StreamEx;
 
+import java.util.List;
+
 /**
  * Represents an invokable member (constructor, method) of a class.
  *
@@ -17,6 +19,16 @@ public interface Invokable {
      */
     StreamEx<ParameterAccess> parameters();
 
+    /**
+     * Returns an immutable list of parameters associated with this member. Unlike {@link #parameters()}, the list is
+     * cached by the member access, making repeated iteration allocation-free.
+     *
+     * @return an immutable list of parameters, or an empty list if this member has no parameters
+     */
+    default List<ParameterAccess> parameterList() {
+        return parameters().toImmutableList();
+    }
+
     /**
      * Invokes this member with given arguments. For instanced access, you have call {@link Accessible#bind(Object)}
      * before invocation of this function. For static functions and constructors binding are ignored.
@@ -28,4 +40,91 @@ public interface Invokable {
      */
     <T> T invoke(Object... args) throws RuntimeException;
 
+    /**
+     * Invokes this member with 0 arguments. Unlike {@link #invoke(Object...)}, doesn't allocate an
+     * argument array when member is accessed via bytecode.
+     *
+     * @param <T> a generic type for automatic casting
+     * @return the result of member invocation, or null if result is void
+     * @throws RuntimeException if exception occurred during invocation, or if member doesn't accept given arguments
+     */
+    default <T> T invoke0() throws RuntimeException {
+        return invoke();
+    }
+
+    /**
+     * Invokes this member with 1 argument. Unlike {@link #invoke(Object...)}, doesn't allocate an
+     * argument array when member is accessed via bytecode.
+     *
+     * @param a   the first argument
+     * @param <T> a generic type for automatic casting
+     * @return the result of member invocation, or null if result is void
+     * @throws RuntimeException if exception occurred during invocation, or if member doesn't accept given arguments
+     */
+    default <T> T invoke1(Object a) throws RuntimeException {
+        return invoke(a);
+    }
+
+    /**
+     * Invokes this member with 2 arguments. Unlike {@link #invoke(Object...)}, doesn't allocate an
+     * argument array when member is accessed via bytecode.
+     *
+     * @param a   the first argument
+     * @param b   the second argument
+     * @param <T> a generic type for automatic casting
+     * @return the result of member invocation, or null if result is void
+     * @throws RuntimeException if exception occurred during invocation, or if member doesn't accept given arguments
+     */
+    default <T> T invoke2(Object a, Object b) throws RuntimeException {
+        return invoke(a, b);
+    }
+
+    /**
+     * Invokes this member with 3 arguments. Unlike {@link #invoke(Object...)}, doesn't allocate an
+     * argument array when member is accessed via bytecode.
+     *
+     * @param a   the first argument
+     * @param b   the second argument
+     * @param c   the third argument
+     * @param <T> a generic type for automatic casting
+     * @return the result of member invocation, or null if result is void
+     * @throws RuntimeException if exception occurred during invocation, or if member doesn't accept given arguments
+     */
+    default <T> T invoke3(Object a, Object b, Object c) throws RuntimeException {
+        return invoke(a, b, c);
+    }
+
+    /**
+     * Invokes this member with 4 arguments. Unlike {@link #invoke(Object...)}, doesn't allocate an
+     * argument array when member is accessed via bytecode.
+     *
+     * @param a   the first argument
+     * @param b   the second argument
+     * @param c   the third argument
+     * @param d   the fourth argument
+     * @param <T> a generic type for automatic casting
+     * @return the result of member invocation, or null if result is void
+     * @throws RuntimeException if exception occurred during invocation, or if member doesn't accept given arguments
+     */
+    default <T> T invoke4(Object a, Object b, Object c, Object d) throws RuntimeException {
+        return invoke(a, b, c, d);
+    }
+
+    /**
+     * Invokes this member with 5 arguments. Unlike {@link #invoke(Object...)}, doesn't allocate an
+     * argument array when member is accessed via bytecode.
+     *
+     * @param a   the first argument
+     * @param b   the second argument
+     * @param c   the third argument
+     * @param d   the fourth argument
+     * @param e   the fifth argument
+     * @param <T> a generic type for automatic casting
+     * @return the result of member invocation, or null if result is void
+     * @throws RuntimeException if exception occurred during invocation, or if member doesn't accept given arguments
+     */
+    default <T> T invoke5(Object a, Object b, Object c, Object d, Object e) throws RuntimeException {
+        return invoke(a, b, c, d, e);
+    }
+
 }
@@ -42,6 +42,21 @@ public interface Reflectable {
                 .orElse(null);
     }
 
+    /**
+     * Gets materialized annotation of a given type annotating this member, or null if annotation of a given type is
+     * not present. Materialized annotation is an instance of a generated class that stores attribute values in plain
+     * fields, avoiding proxy dispatch and array copying on every attribute read. Materialized annotations are cached,
+     * array values are shared between calls and must not be modified.
+     *
+     * @param annotationClass the annotation type
+     * @param <A>             the generic annotation type
+     * @return a materialized annotation of a given type, or null if annotation is not found
+     */
+    @Nullable
+    default <A extends Annotation> A materializedAnnotation(Class<A> annotationClass) {
+        return annotation(annotationClass);
+    }
+
     /**
      * Checks if member is annotated with given annotation.
      *
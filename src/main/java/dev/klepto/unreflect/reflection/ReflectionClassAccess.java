@@ -1,35 +1,60 @@
 package dev.klepto.unreflect.reflection;
 
+import dev.klepto.unreflect.bytecode.asm.AccessorGenerator;
+import dev.klepto.unreflect.bytecode.asm.AnnotationGenerator;
 import dev.klepto.unreflect.property.Reflectable;
 import dev.klepto.unreflect.UnreflectType;
 import dev.klepto.unreflect.ClassAccess;
 import dev.klepto.unreflect.ConstructorAccess;
 import dev.klepto.unreflect.FieldAccess;
+import dev.klepto.unreflect.FieldTable;
+import dev.klepto.unreflect.FieldVisitor;
 import dev.klepto.unreflect.MethodAccess;
+import dev.klepto.unreflect.ParameterAccess;
+import dev.klepto.unreflect.Unreflect;
 import dev.klepto.unreflect.bytecode.BytecodeClassAccess;
-import dev.klepto.unreflect.util.JdkInternals;
+import dev.klepto.unreflect.util.MemberTable;
+import dev.klepto.unreflect.util.Parameters;
 import lombok.RequiredArgsConstructor;
-import lombok.With;
+import lombok.SneakyThrows;
+import lombok.val;
 import one.util.streamex.StreamEx;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
 
 /**
  * Reflection-based implementation of {@link ClassAccess}.
  *
  * @author <a href="http://github.com/klepto">Augustinas R.</a>
  */
-@With
 @RequiredArgsConstructor
 public class ReflectionClassAccess<T> implements ClassAccess<T> {
 
     private final Class<T> source;
     private final Object object;
+    private volatile List<ConstructorAccess<T>> constructorList;
+    private volatile List<FieldAccess> fieldList;
+    private volatile List<MethodAccess> methodList;
+    private volatile ClassAccess<T> unreflected;
 
     @Override
     public ClassAccess<T> unreflect() {
-        return new BytecodeClassAccess<>(this);
+        if (object != null) {
+            return new BytecodeClassAccess<>(this, object);
+        }
+
+        ClassAccess<T> result = unreflected;
+        if (result == null) {
+            unreflected = result = new BytecodeClassAccess<>(this, object);
+        }
+        return result;
     }
 
     @Override
@@ -39,12 +64,12 @@ public class ReflectionClassAccess<T> implements ClassAccess<T> {
 
     @Override
     public ClassAccess<T> bind(Object object) {
-        return withObject(object);
+        return this.object == object ? this : new ReflectionClassAccess<>(source, object);
     }
 
     @Override
     public int modifiers() {
-        return source.getModifiers();
+        return members().modifiers();
     }
 
     @Override
@@ -57,6 +82,16 @@ public class ReflectionClassAccess<T> implements ClassAccess<T> {
         return StreamEx.of(source.getDeclaredAnnotations());
     }
 
+    @Override
+    public <A extends Annotation> A annotation(Class<A> annotationClass) {
+        return source.getDeclaredAnnotation(annotationClass);
+    }
+
+    @Override
+    public <A extends Annotation> A materializedAnnotation(Class<A> annotationClass) {
+        return AnnotationGenerator.getInstance().generateAnnotation(source, annotationClass);
+    }
+
     @Override
     public UnreflectType type() {
         return UnreflectType.of(source);
@@ -72,10 +107,37 @@ public class ReflectionClassAccess<T> implements ClassAccess<T> {
         return constructor(args).create(args);
     }
 
+    @Override
+    public <R> R invoke(String name, Object... args) {
+        val method = method(name, args);
+        checkArgument(method != null, "Method %s not found in %s.", name, source.getName());
+        return method.invoke(args);
+    }
+
+    @Override
+    public <R> R get(String name) {
+        val field = field(name);
+        checkArgument(field != null, "Field %s not found in %s.", name, source.getName());
+        return field.get();
+    }
+
+    @Override
+    public void set(String name, Object value) {
+        val field = field(name);
+        checkArgument(field != null, "Field %s not found in %s.", name, source.getName());
+        field.set(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ConstructorAccess<T> constructor(Object... argsOrTypes) {
+        val constructor = (Constructor<T>) members().constructor(argsOrTypes);
+        return constructor != null ? new ReflectionConstructorAccess<>(this, constructor) : null;
+    }
+
     @Override
     public StreamEx<ConstructorAccess<T>> constructors() {
-        return StreamEx.of(source.getDeclaredConstructors())
-                .peek(constructor -> JdkInternals.setAccessible(constructor, true))
+        return StreamEx.of(members().constructors())
                 .map(constructor ->
                         new ReflectionConstructorAccess<>(
                                 this,
@@ -84,10 +146,90 @@ public class ReflectionClassAccess<T> implements ClassAccess<T> {
                 );
     }
 
+    @Override
+    public List<ConstructorAccess<T>> constructorList() {
+        val shared = shared();
+        if (shared != this) {
+            return shared.constructorList();
+        }
+
+        List<ConstructorAccess<T>> result = constructorList;
+        if (result == null) {
+            constructorList = result = constructors().toImmutableList();
+        }
+        return result;
+    }
+
     @Override
     public StreamEx<FieldAccess> fields() {
-        return type().subTypes().flatArray(type -> type.toClass().getDeclaredFields())
-                .peek(field -> JdkInternals.setAccessible(field, true))
+        return StreamEx.of(members().hierarchy())
+                .flatMap(type -> MemberTable.of(type).declaredFields().stream())
+                .map(field ->
+                        new ReflectionFieldAccess(
+                                this,
+                                field,
+                                object
+                        )
+                );
+    }
+
+    @Override
+    public List<FieldAccess> fieldList() {
+        val shared = shared();
+        if (shared != this) {
+            return shared.fieldList();
+        }
+
+        List<FieldAccess> result = fieldList;
+        if (result == null) {
+            fieldList = result = fields().toImmutableList();
+        }
+        return result;
+    }
+
+    @Override
+    public void forEachField(BiConsumer<FieldAccess, Object> action) {
+        forEachField(object, action::accept);
+    }
+
+    @Override
+    @SneakyThrows
+    public void forEachField(Object target, FieldVisitor visitor) {
+        val fields = fieldList();
+        for (int i = 0; i < fields.size(); i++) {
+            val field = fields.get(i);
+            val fieldSource = field.source();
+            val type = fieldSource.getType();
+            if (type == boolean.class) {
+                visitor.visitBoolean(field, fieldSource.getBoolean(target));
+            } else if (type == byte.class) {
+                visitor.visitByte(field, fieldSource.getByte(target));
+            } else if (type == char.class) {
+                visitor.visitChar(field, fieldSource.getChar(target));
+            } else if (type == short.class) {
+                visitor.visitShort(field, fieldSource.getShort(target));
+            } else if (type == int.class) {
+                visitor.visitInt(field, fieldSource.getInt(target));
+            } else if (type == long.class) {
+                visitor.visitLong(field, fieldSource.getLong(target));
+            } else if (type == float.class) {
+                visitor.visitFloat(field, fieldSource.getFloat(target));
+            } else if (type == double.class) {
+                visitor.visitDouble(field, fieldSource.getDouble(target));
+            } else {
+                visitor.visit(field, fieldSource.get(target));
+            }
+        }
+    }
+
+    @Override
+    public FieldTable fieldTable() {
+        return AccessorGenerator.getInstance().generateFieldTable(source);
+    }
+
+    @Override
+    public StreamEx<FieldAccess> declaredFields() {
+        return StreamEx.of(members().declaredFields())
                 .map(field ->
                         new ReflectionFieldAccess(
                                 this,
@@ -99,8 +241,34 @@ public class ReflectionClassAccess<T> implements ClassAccess<T> {
 
     @Override
     public StreamEx<MethodAccess> methods() {
-        return type().subTypes().flatArray(type -> type.toClass().getDeclaredMethods())
-                .peek(method -> JdkInternals.setAccessible(method, true))
+        return StreamEx.of(members().hierarchy())
+                .flatMap(type -> MemberTable.of(type).declaredMethods().stream())
+                .map(method ->
+                        new ReflectionMethodAccess(
+                                this,
+                                method,
+                                object
+                        )
+                );
+    }
+
+    @Override
+    public List<MethodAccess> methodList() {
+        val shared = shared();
+        if (shared != this) {
+            return shared.methodList();
+        }
+
+        List<MethodAccess> result = methodList;
+        if (result == null) {
+            methodList = result = methods().toImmutableList();
+        }
+        return result;
+    }
+
+    @Override
+    public StreamEx<MethodAccess> declaredMethods() {
+        return StreamEx.of(members().declaredMethods())
                 .map(method ->
                         new ReflectionMethodAccess(
                                 this,
@@ -110,6 +278,102 @@ public class ReflectionClassAccess<T> implements ClassAccess<T> {
                 );
     }
 
+    @Override
+    public FieldAccess field(String name) {
+        val field = members().field(name);
+        return field != null ? new ReflectionFieldAccess(this, field, object) : null;
+    }
+
+    @Override
+    public StreamEx<FieldAccess> fields(String... names) {
+        val members = members();
+        return StreamEx.of(names)
+                .map(members::field)
+                .nonNull()
+                .map(field -> new ReflectionFieldAccess(this, field, object));
+    }
+
+    @Override
+    public StreamEx<MethodAccess> methods(String name) {
+        return StreamEx.of(members().methods(name))
+                .map(method -> new ReflectionMethodAccess(this, method, object));
+    }
+
+    @Override
+    public MethodAccess method(String name) {
+        val methods = members().methods(name);
+        return !methods.isEmpty() ? new ReflectionMethodAccess(this, methods.get(0), object) : null;
+    }
+
+    @Override
+    public StreamEx<MethodAccess> methods(String name, Object... argsOrTypes) {
+        return methods(name).filter(method -> Parameters.matches(method, argsOrTypes));
+    }
+
+    @Override
+    public MethodAccess method(Object... argsOrTypes) {
+        return method(null, argsOrTypes);
+    }
+
+    @Override
+    public MethodAccess method(String name, Object... argsOrTypes) {
+        val method = members().method(name, argsOrTypes);
+        return method != null ? new ReflectionMethodAccess(this, method, object) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public StreamEx<ConstructorAccess<T>> constructorsAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return StreamEx.of(members().constructorsAnnotatedWith(annotationClass))
+                .map(constructor -> new ReflectionConstructorAccess<>(this, (Constructor<T>) constructor));
+    }
+
+    @Override
+    public StreamEx<FieldAccess> fieldsAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return StreamEx.of(members().fieldsAnnotatedWith(annotationClass))
+                .map(field -> new ReflectionFieldAccess(this, field, object));
+    }
+
+    @Override
+    public StreamEx<MethodAccess> methodsAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return StreamEx.of(members().methodsAnnotatedWith(annotationClass))
+                .map(method -> new ReflectionMethodAccess(this, method, object));
+    }
+
+    @Override
+    public StreamEx<ParameterAccess> parametersAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return StreamEx.of(members().parametersAnnotatedWith(annotationClass))
+                .map(parameter -> new ReflectionParameterAccess(parameterParent(parameter), parameter));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Reflectable parameterParent(Parameter parameter) {
+        val executable = parameter.getDeclaringExecutable();
+        if (executable instanceof Constructor) {
+            return new ReflectionConstructorAccess<>(this, (Constructor<T>) executable);
+        }
+        return new ReflectionMethodAccess(this, (Method) executable, object);
+    }
+
+    /**
+     * Returns the shared member table of represented class.
+     *
+     * @return the member table of represented class
+     */
+    public MemberTable members() {
+        return MemberTable.of(source);
+    }
+
+    /**
+     * Returns the unbound class access of represented class that is shared between all callers, which holds member
+     * lists of the class.
+     *
+     * @return the shared class access of represented class
+     */
+    private ReflectionClassAccess<T> shared() {
+        return (ReflectionClassAccess<T>) Unreflect.reflect(source);
+    }
+
     @Override
     public String name() {
         return source.getName();
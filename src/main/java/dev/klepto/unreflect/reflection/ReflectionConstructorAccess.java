@@ -1,20 +1,29 @@
 package dev.klepto.unreflect.reflection;
 
-import dev.klepto.unreflect.bytecode.asm.AccessorGenerator;
+import dev.klepto.unreflect.bytecode.asm.AnnotationGenerator;
+import dev.klepto.unreflect.bytecode.asm.FunctionalGenerator;
+import dev.klepto.unreflect.bytecode.asm.HandleGenerator;
+import dev.klepto.unreflect.engine.AccessEngine;
+import dev.klepto.unreflect.engine.AccessEngines;
 import dev.klepto.unreflect.property.Reflectable;
 import dev.klepto.unreflect.bytecode.BytecodeContructorAccess;
 import dev.klepto.unreflect.UnreflectType;
 import dev.klepto.unreflect.ConstructorAccess;
 import dev.klepto.unreflect.ParameterAccess;
+import dev.klepto.unreflect.util.MemberTable;
 import dev.klepto.unreflect.util.Parameters;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.With;
 import lombok.val;
+import lombok.experimental.Accessors;
 import one.util.streamex.StreamEx;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
+import java.util.List;
 
 /**
  * Reflection-based implementation of {@link ConstructorAccess}.
@@ -27,11 +36,18 @@ public class ReflectionConstructorAccess<T> implements ConstructorAccess<T> {
 
     private final Reflectable parent;
     private final Constructor<T> source;
+    @Getter(lazy = true)
+    @Accessors(fluent = true)
+    private final List<ParameterAccess> parameterList = parameters().toImmutableList();
 
     @Override
     public ConstructorAccess<T> unreflect() {
-        val accessor = AccessorGenerator.getInstance().generateInvokableAccessor(source);
-        return new BytecodeContructorAccess<>(this, accessor);
+        return unreflect(AccessEngines.getConstructorDefault());
+    }
+
+    @Override
+    public ConstructorAccess<T> unreflect(AccessEngine engine) {
+        return new BytecodeContructorAccess<>(this, engine.constructorAccessor(source));
     }
 
     @Override
@@ -44,6 +60,16 @@ public class ReflectionConstructorAccess<T> implements ConstructorAccess<T> {
         return this;
     }
 
+    @Override
+    public <I> I as(Class<I> functionalInterface) {
+        return FunctionalGenerator.getInstance().generateConstructor(source, functionalInterface);
+    }
+
+    @Override
+    public MethodHandle toMethodHandle() {
+        return HandleGenerator.getInstance().toMethodHandle(source);
+    }
+
     @Override
     public int modifiers() {
         return source.getModifiers();
@@ -51,7 +77,7 @@ public class ReflectionConstructorAccess<T> implements ConstructorAccess<T> {
 
     @Override
     public StreamEx<ParameterAccess> parameters() {
-        return StreamEx.of(source.getParameters())
+        return StreamEx.of(MemberTable.parameters(source))
                 .map(parameter -> new ReflectionParameterAccess(this, parameter));
     }
 
@@ -81,6 +107,16 @@ public class ReflectionConstructorAccess<T> implements ConstructorAccess<T> {
         return StreamEx.of(source.getDeclaredAnnotations());
     }
 
+    @Override
+    public <A extends Annotation> A annotation(Class<A> annotationClass) {
+        return source.getDeclaredAnnotation(annotationClass);
+    }
+
+    @Override
+    public <A extends Annotation> A materializedAnnotation(Class<A> annotationClass) {
+        return AnnotationGenerator.getInstance().generateAnnotation(source, annotationClass);
+    }
+
     @Override
     public UnreflectType type() {
         return parent.type();
@@ -88,7 +124,7 @@ public class ReflectionConstructorAccess<T> implements ConstructorAccess<T> {
 
     @Override
     public String toString() {
-        return type().toClass().getSimpleName() + Parameters.toString(parameters().toList());
+        return type().toClass().getSimpleName() + Parameters.toString(parameterList());
     }
 
 }
@@ -1,6 +1,10 @@
 package dev.klepto.unreflect.reflection;
 
-import dev.klepto.unreflect.bytecode.asm.AccessorGenerator;
+import dev.klepto.unreflect.bytecode.asm.AnnotationGenerator;
+import dev.klepto.unreflect.bytecode.asm.FunctionalGenerator;
+import dev.klepto.unreflect.bytecode.asm.HandleGenerator;
+import dev.klepto.unreflect.engine.AccessEngine;
+import dev.klepto.unreflect.engine.AccessEngines;
 import dev.klepto.unreflect.property.Reflectable;
 import dev.klepto.unreflect.bytecode.BytecodeFieldAccess;
 import dev.klepto.unreflect.UnreflectType;
@@ -12,6 +16,7 @@ import lombok.val;
 import one.util.streamex.StreamEx;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 
 /**
@@ -34,8 +39,12 @@ public class ReflectionFieldAccess implements FieldAccess {
 
     @Override
     public FieldAccess unreflect() {
-        val accessor = AccessorGenerator.getInstance().generateMutableAccessor(source);
-        return new BytecodeFieldAccess(this, accessor);
+        return unreflect(AccessEngines.getFieldDefault());
+    }
+
+    @Override
+    public FieldAccess unreflect(AccessEngine engine) {
+        return new BytecodeFieldAccess(this, engine.fieldAccessor(source));
     }
 
     @Override
@@ -48,6 +57,26 @@ public class ReflectionFieldAccess implements FieldAccess {
         return withObject(object);
     }
 
+    @Override
+    public <I> I getterAs(Class<I> functionalInterface) {
+        return FunctionalGenerator.getInstance().generateGetter(source, functionalInterface, object);
+    }
+
+    @Override
+    public MethodHandle toGetterHandle() {
+        return HandleGenerator.getInstance().toGetterHandle(source);
+    }
+
+    @Override
+    public MethodHandle toSetterHandle() {
+        return HandleGenerator.getInstance().toSetterHandle(source);
+    }
+
+    @Override
+    public <V> V toVarHandle() {
+        return (V) HandleGenerator.getInstance().toVarHandle(source);
+    }
+
     @Override
     public int modifiers() {
         return source.getModifiers();
@@ -65,11 +94,117 @@ public class ReflectionFieldAccess implements FieldAccess {
         source.set(object, value);
     }
 
+    @Override
+    @SneakyThrows
+    public boolean getBoolean() {
+        return source.getBoolean(object);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setBoolean(boolean value) {
+        source.setBoolean(object, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public byte getByte() {
+        return source.getByte(object);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setByte(byte value) {
+        source.setByte(object, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public char getChar() {
+        return source.getChar(object);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setChar(char value) {
+        source.setChar(object, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public short getShort() {
+        return source.getShort(object);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setShort(short value) {
+        source.setShort(object, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public int getInt() {
+        return source.getInt(object);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setInt(int value) {
+        source.setInt(object, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public long getLong() {
+        return source.getLong(object);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setLong(long value) {
+        source.setLong(object, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public float getFloat() {
+        return source.getFloat(object);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setFloat(float value) {
+        source.setFloat(object, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public double getDouble() {
+        return source.getDouble(object);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setDouble(double value) {
+        source.setDouble(object, value);
+    }
+
     @Override
     public StreamEx<Annotation> annotations() {
         return StreamEx.of(source.getDeclaredAnnotations());
     }
 
+    @Override
+    public <A extends Annotation> A annotation(Class<A> annotationClass) {
+        return source.getDeclaredAnnotation(annotationClass);
+    }
+
+    @Override
+    public <A extends Annotation> A materializedAnnotation(Class<A> annotationClass) {
+        return AnnotationGenerator.getInstance().generateAnnotation(source, annotationClass);
+    }
+
     @Override
     public UnreflectType type() {
         return UnreflectType.of(source);
@@ -1,20 +1,29 @@
 package dev.klepto.unreflect.reflection;
 
-import dev.klepto.unreflect.bytecode.asm.AccessorGenerator;
+import dev.klepto.unreflect.bytecode.asm.AnnotationGenerator;
+import dev.klepto.unreflect.bytecode.asm.FunctionalGenerator;
+import dev.klepto.unreflect.bytecode.asm.HandleGenerator;
+import dev.klepto.unreflect.engine.AccessEngine;
+import dev.klepto.unreflect.engine.AccessEngines;
 import dev.klepto.unreflect.property.Reflectable;
 import dev.klepto.unreflect.bytecode.BytecodeMethodAccess;
 import dev.klepto.unreflect.UnreflectType;
 import dev.klepto.unreflect.MethodAccess;
 import dev.klepto.unreflect.ParameterAccess;
+import dev.klepto.unreflect.util.MemberTable;
 import dev.klepto.unreflect.util.Parameters;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.With;
 import lombok.val;
+import lombok.experimental.Accessors;
 import one.util.streamex.StreamEx;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
+import java.util.List;
 
 /**
  * Reflection-based implementation of {@link MethodAccess}.
@@ -28,12 +37,18 @@ public class ReflectionMethodAccess implements MethodAccess {
     private final Reflectable parent;
     private final Method source;
     private final Object object;
+    @Getter(lazy = true)
+    @Accessors(fluent = true)
+    private final List<ParameterAccess> parameterList = parameters().toImmutableList();
 
     @Override
-    @SneakyThrows
     public MethodAccess unreflect() {
-        val accessor = AccessorGenerator.getInstance().generateInvokableAccessor(source);
-        return new BytecodeMethodAccess(this, accessor);
+        return unreflect(AccessEngines.getMethodDefault());
+    }
+
+    @Override
+    public MethodAccess unreflect(AccessEngine engine) {
+        return new BytecodeMethodAccess(this, engine.methodAccessor(source));
     }
 
     @Override
@@ -46,6 +61,16 @@ public class ReflectionMethodAccess implements MethodAccess {
         return withObject(object);
     }
 
+    @Override
+    public <I> I as(Class<I> functionalInterface) {
+        return FunctionalGenerator.getInstance().generateMethod(source, functionalInterface, object);
+    }
+
+    @Override
+    public MethodHandle toMethodHandle() {
+        return HandleGenerator.getInstance().toMethodHandle(source);
+    }
+
     @Override
     public int modifiers() {
         return source.getModifiers();
@@ -53,7 +78,7 @@ public class ReflectionMethodAccess implements MethodAccess {
 
     @Override
     public StreamEx<ParameterAccess> parameters() {
-        return StreamEx.of(source.getParameters())
+        return StreamEx.of(MemberTable.parameters(source))
                 .map(parameter -> new ReflectionParameterAccess(this, parameter));
     }
 
@@ -73,6 +98,16 @@ public class ReflectionMethodAccess implements MethodAccess {
         return StreamEx.of(source.getAnnotations());
     }
 
+    @Override
+    public <A extends Annotation> A annotation(Class<A> annotationClass) {
+        return source.getDeclaredAnnotation(annotationClass);
+    }
+
+    @Override
+    public <A extends Annotation> A materializedAnnotation(Class<A> annotationClass) {
+        return AnnotationGenerator.getInstance().generateAnnotation(source, annotationClass);
+    }
+
     @Override
     public UnreflectType type() {
         return UnreflectType.of(source);
@@ -94,7 +129,7 @@ public class ReflectionMethodAccess implements MethodAccess {
 
     @Override
     public String toString() {
-        val signature = type().toClass().getSimpleName() + " " + name() + Parameters.toString(parameters().toList());
+        val signature = type().toClass().getSimpleName() + " " + name() + Parameters.toString(parameterList());
         return isStatic() ? "static " + signature : signature;
     }
 
@@ -1,5 +1,6 @@
 package dev.klepto.unreflect.reflection;
 
+import dev.klepto.unreflect.bytecode.asm.AnnotationGenerator;
 import dev.klepto.unreflect.*;
 import dev.klepto.unreflect.property.Reflectable;
 import lombok.RequiredArgsConstructor;
@@ -49,6 +50,16 @@ public class ReflectionParameterAccess implements ParameterAccess {
         return StreamEx.of(source.getDeclaredAnnotations());
     }
 
+    @Override
+    public <A extends Annotation> A annotation(Class<A> annotationClass) {
+        return source.getDeclaredAnnotation(annotationClass);
+    }
+
+    @Override
+    public <A extends Annotation> A materializedAnnotation(Class<A> annotationClass) {
+        return AnnotationGenerator.getInstance().generateAnnotation(source, annotationClass);
+    }
+
     @Override
     public UnreflectType type() {
         return UnreflectType.of(source);
@@ -0,0 +1,108 @@
+package dev.klepto.unreflect.util;
+
+import lombok.val;
+import one.util.streamex.StreamEx;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Registry of class-keyed caches. Caches are stored in {@link ClassValue} and die together with the class loader of
+ * the class, registry keeps track of cached classes weakly, enabling explicit eviction of a single class or all
+ * classes of a class loader (e.g. before unloading a plugin), without pinning any classes or class loaders.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public final class Caches {
+
+    private static final Set<Class<?>> classes = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final List<Consumer<Class<?>>> evictors = new CopyOnWriteArrayList<>();
+    private static final List<Consumer<ClassLoader>> loaderEvictors = new CopyOnWriteArrayList<>();
+
+    private Caches() {
+    }
+
+    /**
+     * Registers a class that has a cached value, must be called when computing a cached value of a class.
+     *
+     * @param type the cached class
+     */
+    public static void register(Class<?> type) {
+        synchronized (classes) {
+            classes.add(type);
+        }
+    }
+
+    /**
+     * Registers an eviction callback of a cache, callback is called with every evicted class.
+     *
+     * @param evictor the class eviction callback
+     */
+    public static void onEvict(Consumer<Class<?>> evictor) {
+        evictors.add(evictor);
+    }
+
+    /**
+     * Registers an eviction callback of a cache, callback is called with every evicted class loader. Used by caches
+     * that store classes of other class loaders in values of cached classes.
+     *
+     * @param evictor the class loader eviction callback
+     */
+    public static void onEvictAll(Consumer<ClassLoader> evictor) {
+        loaderEvictors.add(evictor);
+    }
+
+    /**
+     * Evicts all cached values of a given class.
+     *
+     * @param type the class
+     */
+    public static void evict(Class<?> type) {
+        synchronized (classes) {
+            classes.remove(type);
+        }
+        for (val evictor : evictors) {
+            evictor.accept(type);
+        }
+    }
+
+    /**
+     * Evicts all cached values of classes loaded by a given class loader or any of its child class loaders.
+     *
+     * @param classLoader the class loader
+     */
+    public static void evictAll(ClassLoader classLoader) {
+        List<Class<?>> evicted;
+        synchronized (classes) {
+            evicted = StreamEx.of(classes).filter(type -> isLoadedBy(type, classLoader)).toList();
+        }
+        evicted.forEach(Caches::evict);
+        for (val evictor : loaderEvictors) {
+            evictor.accept(classLoader);
+        }
+    }
+
+    /**
+     * Checks if a given class is loaded by a given class loader or any of its child class loaders.
+     *
+     * @param type        the class
+     * @param classLoader the class loader
+     * @return true if class is loaded by a given class loader or its child class loader
+     */
+    public static boolean isLoadedBy(Class<?> type, ClassLoader classLoader) {
+        if (classLoader == null) {
+            return true;
+        }
+        for (ClassLoader loader = type.getClassLoader(); loader != null; loader = loader.getParent()) {
+            if (loader == classLoader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
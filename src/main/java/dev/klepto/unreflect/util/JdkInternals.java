@@ -1,16 +1,20 @@
 package dev.klepto.unreflect.util;
 
-import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.val;
 import sun.misc.Unsafe;
 
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 
 /**
  * A set of very unsafe JDK utility methods. The heavy usage of internal JDK API means that this not guaranteed to work
  * on all versions of JDK and might break with future versions. Use with caution.
+ * <p>
+ * APIs that are missing from some JDK versions (MagicAccessorImpl and ClassDefiner are removed in recent JDKs, hidden
+ * classes are only available since JDK 15) are detected lazily, so that library can pick whichever is available.
  *
  * @author <a href="http://github.com/klepto">Augustinas R.</a>
  */
@@ -18,16 +22,24 @@ public class JdkInternals {
 
     private static final Unsafe unsafe;
     private static final int accessibleFlagIndex;
-    @Getter private static final Class<?> magicAccessorImpl;
+    private static final Class<?> magicAccessorImpl;
     private static final Class<?> classDefiner;
     private static final Method defineClassMethod;
+    private static final MethodHandles.Lookup trustedLookup;
+    private static final Method privateLookupInMethod;
+    private static final Method defineHiddenClassMethod;
+    private static final Object hiddenClassOptions;
 
     static {
-        unsafe = getUnsafe();
+        unsafe = findUnsafe();
         accessibleFlagIndex = findAccessibleFlagIndex();
         magicAccessorImpl = findMagicAccessorImpl();
         classDefiner = findClassDefiner();
         defineClassMethod = getDefineClassMethod();
+        trustedLookup = findTrustedLookup();
+        privateLookupInMethod = findPrivateLookupInMethod();
+        defineHiddenClassMethod = findDefineHiddenClassMethod();
+        hiddenClassOptions = getHiddenClassOptions();
     }
 
     private JdkInternals() {
@@ -52,7 +64,7 @@ public class JdkInternals {
     }
 
     @SneakyThrows
-    private static Unsafe getUnsafe() {
+    private static Unsafe findUnsafe() {
         try {
             val theUnsafeField = Unsafe.class.getDeclaredField("theUnsafe");
             theUnsafeField.setAccessible(true);
@@ -75,19 +87,35 @@ public class JdkInternals {
         if (classDefiner == null) {
             classDefiner = getClass("sun.reflect.ClassDefiner");
         }
-        if (classDefiner == null) {
-            throw new RuntimeException("Couldn't detect ClassDefiner in current JDK version.");
-        }
         return classDefiner;
     }
 
     private static Method getDefineClassMethod() {
+        if (classDefiner == null) {
+            return null;
+        }
         try {
             val method = classDefiner.getDeclaredMethods()[0];
             setAccessible(method, true);
             return method;
         } catch (Throwable err) {
-            throw new RuntimeException("Couldn't detect defineClass method in current JDK version.");
+            return null;
+        }
+    }
+
+    private static Method findInjectClassMethod() {
+        try {
+            val method = ClassLoader.class.getDeclaredMethod(
+                    "defineClass",
+                    String.class,
+                    byte[].class,
+                    int.class,
+                    int.class
+            );
+            setAccessible(method, true);
+            return method;
+        } catch (Throwable err) {
+            return null;
         }
     }
 
@@ -96,12 +124,128 @@ public class JdkInternals {
         if (magicAccessorImpl == null) {
             magicAccessorImpl = getClass("sun.reflect.MagicAccessorImpl");
         }
-        if (magicAccessorImpl == null) {
-            throw new RuntimeException("Couldn't detect MagicAccessorImpl in current JDK version.");
+        return magicAccessorImpl;
+    }
+
+    private static MethodHandles.Lookup findTrustedLookup() {
+        try {
+            val field = MethodHandles.Lookup.class.getDeclaredField("IMPL_LOOKUP");
+            return (MethodHandles.Lookup) unsafe.getObject(
+                    unsafe.staticFieldBase(field),
+                    unsafe.staticFieldOffset(field)
+            );
+        } catch (Throwable err) {
+            return null;
+        }
+    }
+
+    private static Method findPrivateLookupInMethod() {
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        } catch (Throwable err) {
+            return null;
+        }
+    }
+
+    private static Method findDefineHiddenClassMethod() {
+        val classOption = getClass("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+        if (classOption == null) {
+            return null;
+        }
+        try {
+            val optionsType = Array.newInstance(classOption, 0).getClass();
+            return MethodHandles.Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class, optionsType);
+        } catch (Throwable err) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object getHiddenClassOptions() {
+        if (defineHiddenClassMethod == null) {
+            return null;
         }
+        val classOption = (Class<Enum>) defineHiddenClassMethod.getParameterTypes()[2].getComponentType();
+        val options = Array.newInstance(classOption, 1);
+        Array.set(options, 0, Enum.valueOf(classOption, "NESTMATE"));
+        return options;
+    }
+
+    /**
+     * Returns the JDK's internal MagicAccessorImpl class, subclasses of which bypass access checks and verification.
+     *
+     * @return the MagicAccessorImpl class, or null if current JDK version doesn't have it
+     */
+    public static Class<?> getMagicAccessorImpl() {
         return magicAccessorImpl;
     }
 
+    /**
+     * Checks if classes can be defined by {@link #defineClass(ClassLoader, String, byte[])} in current JDK version.
+     *
+     * @return true if MagicAccessorImpl and ClassDefiner are available
+     */
+    public static boolean isClassDefinerSupported() {
+        return magicAccessorImpl != null && defineClassMethod != null;
+    }
+
+    /**
+     * Checks if classes can be injected by {@link #injectClass(ClassLoader, String, byte[])} in current JDK version.
+     * {@code ClassLoader#defineClass} is only resolved once injection is requested, so that library doesn't depend on
+     * it unless classes are injected.
+     *
+     * @return true if {@code ClassLoader#defineClass} is accessible
+     */
+    public static boolean isClassInjectionSupported() {
+        return ClassInjector.injectClassMethod != null;
+    }
+
+    /**
+     * Checks if hidden classes can be defined by {@link #defineHiddenClass(Class, byte[])} in current JDK version.
+     *
+     * @return true if hidden classes are available (JDK 15 and newer)
+     */
+    public static boolean isHiddenClassSupported() {
+        return defineHiddenClassMethod != null && isPrivateLookupSupported();
+    }
+
+    /**
+     * Checks if lookups with private access can be acquired by {@link #privateLookupIn(Class)} in current JDK version.
+     *
+     * @return true if trusted lookup or {@code MethodHandles.privateLookupIn} is available
+     */
+    public static boolean isPrivateLookupSupported() {
+        return trustedLookup != null || privateLookupInMethod != null;
+    }
+
+    /**
+     * Returns a lookup with full privilege access to a given class. Uses the JDK's internal trusted lookup when it's
+     * accessible, otherwise {@code MethodHandles.privateLookupIn}, which requires the package of the class to be open
+     * to unreflect.
+     *
+     * @param type the lookup class
+     * @return the lookup with private access to a given class
+     */
+    @SneakyThrows
+    public static MethodHandles.Lookup privateLookupIn(Class<?> type) {
+        if (trustedLookup != null) {
+            return trustedLookup.in(type);
+        }
+        if (privateLookupInMethod == null) {
+            throw new RuntimeException("Couldn't acquire private lookup in current JDK version.");
+        }
+        return (MethodHandles.Lookup) privateLookupInMethod.invoke(null, type, MethodHandles.lookup());
+    }
+
+    /**
+     * Returns the {@link Unsafe} instance, giving direct access to memory of objects and static fields.
+     *
+     * @return the unsafe
+     */
+    public static Unsafe getUnsafe() {
+        return unsafe;
+    }
+
     /**
      * Checks if reflection object is accessible ({@link AccessibleObject#setAccessible(boolean)}) using Unsafe API.
      * Since accessible flag is private property, this accesses memory directly to acquire the boolean.
@@ -148,6 +292,9 @@ public class JdkInternals {
      */
     @SneakyThrows
     public static Class<?> defineClass(ClassLoader classLoader, String name, byte[] bytecode) {
+        if (!isClassDefinerSupported()) {
+            throw new RuntimeException("Couldn't detect ClassDefiner in current JDK version.");
+        }
         return (Class<?>) defineClassMethod.invoke(
                 null,
                 name,
@@ -158,4 +305,54 @@ public class JdkInternals {
         );
     }
 
+    /**
+     * Defines a class directly in the target {@link ClassLoader}, as if the class was loaded by the class loader
+     * itself. Unlike {@link #defineClass(ClassLoader, String, byte[])}, the defined class is a regular class of the
+     * target class loader, it is verified and can reference itself and package-private classes of its package. Classes
+     * cannot be injected into the bootstrap class loader.
+     *
+     * @param classLoader the target class loader
+     * @param name        the name of the class
+     * @param bytecode    the class bytecode
+     * @return the loaded class
+     */
+    @SneakyThrows
+    public static Class<?> injectClass(ClassLoader classLoader, String name, byte[] bytecode) {
+        if (!isClassInjectionSupported()) {
+            throw new RuntimeException("Couldn't detect ClassLoader#defineClass method in current JDK version.");
+        }
+        return (Class<?>) ClassInjector.injectClassMethod.invoke(classLoader, name, bytecode, 0, bytecode.length);
+    }
+
+    /**
+     * Defines a hidden class as a nestmate of a given host class. Hidden class is defined in the class loader and
+     * package of the host, can access private members of the nest of the host and is unloaded together with the host
+     * once it is no longer referenced. Class name in the bytecode must be in the package of the host class.
+     *
+     * @param host     the nest host
+     * @param bytecode the class bytecode
+     * @return the defined hidden class
+     */
+    @SneakyThrows
+    public static Class<?> defineHiddenClass(Class<?> host, byte[] bytecode) {
+        if (!isHiddenClassSupported()) {
+            throw new RuntimeException("Couldn't detect hidden class support in current JDK version.");
+        }
+        val lookup = privateLookupIn(host);
+        val hiddenLookup = (MethodHandles.Lookup) defineHiddenClassMethod.invoke(
+                lookup,
+                bytecode,
+                false,
+                hiddenClassOptions
+        );
+        return hiddenLookup.lookupClass();
+    }
+
+    /**
+     * Holder of {@code ClassLoader#defineClass}, resolved on first class injection.
+     */
+    private static class ClassInjector {
+        private static final Method injectClassMethod = findInjectClassMethod();
+    }
+
 }
@@ -0,0 +1,188 @@
+package dev.klepto.unreflect.util;
+
+import lombok.val;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Cache of values generated per member, such as accessors of an access engine. Values are stored in a
+ * {@link ClassValue} of the declaring class and are evicted through {@link Caches} together with other cached values
+ * of the class. Every member cache can be bounded by {@link #setLimit(int)}, in which case the least recently used
+ * values are evicted once the limit is exceeded.
+ * <p>
+ * Recently used values are tracked by weak references to their members, so that tracking never keeps members, their
+ * declaring classes or class loaders alive.
+ *
+ * @param <V> the cached value type
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public final class MemberCache<V> {
+
+    private static final Set<MemberCache<?>> caches = Collections.newSetFromMap(new WeakHashMap<>());
+    private static volatile int limit;
+
+    private final ClassValue<Map<Member, Entry<V>>> values = new ClassValue<Map<Member, Entry<V>>>() {
+        @Override
+        protected Map<Member, Entry<V>> computeValue(Class<?> type) {
+            Caches.register(type);
+            synchronized (types) {
+                types.add(type);
+            }
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private final Set<Class<?>> types = Collections.newSetFromMap(new WeakHashMap<>());
+    private final ReferenceQueue<Member> collectedMembers = new ReferenceQueue<>();
+    private final Map<MemberReference, Boolean> recentMembers = new LinkedHashMap<>(16, 0.75f, true);
+
+    public MemberCache() {
+        Caches.onEvict(this::evict);
+        synchronized (caches) {
+            caches.add(this);
+        }
+    }
+
+    /**
+     * Limits the amount of values in every member cache. Once the limit is exceeded, the least recently used value is
+     * evicted from the cache and is generated again on the next request. Values that are already in use remain valid
+     * after eviction. Values cached before the limit is set count towards the limit as well.
+     *
+     * @param maxSize the maximum amount of values per cache, or 0 for unbounded caches
+     */
+    public static void setLimit(int maxSize) {
+        checkArgument(maxSize >= 0, "Cache limit cannot be negative.");
+        List<MemberCache<?>> limited;
+        synchronized (caches) {
+            limit = maxSize;
+            limited = new ArrayList<>(caches);
+        }
+        limited.forEach(cache -> cache.trim(maxSize));
+    }
+
+    /**
+     * Returns the cached value of a given member, generating it if member has no value yet.
+     *
+     * @param member    the member
+     * @param generator the value generator
+     * @return the cached value
+     */
+    public V get(Member member, Function<Member, V> generator) {
+        val entry = values.get(member.getDeclaringClass()).computeIfAbsent(
+                member,
+                key -> new Entry<>(generator.apply(key), new MemberReference(key, collectedMembers))
+        );
+        val maxSize = limit;
+        if (maxSize > 0) {
+            synchronized (recentMembers) {
+                recentMembers.put(entry.reference, Boolean.TRUE);
+                evictEldest(maxSize);
+            }
+        }
+        return entry.value;
+    }
+
+    /**
+     * Checks if a given member has a cached value.
+     *
+     * @param member the member
+     * @return true if member has a cached value
+     */
+    public boolean contains(Member member) {
+        return values.get(member.getDeclaringClass()).containsKey(member);
+    }
+
+    private void trim(int maxSize) {
+        synchronized (recentMembers) {
+            if (maxSize == 0) {
+                recentMembers.clear();
+                return;
+            }
+
+            // Values cached while the cache was unbounded aren't tracked yet, they're treated as least recently used.
+            List<Class<?>> cachedTypes;
+            synchronized (types) {
+                cachedTypes = new ArrayList<>(types);
+            }
+            val untracked = new ArrayList<MemberReference>();
+            for (val type : cachedTypes) {
+                for (val entry : values.get(type).values()) {
+                    if (!recentMembers.containsKey(entry.reference)) {
+                        untracked.add(entry.reference);
+                    }
+                }
+            }
+            val tracked = new ArrayList<MemberReference>(recentMembers.keySet());
+            recentMembers.clear();
+            untracked.forEach(reference -> recentMembers.put(reference, Boolean.TRUE));
+            tracked.forEach(reference -> recentMembers.put(reference, Boolean.TRUE));
+            evictEldest(maxSize);
+        }
+    }
+
+    private void evictEldest(int maxSize) {
+        Reference<? extends Member> collected;
+        while ((collected = collectedMembers.poll()) != null) {
+            recentMembers.remove(collected);
+        }
+
+        val iterator = recentMembers.keySet().iterator();
+        while (recentMembers.size() > maxSize) {
+            val member = iterator.next().get();
+            iterator.remove();
+            if (member != null) {
+                values.get(member.getDeclaringClass()).remove(member);
+            }
+        }
+    }
+
+    private void evict(Class<?> type) {
+        values.remove(type);
+        synchronized (types) {
+            types.remove(type);
+        }
+        synchronized (recentMembers) {
+            recentMembers.keySet().removeIf(reference -> {
+                val member = reference.get();
+                return member == null || member.getDeclaringClass() == type;
+            });
+        }
+    }
+
+    /**
+     * Cached value of a member, together with the reference that tracks recent use of the member.
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private final MemberReference reference;
+
+        private Entry(V value, MemberReference reference) {
+            this.value = value;
+            this.reference = reference;
+        }
+    }
+
+    /**
+     * Weak reference to a cached member. References are compared by identity, every cached value has its own
+     * reference.
+     */
+    private static final class MemberReference extends WeakReference<Member> {
+        private MemberReference(Member member, ReferenceQueue<Member> queue) {
+            super(member, queue);
+        }
+    }
+
+}
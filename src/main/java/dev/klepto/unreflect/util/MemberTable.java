@@ -0,0 +1,449 @@
+package dev.klepto.unreflect.util;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.MapMaker;
+import dev.klepto.unreflect.UnreflectType;
+import lombok.val;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable table of class members. Member table is computed once per class and is shared between all class accessors
+ * of that class, which means that class hierarchy is walked, member arrays are copied and members are made accessible
+ * only once. Tables are stored in a {@link ClassValue}, making lookup lock-free.
+ *
+ * @author <a href="http://github.com/klepto">Augustinas R.</a>
+ */
+public final class MemberTable {
+
+    private static final ClassValue<MemberTable> tables = new ClassValue<MemberTable>() {
+        @Override
+        protected MemberTable computeValue(Class<?> type) {
+            Caches.register(type);
+            val table = new MemberTable(type);
+            synchronized (resolvingTables) {
+                resolvingTables.add(table);
+            }
+            return table;
+        }
+    };
+    private static final Set<MemberTable> resolvingTables = Collections.newSetFromMap(new WeakHashMap<>());
+
+    static {
+        Caches.onEvict(tables::remove);
+        Caches.onEvictAll(MemberTable::evictResolutions);
+    }
+
+    private final Class<?> source;
+    private final int modifiers;
+    private final ImmutableList<Constructor<?>> constructors;
+    private final ImmutableList<Field> declaredFields;
+    private final ImmutableList<Method> declaredMethods;
+    private final ImmutableMap<Executable, ImmutableList<Parameter>> parameters;
+    private volatile ImmutableList<Class<?>> hierarchy;
+    private volatile ImmutableList<Field> fields;
+    private volatile ImmutableList<Method> methods;
+    private volatile ImmutableMap<String, Field> fieldIndex;
+    private volatile ImmutableMap<Field, Integer> fieldSlots;
+    private volatile ImmutableListMultimap<String, Method> methodIndex;
+    private volatile AnnotationIndex annotationIndex;
+    private volatile Resolutions resolutions = new Resolutions();
+
+    private MemberTable(Class<?> source) {
+        this.source = source;
+        this.modifiers = source.getModifiers();
+        this.constructors = accessible(source.getDeclaredConstructors());
+        this.declaredFields = accessible(source.getDeclaredFields());
+        this.declaredMethods = accessible(source.getDeclaredMethods());
+
+        val parameters = ImmutableMap.<Executable, ImmutableList<Parameter>>builder();
+        for (val constructor : constructors) {
+            parameters.put(constructor, ImmutableList.copyOf(constructor.getParameters()));
+        }
+        for (val method : declaredMethods) {
+            parameters.put(method, ImmutableList.copyOf(method.getParameters()));
+        }
+        this.parameters = parameters.build();
+    }
+
+    /**
+     * Returns the member table of a given class.
+     *
+     * @param type the class
+     * @return the member table of a given class
+     */
+    public static MemberTable of(Class<?> type) {
+        return tables.get(type);
+    }
+
+    /**
+     * Returns the parameters of a given constructor or method. Parameters are resolved from the member table of the
+     * declaring class.
+     *
+     * @param executable the constructor or method
+     * @return an immutable list of parameters
+     */
+    public static ImmutableList<Parameter> parameters(Executable executable) {
+        val parameters = of(executable.getDeclaringClass()).parameters.get(executable);
+        return parameters != null ? parameters : ImmutableList.copyOf(executable.getParameters());
+    }
+
+    /**
+     * Returns the class that this member table represents.
+     *
+     * @return the represented class
+     */
+    public Class<?> source() {
+        return source;
+    }
+
+    /**
+     * Returns the modifiers of the represented class.
+     *
+     * @return the class modifiers
+     */
+    public int modifiers() {
+        return modifiers;
+    }
+
+    /**
+     * Returns all constructors declared by the represented class.
+     *
+     * @return an immutable list of declared constructors
+     */
+    public ImmutableList<Constructor<?>> constructors() {
+        return constructors;
+    }
+
+    /**
+     * Returns all fields declared by the represented class, excluding fields of superclasses and interfaces.
+     *
+     * @return an immutable list of declared fields
+     */
+    public ImmutableList<Field> declaredFields() {
+        return declaredFields;
+    }
+
+    /**
+     * Returns all methods declared by the represented class, excluding methods of superclasses and interfaces.
+     *
+     * @return an immutable list of declared methods
+     */
+    public ImmutableList<Method> declaredMethods() {
+        return declaredMethods;
+    }
+
+    /**
+     * Returns all fields of the represented class, including fields of all superclasses and interfaces. Fields are
+     * ordered by the class hierarchy, starting with fields of the represented class.
+     *
+     * @return an immutable list of fields in the class hierarchy
+     */
+    public ImmutableList<Field> fields() {
+        ImmutableList<Field> result = fields;
+        if (result == null) {
+            val builder = ImmutableList.<Field>builder();
+            for (val type : hierarchy()) {
+                builder.addAll(of(type).declaredFields);
+            }
+            fields = result = builder.build();
+        }
+        return result;
+    }
+
+    /**
+     * Returns all methods of the represented class, including methods of all superclasses and interfaces. Methods are
+     * ordered by the class hierarchy, starting with methods of the represented class.
+     *
+     * @return an immutable list of methods in the class hierarchy
+     */
+    public ImmutableList<Method> methods() {
+        ImmutableList<Method> result = methods;
+        if (result == null) {
+            val builder = ImmutableList.<Method>builder();
+            for (val type : hierarchy()) {
+                builder.addAll(of(type).declaredMethods);
+            }
+            methods = result = builder.build();
+        }
+        return result;
+    }
+
+    /**
+     * Returns a field by name, or null if field by given name doesn't exist in the class hierarchy. Fields are indexed
+     * in the order of {@link #fields()}, so fields of the represented class shadow fields with the same name declared
+     * by superclasses and interfaces.
+     *
+     * @param name the field name
+     * @return the field with a given name, or null if field is not found
+     */
+    public Field field(String name) {
+        ImmutableMap<String, Field> result = fieldIndex;
+        if (result == null) {
+            val index = new HashMap<String, Field>();
+            for (val field : fields()) {
+                index.putIfAbsent(field.getName(), field);
+            }
+            fieldIndex = result = ImmutableMap.copyOf(index);
+        }
+        return result.get(name);
+    }
+
+    /**
+     * Returns the index of a field in {@link #fields()}. Indices are computed once per table, so looking up slots of
+     * all fields takes linear time.
+     *
+     * @param field the field
+     * @return the index of a given field, or -1 if field is not in the class hierarchy
+     */
+    public int fieldSlot(Field field) {
+        ImmutableMap<Field, Integer> result = fieldSlots;
+        if (result == null) {
+            val slots = ImmutableMap.<Field, Integer>builder();
+            val fields = fields();
+            for (int slot = 0; slot < fields.size(); slot++) {
+                slots.put(fields.get(slot), slot);
+            }
+            fieldSlots = result = slots.build();
+        }
+        return result.getOrDefault(field, -1);
+    }
+
+    /**
+     * Returns all methods with a given name in the class hierarchy. Methods are ordered the same way as in
+     * {@link #methods()}, so methods of the represented class precede methods of superclasses and interfaces.
+     *
+     * @param name the method name
+     * @return an immutable list of methods with a given name, or an empty list if no methods are found
+     */
+    public ImmutableList<Method> methods(String name) {
+        ImmutableListMultimap<String, Method> result = methodIndex;
+        if (result == null) {
+            val index = ImmutableListMultimap.<String, Method>builder();
+            for (val method : methods()) {
+                index.put(method.getName(), method);
+            }
+            methodIndex = result = index.build();
+        }
+        return result.get(name);
+    }
+
+    /**
+     * Resolves the first constructor that accepts given parameter values or parameter types. Resolution result is
+     * cached by argument classes, so subsequent lookups with arguments of the same classes are a single map lookup
+     * per argument.
+     *
+     * @param argsOrTypes an array of parameter values or parameter types
+     * @return the first matching constructor, or null if constructor is not found
+     * @see Parameters#matches(Executable, Class[])
+     */
+    public Constructor<?> constructor(Object[] argsOrTypes) {
+        return (Constructor<?>) resolve(resolutions.constructors, constructors, Parameters.types(argsOrTypes));
+    }
+
+    /**
+     * Resolves the first method that has a given name and accepts given parameter values or parameter types. Resolution
+     * result is cached by method name and argument classes.
+     *
+     * @param name        the method name, or null to match methods of any name
+     * @param argsOrTypes an array of parameter values or parameter types
+     * @return the first matching method, or null if method is not found
+     * @see Parameters#matches(Executable, Class[])
+     */
+    public Method method(String name, Object[] argsOrTypes) {
+        val types = Parameters.types(argsOrTypes);
+        if (name == null) {
+            return (Method) resolve(resolutions.methods, methods(), types);
+        }
+        val resolution = resolutions.namedMethods.computeIfAbsent(name, key -> new Resolution());
+        return (Method) resolve(resolution, methods(name), types);
+    }
+
+    private static void evictResolutions(ClassLoader classLoader) {
+        List<MemberTable> tables;
+        synchronized (resolvingTables) {
+            tables = new ArrayList<>(resolvingTables);
+        }
+        for (val table : tables) {
+            table.resolutions = new Resolutions();
+        }
+    }
+
+    private static Executable resolve(Resolution root, List<? extends Executable> candidates, Class<?>[] types) {
+        Resolution resolution = root;
+        for (val type : types) {
+            if (type == null) {
+                // Null arguments never match, no need to cache.
+                return null;
+            }
+            resolution = resolution.get(type);
+        }
+
+        Optional<Executable> result = resolution.result;
+        if (result == null) {
+            resolution.result = result = findFirst(candidates, types);
+        }
+        return result.orElse(null);
+    }
+
+    private static Optional<Executable> findFirst(List<? extends Executable> candidates, Class<?>[] types) {
+        for (val candidate : candidates) {
+            if (Parameters.matches(candidate, types)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns all fields in the class hierarchy that are annotated with a given annotation.
+     *
+     * @param annotationClass the annotation type
+     * @return an immutable list of annotated fields, ordered the same way as in {@link #fields()}
+     */
+    public ImmutableList<Field> fieldsAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return annotationIndex().fields.get(annotationClass);
+    }
+
+    /**
+     * Returns all methods in the class hierarchy that are annotated with a given annotation.
+     *
+     * @param annotationClass the annotation type
+     * @return an immutable list of annotated methods, ordered the same way as in {@link #methods()}
+     */
+    public ImmutableList<Method> methodsAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return annotationIndex().methods.get(annotationClass);
+    }
+
+    /**
+     * Returns all constructors of the represented class that are annotated with a given annotation.
+     *
+     * @param annotationClass the annotation type
+     * @return an immutable list of annotated constructors
+     */
+    public ImmutableList<Constructor<?>> constructorsAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return annotationIndex().constructors.get(annotationClass);
+    }
+
+    /**
+     * Returns all parameters of constructors and methods in the class hierarchy that are annotated with a given
+     * annotation.
+     *
+     * @param annotationClass the annotation type
+     * @return an immutable list of annotated parameters
+     */
+    public ImmutableList<Parameter> parametersAnnotatedWith(Class<? extends Annotation> annotationClass) {
+        return annotationIndex().parameters.get(annotationClass);
+    }
+
+    private AnnotationIndex annotationIndex() {
+        AnnotationIndex result = annotationIndex;
+        if (result == null) {
+            annotationIndex = result = new AnnotationIndex(this);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the class hierarchy of the represented class, starting with the represented class itself, followed by
+     * superclasses and interfaces. Member tables of the classes in the hierarchy are only computed once they are
+     * requested, so walking the hierarchy level by level doesn't touch members of classes that are never reached.
+     *
+     * @return an immutable list of classes in the class hierarchy
+     */
+    public ImmutableList<Class<?>> hierarchy() {
+        ImmutableList<Class<?>> result = hierarchy;
+        if (result == null) {
+            hierarchy = result = UnreflectType.of(source).subTypes()
+                    .<Class<?>>map(UnreflectType::toClass)
+                    .toListAndThen(ImmutableList::copyOf);
+        }
+        return result;
+    }
+
+    private static <T extends AccessibleObject> ImmutableList<T> accessible(T[] members) {
+        for (val member : members) {
+            JdkInternals.setAccessible(member, true);
+        }
+        return ImmutableList.copyOf(members);
+    }
+
+    private static class AnnotationIndex {
+
+        private final ImmutableListMultimap<Class<? extends Annotation>, Field> fields;
+        private final ImmutableListMultimap<Class<? extends Annotation>, Method> methods;
+        private final ImmutableListMultimap<Class<? extends Annotation>, Constructor<?>> constructors;
+        private final ImmutableListMultimap<Class<? extends Annotation>, Parameter> parameters;
+
+        private AnnotationIndex(MemberTable table) {
+            this.fields = index(table.fields());
+            this.methods = index(table.methods());
+            this.constructors = index(table.constructors);
+
+            val parameters = ImmutableListMultimap.<Class<? extends Annotation>, Parameter>builder();
+            for (val constructor : table.constructors) {
+                parameters.putAll(index(parameters(constructor)));
+            }
+            for (val method : table.methods()) {
+                parameters.putAll(index(parameters(method)));
+            }
+            this.parameters = parameters.build();
+        }
+
+        private static <T extends AnnotatedElement> ImmutableListMultimap<Class<? extends Annotation>, T> index(
+                Iterable<T> elements) {
+            val index = ImmutableListMultimap.<Class<? extends Annotation>, T>builder();
+            for (val element : elements) {
+                for (val annotation : element.getDeclaredAnnotations()) {
+                    index.put(annotation.annotationType(), element);
+                }
+            }
+            return index.build();
+        }
+
+    }
+
+    /**
+     * Overload resolutions of a member table, grouped by member kind and name.
+     */
+    private static class Resolutions {
+        private final Resolution constructors = new Resolution();
+        private final Resolution methods = new Resolution();
+        private final Map<String, Resolution> namedMethods = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Node of an overload resolution tree. Every argument class descends one level of the tree, nodes of the next level
+     * are stored in a map of this node that holds argument classes weakly. Resolution tree is only reachable from the
+     * member table of the resolved class and never stores anything in argument classes, so cached resolutions neither
+     * keep argument classes loaded nor make argument classes keep the resolved class loaded.
+     */
+    private static class Resolution {
+        private final Map<Class<?>, Resolution> children = new MapMaker().weakKeys().makeMap();
+        private volatile Optional<Executable> result;
+
+        Resolution get(Class<?> type) {
+            val child = children.get(type);
+            return child != null ? child : children.computeIfAbsent(type, key -> new Resolution());
+        }
+    }
+
+}
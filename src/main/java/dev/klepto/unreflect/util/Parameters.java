@@ -6,6 +6,7 @@ import dev.klepto.unreflect.property.Invokable;
 import lombok.val;
 import one.util.streamex.StreamEx;
 
+import java.lang.reflect.Executable;
 import java.util.Collection;
 
 /**
@@ -27,7 +28,7 @@ public class Parameters {
      * @return true if invokable parameters match given parameter values or types
      */
     public static boolean matches(Invokable invokable, Object[] args) {
-        val parameters = invokable.parameters().toList();
+        val parameters = invokable.parameterList();
         if (parameters.size() != args.length) {
             return false;
         }
@@ -42,6 +43,45 @@ public class Parameters {
         return true;
     }
 
+    /**
+     * Matches argument types with parameter types of a given constructor or method. Unlike
+     * {@link #matches(Invokable, Object[])}, this doesn't allocate parameter accessors.
+     *
+     * @param executable    the constructor or method
+     * @param argumentTypes an array of argument types, null elements never match
+     * @return true if executable parameters match given argument types
+     */
+    public static boolean matches(Executable executable, Class<?>[] argumentTypes) {
+        if (executable.getParameterCount() != argumentTypes.length) {
+            return false;
+        }
+
+        val parameterTypes = executable.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            val argumentType = argumentTypes[i];
+            if (argumentType == null || !UnreflectType.of(argumentType).matches(parameterTypes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts parameter values or parameter types into an array of classes, used as a lookup key for overload
+     * resolution. Null values are converted to null classes.
+     *
+     * @param argsOrTypes an array of parameter values or parameter types
+     * @return an array of argument classes
+     */
+    public static Class<?>[] types(Object[] argsOrTypes) {
+        val types = new Class<?>[argsOrTypes.length];
+        for (int i = 0; i < argsOrTypes.length; i++) {
+            val arg = argsOrTypes[i];
+            types[i] = arg == null ? null : arg instanceof Class ? (Class<?>) arg : UnreflectType.of(arg).toClass();
+        }
+        return types;
+    }
+
     /**
      * Converts collection of parameters into easy to read signature. Used for debugging methods and constructors.
      *
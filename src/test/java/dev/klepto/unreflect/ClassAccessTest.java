@@ -8,11 +8,16 @@ import dev.klepto.unreflect.reflection.ReflectionClassAccess;
 import dev.klepto.unreflect.reflection.ReflectionConstructorAccess;
 import dev.klepto.unreflect.reflection.ReflectionFieldAccess;
 import dev.klepto.unreflect.reflection.ReflectionMethodAccess;
+import lombok.SneakyThrows;
 import lombok.val;
+import one.util.streamex.StreamEx;
 import org.junit.jupiter.api.Test;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -62,6 +67,19 @@ public class ClassAccessTest {
         assertNotEquals(instanceA, instanceB);
     }
 
+    @Test
+    public void testResolution() {
+        assertEquals(classAccess.constructor(String.class).source(), classAccess.constructor("").source());
+        assertEquals(classAccess.constructor(Object.class).source(), classAccess.constructor(1L).source());
+        assertNull(classAccess.constructor(1, 2));
+        assertNull(classAccess.method("methodStatic", 1, 2));
+
+        val unreflected = classAccess.unreflect();
+        assertTrue(unreflected.constructor("") instanceof BytecodeContructorAccess);
+        assertTrue(unreflected.method("methodStatic", "") instanceof BytecodeMethodAccess);
+        assertNotNull(unreflected.create(""));
+    }
+
     @Test
     public void testConstructors() {
         val constructors = classAccess.constructors().toList();
@@ -88,6 +106,16 @@ public class ClassAccessTest {
         assertEquals(fields.get(1).source(), classAccess.field("fieldStatic").source());
     }
 
+    @Test
+    public void testFieldsByName() {
+        val fields = classAccess.fields("fieldStatic", "missing", "field").toList();
+        assertEquals(2, fields.size());
+        assertEquals("fieldStatic", fields.get(0).name());
+        assertEquals("field", fields.get(1).name());
+        assertNull(classAccess.field("missing"));
+        assertTrue(classAccess.unreflect().fields("field").allMatch(field -> field instanceof BytecodeFieldAccess));
+    }
+
     @Test
     public void testMethods() {
         val declaringFilter = (Predicate<MethodAccess>) member -> member.declaringType().matchesExact(TestSubject.class);
@@ -109,12 +137,118 @@ public class ClassAccessTest {
         assertEquals(staticObjectMethods.get(0).source(), classAccess.method("methodStatic", Object.class).source());
     }
 
+    @Test
+    public void testInvokeByName() {
+        val unreflected = classAccess.bind(subject).unreflect();
+        for (val access : Arrays.asList(classAccess.bind(subject), unreflected)) {
+            assertEquals(subject.hashCode(), access.<Integer>invoke("hashCode"));
+            assertEquals(true, access.invoke("equals", subject));
+            assertNull(access.invoke("method"));
+            assertNull(access.invoke("methodStatic", "value"));
+            assertThrows(IllegalArgumentException.class, () -> access.invoke("missing"));
+
+            access.set("field", "value");
+            assertEquals("value", access.get("field"));
+            assertThrows(IllegalArgumentException.class, () -> access.get("missing"));
+        }
+
+        val string = Unreflect.unreflect(String.class);
+        assertEquals("ab", string.bind("a").invoke("concat", "b"));
+        assertThrows(IllegalArgumentException.class, () -> string.bind("a").invoke("concat", 1));
+        assertThrows(IllegalArgumentException.class, () -> string.bind(1).invoke("concat", "b"));
+    }
+
+    @Test
+    public void testDeclaredMembers() {
+        assertEquals(2, classAccess.declaredFields().count());
+        assertEquals(3, classAccess.declaredMethods().count());
+        assertTrue(classAccess.methods().count() > classAccess.declaredMethods().count());
+        val declaredMethods = classAccess.declaredMethods();
+        assertTrue(declaredMethods.allMatch(method -> method.declaringType().matchesExact(TestSubject.class)));
+        assertTrue(classAccess.unreflect().declaredFields().allMatch(field -> field instanceof BytecodeFieldAccess));
+        val firstField = classAccess.fields().toList().get(0);
+        assertEquals(firstField.source(), classAccess.declaredFields().toList().get(0).source());
+    }
+
+    @Test
+    public void testMemberLists() {
+        assertSame(classAccess.fieldList(), classAccess.fieldList());
+        assertSame(classAccess.methodList(), classAccess.methodList());
+        assertEquals(classAccess.constructors().count(), classAccess.constructorList().size());
+        assertEquals(
+                classAccess.fields().map(FieldAccess::source).toList(),
+                StreamEx.of(classAccess.fieldList()).map(FieldAccess::source).toList()
+        );
+
+        assertSame(classAccess.fieldList(), Unreflect.reflect(new TestSubject()).fieldList());
+        assertSame(classAccess.methodList(), Unreflect.reflect(TestSubject.class).methodList());
+
+        val unreflected = classAccess.unreflect();
+        assertSame(unreflected.fieldList(), unreflected.fieldList());
+        assertSame(unreflected.fieldList(), Unreflect.unreflect(new TestSubject()).fieldList());
+        assertTrue(unreflected.methodList().stream().allMatch(method -> method instanceof BytecodeMethodAccess));
+
+        val names = new ArrayList<String>();
+        val values = new ArrayList<Object>();
+        classAccess.forEachField(field -> names.add(field.name()));
+        classAccess.forEachField((field, value) -> values.add(value));
+        assertEquals(Arrays.asList("field", "fieldStatic"), names);
+        assertEquals(2, values.size());
+
+        val constructor = classAccess.constructor(String.class);
+        assertSame(constructor.parameterList(), constructor.parameterList());
+        assertEquals(constructor.source().getParameterTypes()[0], constructor.parameterList().get(0).type().toClass());
+    }
+
+    @Test
+    public void testMembersShared() {
+        assertSame(Unreflect.reflect(TestSubject.class), Unreflect.reflect(TestSubject.class));
+        assertSame(classAccess.field("field").source(), Unreflect.reflect(TestSubject.class).field("field").source());
+        assertSame(classAccess.method("method").source(), classAccess.method("method").source());
+        assertSame(classAccess.constructor().source(), classAccess.constructor().source());
+    }
+
     @Test
     public void testAnnotations() {
         assertEquals(1, classAccess.annotations().count());
         assertTrue(classAccess.containsAnnotation(TestAnnotation.class));
     }
 
+    @Test
+    public void testAnnotatedMembers() {
+        assertEquals(1, classAccess.constructorsAnnotatedWith(TestAnnotation.class).count());
+        assertEquals("field", classAccess.fieldsAnnotatedWith(TestAnnotation.class).toList().get(0).name());
+        assertEquals("method", classAccess.methodsAnnotatedWith(TestAnnotation.class).toList().get(0).name());
+        assertEquals(1, classAccess.parametersAnnotatedWith(TestAnnotation.class).count());
+        assertEquals(0, classAccess.fieldsAnnotatedWith(Retention.class).count());
+        assertTrue(classAccess.unreflect()
+                .fieldsAnnotatedWith(TestAnnotation.class)
+                .allMatch(field -> field instanceof BytecodeFieldAccess));
+
+        val parameter = classAccess.parametersAnnotatedWith(TestAnnotation.class).toList().get(0);
+        assertEquals(String.class, parameter.type().toClass());
+        assertTrue(parameter.containsAnnotation(TestAnnotation.class));
+        assertTrue(parameter.constructor().containsAnnotation(TestAnnotation.class));
+        assertFalse(classAccess.field("fieldStatic").containsAnnotation(TestAnnotation.class));
+    }
+
+    @Test
+    public void testMaterializedAnnotations() {
+        val annotation = classAccess.materializedAnnotation(TestAnnotation.class);
+        val source = classAccess.annotation(TestAnnotation.class);
+        assertNotSame(source, annotation);
+        assertSame(annotation, classAccess.unreflect().materializedAnnotation(TestAnnotation.class));
+        assertEquals(7, annotation.value());
+        assertArrayEquals(new String[]{"a", "b"}, annotation.names());
+        assertEquals(TestAnnotation.class, annotation.annotationType());
+        assertEquals(source, annotation);
+        assertEquals(source.hashCode(), annotation.hashCode());
+
+        val field = classAccess.field("field");
+        assertEquals(0, field.materializedAnnotation(TestAnnotation.class).value());
+        assertNull(classAccess.field("fieldStatic").materializedAnnotation(TestAnnotation.class));
+    }
+
     @Test
     public void testModifiers() {
         assertTrue(classAccess.isStatic());
@@ -126,24 +260,63 @@ public class ClassAccessTest {
         assertEquals(Object.class, classAccess.superclass().source());
     }
 
+    @Test
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public void testUnreflectAll() {
+        val type = BatchSubject.class;
+        val accessors = Unreflect.unreflectAll(Arrays.<Member>asList(
+                type.getDeclaredField("value"),
+                type.getDeclaredConstructor(int.class),
+                type.getDeclaredMethod("increase", int.class),
+                type.getDeclaredMethod("square", long.class),
+                type.getDeclaredMethod("reset")
+        ));
+        assertEquals(5, accessors.size());
+
+        BatchSubject subject = ((ConstructorAccess<BatchSubject>) accessors.get(1)).invoke(2);
+        assertEquals(2, ((FieldAccess) accessors.get(0)).bind(subject).getInt());
+        val increase = ((MethodAccess) accessors.get(2)).bind(subject);
+        assertEquals(5, increase.invokeInt(3));
+        assertEquals(6, increase.<Integer>invoke1(1));
+        assertEquals(7, increase.<Integer>invoke(1));
+        assertThrows(RuntimeException.class, () -> increase.invoke(1, 2));
+        assertEquals(9L, ((MethodAccess) accessors.get(3)).invokeLong(3));
+        assertEquals(8L, increase.invokeLong(1));
+        assertThrows(IllegalArgumentException.class, () -> ((MethodAccess) accessors.get(3)).invokeInt(3));
+        assertThrows(IllegalArgumentException.class, () -> increase.invokeInt(1L));
+        ((MethodAccess) accessors.get(4)).bind(subject).invoke();
+        assertEquals(0, subject.value);
+
+        val classAccess = Unreflect.unreflect(new BatchSubject(4));
+        assertEquals(6, classAccess.method("increase").invokeInt(2));
+        assertEquals(3, classAccess.constructors().count());
+    }
+
     @Retention(RetentionPolicy.RUNTIME)
     private @interface TestAnnotation {
+        int value() default 0;
+
+        String[] names() default {};
     }
 
-    @TestAnnotation
+    @TestAnnotation(value = 7, names = {"a", "b"})
     private static class TestSubject {
+        @TestAnnotation
         private Object field;
         private static Object fieldStatic;
 
         private TestSubject() {
         }
 
-        private TestSubject(String value) {
+        @TestAnnotation
+        private TestSubject(@TestAnnotation String value) {
         }
 
         private TestSubject(Object value) {
         }
 
+        @TestAnnotation
         private void method() {
         }
 
@@ -153,4 +326,31 @@ public class ClassAccessTest {
         }
     }
 
+    private static class BatchSubject {
+        private int value;
+
+        BatchSubject() {
+        }
+
+        BatchSubject(int value) {
+            this.value = value;
+        }
+
+        BatchSubject(long value) {
+            this.value = (int) value;
+        }
+
+        private int increase(int amount) {
+            return value += amount;
+        }
+
+        private static long square(long value) {
+            return value * value;
+        }
+
+        private void reset() {
+            value = 0;
+        }
+    }
+
 }
@@ -1,9 +1,16 @@
 package dev.klepto.unreflect;
 
 import dev.klepto.unreflect.bytecode.BytecodeContructorAccess;
+import dev.klepto.unreflect.engine.LambdaEngine;
+import dev.klepto.unreflect.engine.MethodHandleEngine;
+import lombok.SneakyThrows;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -45,6 +52,39 @@ public class ConstructorAccessTest {
         assertNotNull(instance);
     }
 
+    @Test
+    public void testFixedArity() {
+        val constructor = classAccess.constructor(String.class);
+        assertTrue(constructor.invoke1("") instanceof TestSubject);
+        assertTrue(constructor.unreflect().invoke1("") instanceof TestSubject);
+        assertTrue(classAccess.constructor().unreflect().invoke0() instanceof TestSubject);
+        assertThrows(RuntimeException.class, () -> constructor.unreflect().invoke2("", ""));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testMethodHandleEngine() {
+        val constructor = classAccess.constructor(String.class).unreflect(MethodHandleEngine.getInstance());
+        assertTrue(constructor instanceof BytecodeContructorAccess);
+        assertNotNull(constructor.create(""));
+        assertTrue(constructor.invoke1("") instanceof TestSubject);
+        assertTrue(classAccess.constructor().toMethodHandle().invoke() instanceof TestSubject);
+    }
+
+    @Test
+    public void testLambdaEngine() {
+        val constructor = classAccess.constructor(int.class).unreflect(LambdaEngine.getInstance());
+        assertTrue(constructor.create(0) instanceof TestSubject);
+        assertTrue(constructor.invoke1(0) instanceof TestSubject);
+        assertTrue(classAccess.constructor().unreflect(LambdaEngine.getInstance()).invoke0() instanceof TestSubject);
+    }
+
+    @Test
+    public void testFunctionalInterface() {
+        assertTrue(classAccess.constructor().as(Supplier.class).get() instanceof TestSubject);
+        assertTrue(classAccess.constructor(String.class).as(Function.class).apply("") instanceof TestSubject);
+        assertTrue(classAccess.constructor(int.class).as(IntFunction.class).apply(0) instanceof TestSubject);
+    }
 
     private static class TestSubject {
         private TestSubject() {
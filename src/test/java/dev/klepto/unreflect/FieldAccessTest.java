@@ -1,10 +1,25 @@
 package dev.klepto.unreflect;
 
 import dev.klepto.unreflect.bytecode.BytecodeFieldAccess;
+import dev.klepto.unreflect.bytecode.asm.AccessorGenerator;
+import dev.klepto.unreflect.bytecode.asm.HandleGenerator;
+import dev.klepto.unreflect.engine.BytecodeEngine;
+import dev.klepto.unreflect.engine.InflatingEngine;
+import dev.klepto.unreflect.engine.MethodHandleEngine;
+import dev.klepto.unreflect.engine.UnsafeEngine;
+import dev.klepto.unreflect.util.JdkInternals;
+import dev.klepto.unreflect.util.MemberTable;
 import lombok.SneakyThrows;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -42,8 +57,238 @@ public class FieldAccessTest {
         assertEquals(1337, field.<Integer>get());
     }
 
+    @Test
+    public void testPrimitiveAccess() {
+        val subject = new TestSubject();
+        val reflected = Unreflect.reflect(subject).field("field");
+        val unreflected = reflected.unreflect();
+        reflected.setInt(5);
+        assertEquals(5, unreflected.getInt());
+        unreflected.setInt(6);
+        assertEquals(6, reflected.getInt());
+        assertEquals(6L, unreflected.getLong());
+        assertEquals(6, subject.field);
+        assertThrows(IllegalArgumentException.class, unreflected::getShort);
+        assertThrows(IllegalArgumentException.class, reflected::getShort);
+
+        val staticField = Unreflect.unreflect(TestSubject.class).field("fieldStatic");
+        staticField.setLong(7L);
+        assertEquals(7L, staticField.getLong());
+
+        val value = Unreflect.reflect(Integer.valueOf(8)).field("value").unreflect();
+        assertEquals(8, value.getInt());
+    }
+
+    @Test
+    public void testAccessorCached() {
+        val field = classAccess.field("field").source();
+        val generator = AccessorGenerator.getInstance();
+        assertSame(generator.generateMutableAccessor(field), generator.generateMutableAccessor(field));
+    }
+
+    @Test
+    public void testAccessorEviction() {
+        val field = classAccess.field("field").source();
+        val otherField = classAccess.field("otherField").source();
+        val generator = AccessorGenerator.getInstance();
+        val accessor = generator.generateMutableAccessor(field);
+        Unreflect.evict(TestSubject.class);
+        assertNotSame(accessor, generator.generateMutableAccessor(field));
+        assertNotSame(classAccess.reflect(), Unreflect.reflect(TestSubject.class));
+
+        try {
+            val unboundedAccessor = generator.generateMutableAccessor(otherField);
+            generator.generateMutableAccessor(field);
+            Unreflect.setAccessorCacheLimit(1);
+            generator.generateMutableAccessor(field);
+            assertNotSame(unboundedAccessor, generator.generateMutableAccessor(otherField));
+
+            val limitedAccessor = generator.generateMutableAccessor(field);
+            assertSame(limitedAccessor, generator.generateMutableAccessor(field));
+            generator.generateMutableAccessor(otherField);
+            assertNotSame(limitedAccessor, generator.generateMutableAccessor(field));
+
+            val unsafe = UnsafeEngine.getInstance();
+            val unsafeAccessor = unsafe.fieldAccessor(field);
+            unsafe.fieldAccessor(otherField);
+            assertNotSame(unsafeAccessor, unsafe.fieldAccessor(field));
+
+            val handles = HandleGenerator.getInstance();
+            val limitedHandle = handles.generateMutableAccessor(field);
+            handles.generateMutableAccessor(otherField);
+            assertNotSame(limitedHandle, handles.generateMutableAccessor(field));
+        } finally {
+            Unreflect.setAccessorCacheLimit(0);
+        }
+
+        Unreflect.evictAll(TestSubject.class.getClassLoader());
+        assertNotSame(accessor, generator.generateMutableAccessor(field));
+    }
+
+    @Test
+    public void testGetterAs() {
+        val subject = new TestSubject();
+        subject.field = 1337;
+        val field = classAccess.field("field");
+        ToIntFunction<TestSubject> getter = field.getterAs(ToIntFunction.class);
+        assertEquals(1337, getter.applyAsInt(subject));
+        assertEquals(1337, field.bind(subject).getterAs(IntSupplier.class).getAsInt());
+        assertEquals(1337L, field.bind(subject).unreflect().getterAs(LongSupplier.class).getAsLong());
+        assertThrows(IllegalArgumentException.class, () -> field.getterAs(IntSupplier.class));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testHiddenAccessor() {
+        val generator = AccessorGenerator.getInstance();
+        val hidden = JdkInternals.isHiddenClassSupported();
+        assertEquals(hidden, generator.isHiddenHost(TestSubject.class));
+        assertFalse(generator.isHiddenHost(Integer.class));
+
+        val accessor = generator.generateMutableAccessor(TestSubject.class.getDeclaredField("field"));
+        assertEquals(hidden, accessor.getGetter().getClass().getName().startsWith(TestSubject.class.getName()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testMethodHandleEngine() {
+        val subject = new TestSubject();
+        val field = classAccess.bind(subject).field("field").unreflect(MethodHandleEngine.getInstance());
+        assertTrue(field instanceof BytecodeFieldAccess);
+        field.set(1337);
+        assertEquals(1337, subject.field);
+        assertEquals(1337, field.<Integer>get());
+        field.setInt(5);
+        assertEquals(5L, field.getLong());
+
+        val staticField = classAccess.field("fieldStatic").unreflect(MethodHandleEngine.getInstance());
+        staticField.setLong(7L);
+        assertEquals(7L, staticField.<Long>get());
+        staticField.set(8);
+        assertEquals(8L, staticField.getLong());
+        assertThrows(IllegalArgumentException.class, () -> field.set(9L));
+
+        subject.otherField = "value";
+        val getter = classAccess.field("otherField").toGetterHandle();
+        classAccess.field("field").toSetterHandle().invoke(subject, 8);
+        assertEquals("value", getter.invoke(subject));
+        assertEquals(8, subject.field);
+    }
+
+    @Test
+    public void testInflatingEngine() {
+        val subject = new TestSubject();
+        val engine = new InflatingEngine(BytecodeEngine.getInstance(), 1, false);
+        val field = classAccess.bind(subject).field("field").unreflect(engine);
+        field.setInt(3);
+        assertEquals(3L, field.getLong());
+        field.set(7);
+        assertEquals(7, field.<Integer>get());
+        assertEquals(7, subject.field);
+    }
+
+    @Test
+    public void testUnsafeEngine() {
+        val subject = new TestSubject();
+        val field = classAccess.bind(subject).field("field").unreflect(UnsafeEngine.getInstance());
+        field.set(1337);
+        assertEquals(1337, subject.field);
+        assertEquals(1337, field.<Integer>get());
+        field.setInt(5);
+        assertEquals(5L, field.getLong());
+
+        val volatileField = classAccess.bind(subject).field("volatileField").unreflect(UnsafeEngine.getInstance());
+        volatileField.setLong(7L);
+        assertEquals(7L, subject.volatileField);
+        val staticField = classAccess.field("fieldStatic").unreflect(UnsafeEngine.getInstance());
+        staticField.set(8L);
+        assertEquals(8L, staticField.<Long>get());
+        staticField.set(9);
+        assertEquals(9L, staticField.getLong());
+        assertThrows(IllegalArgumentException.class, () -> field.set(10L));
+
+        val constant = Unreflect.reflect(Integer.class).field("MAX_VALUE").unreflect(UnsafeEngine.getInstance());
+        assertEquals(Integer.MAX_VALUE, constant.getInt());
+        assertThrows(UnsupportedOperationException.class, () -> constant.setInt(0));
+
+        val otherField = classAccess.field("otherField").unreflect(UnsafeEngine.getInstance());
+        assertThrows(NullPointerException.class, otherField::get);
+        assertThrows(ClassCastException.class, () -> otherField.bind(subject).set(1));
+        assertThrows(ClassCastException.class, () -> otherField.bind("").get());
+
+        try {
+            Unreflect.setDefaultFieldEngine(UnsafeEngine.getInstance());
+            val unreflected = classAccess.bind(subject).field("otherField").unreflect();
+            unreflected.set("value");
+            assertEquals("value", subject.otherField);
+        } finally {
+            Unreflect.setDefaultFieldEngine(null);
+        }
+    }
+
+    @Test
+    public void testFieldTable() {
+        val subject = new TestSubject();
+        val fieldTable = classAccess.fieldTable();
+        val slot = MemberTable.of(TestSubject.class).fields().indexOf(classAccess.field("field").source());
+        assertSame(fieldTable, Unreflect.reflect(TestSubject.class).fieldTable());
+        assertEquals(classAccess.fieldList().size(), fieldTable.size());
+
+        fieldTable.setInt(subject, slot, 1337);
+        assertEquals(1337, subject.field);
+        assertEquals(1337, fieldTable.get(subject, slot));
+        assertEquals(1337L, fieldTable.getLong(subject, slot));
+        fieldTable.set(subject, slot, 7);
+        assertEquals(7, fieldTable.getInt(subject, slot));
+        fieldTable.set(subject, slot, 'a');
+        assertEquals(97, subject.field);
+        assertThrows(IllegalArgumentException.class, () -> fieldTable.set(subject, slot, 7L));
+        assertThrows(IllegalArgumentException.class, () -> fieldTable.getShort(subject, slot));
+        val unreflected = classAccess.bind(subject).field("field").unreflect();
+        assertThrows(IllegalArgumentException.class, () -> unreflected.set(7L));
+        assertThrows(IndexOutOfBoundsException.class, () -> fieldTable.get(subject, fieldTable.size()));
+
+        val field = classAccess.bind(subject).unreflect().field("otherField");
+        assertTrue(field instanceof BytecodeFieldAccess);
+        field.set("value");
+        assertEquals("value", subject.otherField);
+        assertEquals("value", field.get());
+    }
+
+    @Test
+    public void testForEachField() {
+        val subject = new TestSubject();
+        subject.field = 1337;
+        subject.otherField = "value";
+        for (val access : Arrays.asList(classAccess, classAccess.unreflect())) {
+            val ints = new ArrayList<Integer>();
+            val values = new ArrayList<Object>();
+            access.forEachField(subject, new FieldVisitor() {
+                @Override
+                public void visit(FieldAccess field, Object value) {
+                    values.add(value);
+                }
+
+                @Override
+                public void visitInt(FieldAccess field, int value) {
+                    ints.add(value);
+                }
+            });
+            assertEquals(Collections.singletonList(1337), ints);
+            assertEquals(3, values.size());
+            assertEquals("value", values.get(0));
+        }
+
+        val values = new ArrayList<Object>();
+        classAccess.bind(subject).unreflect().forEachField((field, value) -> values.add(value));
+        assertEquals(Arrays.asList(1337, "value"), values.subList(0, 2));
+    }
+
     private static class TestSubject {
         private int field;
+        private String otherField;
+        private static long fieldStatic;
+        private volatile long volatileField;
     }
 
 }
@@ -1,11 +1,36 @@
 package dev.klepto.unreflect;
 
 import dev.klepto.unreflect.bytecode.BytecodeMethodAccess;
+import dev.klepto.unreflect.bytecode.asm.AccessorGenerator;
+import dev.klepto.unreflect.bytecode.asm.InvokableAccessor;
+import dev.klepto.unreflect.bytecode.asm.MutableAccessor;
+import dev.klepto.unreflect.engine.AccessEngine;
+import dev.klepto.unreflect.engine.AccessEngines;
+import dev.klepto.unreflect.engine.BytecodeEngine;
+import dev.klepto.unreflect.engine.InflatingEngine;
+import dev.klepto.unreflect.engine.LambdaEngine;
+import dev.klepto.unreflect.engine.MethodHandleEngine;
+import dev.klepto.unreflect.engine.ReflectionEngine;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.val;
 import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToIntFunction;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.objectweb.asm.Opcodes.*;
 
 /**
  * Tests for {@link MethodAccess}.
@@ -35,11 +60,299 @@ public class MethodAccessTest {
         assertNull(classAccess.method("method").unreflect().invoke());
     }
 
+    @Test
+    public void testInvokeWidening() {
+        val method = classAccess.method("square", 3);
+        assertNotNull(method);
+        assertEquals(9L, method.<Long>invoke(3));
+        assertEquals(9L, method.unreflect().<Long>invoke(3));
+        assertEquals(9L, method.unreflect().<Long>invoke('\3'));
+
+        val increase = classAccess.method("increase");
+        assertEquals(98, increase.unreflect().<Integer>invoke('a'));
+        assertThrows(IllegalArgumentException.class, () -> increase.invoke(2L));
+        assertThrows(IllegalArgumentException.class, () -> increase.unreflect().invoke(2L));
+        assertThrows(IllegalArgumentException.class, () -> increase.unreflect().invoke(2.0));
+        assertThrows(IllegalArgumentException.class, () -> increase.unreflect().invoke1(2L));
+
+        assertEquals(5L, increase.invokeLong(4));
+        assertEquals(5L, increase.unreflect().invokeLong(4));
+        val halve = classAccess.method("halve");
+        assertEquals(3, halve.invokeInt((short) 6));
+        assertEquals(3, halve.unreflect().invokeInt((short) 6));
+        assertThrows(IllegalArgumentException.class, () -> classAccess.method("square").invokeInt(3));
+        assertThrows(IllegalArgumentException.class, () -> increase.invokeBoolean(1));
+    }
+
+    @Test
+    public void testFixedArity() {
+        val method = classAccess.method("increase");
+        val unreflected = method.unreflect();
+        assertEquals(3, method.<Integer>invoke1(2));
+        assertEquals(3, unreflected.<Integer>invoke1(2));
+        assertEquals(3, method.invokeInt(2));
+        assertEquals(3, unreflected.invokeInt(2));
+        assertEquals(9L, classAccess.method("square").unreflect().invokeLong(3));
+        assertNull(classAccess.method("method").unreflect().invoke0());
+        assertThrows(RuntimeException.class, () -> unreflected.invoke2(1, 2));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testMethodHandleEngine() {
+        val increase = classAccess.method("increase").unreflect(MethodHandleEngine.getInstance());
+        assertTrue(increase instanceof BytecodeMethodAccess);
+        assertEquals(3, increase.<Integer>invoke(2));
+        assertEquals(3, increase.invokeInt(2));
+        assertEquals(9L, classAccess.method("square").unreflect(MethodHandleEngine.getInstance()).invokeLong(3));
+        assertNull(classAccess.method("method").unreflect(MethodHandleEngine.getInstance()).invoke0());
+        assertThrows(RuntimeException.class, () -> increase.invoke2(1, 2));
+        assertEquals(98, increase.<Integer>invoke('a'));
+        assertThrows(IllegalArgumentException.class, () -> increase.invoke(2L));
+
+        val handle = classAccess.method("increase").toMethodHandle();
+        assertEquals(3, (int) handle.invokeExact(2));
+    }
+
+    @Test
+    public void testLambdaEngine() {
+        val increase = classAccess.method("increase").unreflect(LambdaEngine.getInstance());
+        assertEquals(3, increase.<Integer>invoke(2));
+        assertEquals(3, increase.<Integer>invoke1(2));
+        assertEquals(3, increase.invokeInt(2));
+        assertEquals(9L, classAccess.method("square").unreflect(LambdaEngine.getInstance()).invokeLong(3));
+        assertEquals(98, increase.<Integer>invoke('a'));
+        assertThrows(IllegalArgumentException.class, () -> increase.invoke(2L));
+        assertNull(classAccess.method("method").unreflect(LambdaEngine.getInstance()).invoke0());
+        assertThrows(RuntimeException.class, () -> increase.invoke2(1, 2));
+
+        val list = new ArrayList<String>();
+        val add = Unreflect.reflect(list).method("add", 0, "");
+        add.unreflect(LambdaEngine.getInstance()).invoke(0, "a");
+        assertTrue(Unreflect.reflect(list).method("add", "").unreflect(LambdaEngine.getInstance()).invokeBoolean("b"));
+        assertEquals(Arrays.asList("a", "b"), list);
+
+        try {
+            Unreflect.setDefaultEngine(LambdaEngine.getInstance());
+            assertEquals(3, classAccess.method("increase").unreflect().invokeInt(2));
+        } finally {
+            Unreflect.setDefaultEngine(BytecodeEngine.getInstance());
+        }
+    }
+
+    @Test
+    public void testReflectionEngine() {
+        val increase = classAccess.method("increase").unreflect(ReflectionEngine.getInstance());
+        assertEquals(3, increase.invokeInt(2));
+        assertEquals(3, increase.<Integer>invoke1(2));
+        assertThrows(RuntimeException.class, () -> increase.invoke(1, 2, 3));
+    }
+
+    @Test
+    public void testEngineSelection() {
+        val engines = AccessEngines.engines();
+        assertEquals(BytecodeEngine.getInstance(), engines.get(0));
+        assertEquals(ReflectionEngine.getInstance(), engines.get(engines.size() - 1));
+        assertEquals(BytecodeEngine.getInstance(), AccessEngines.getDefault());
+
+        try {
+            Unreflect.calibrateEngines();
+            assertTrue(engines.contains(AccessEngines.getFieldDefault()));
+            assertTrue(engines.contains(AccessEngines.getMethodDefault()));
+            assertTrue(engines.contains(AccessEngines.getConstructorDefault()));
+            assertNotEquals(ReflectionEngine.getInstance(), AccessEngines.getMethodDefault());
+            assertNotEquals(ReflectionEngine.getInstance(), AccessEngines.getConstructorDefault());
+            assertEquals(3, classAccess.method("increase").unreflect().invokeInt(2));
+        } finally {
+            AccessEngines.setFieldDefault(null);
+            AccessEngines.setMethodDefault(null);
+            AccessEngines.setConstructorDefault(null);
+        }
+    }
+
+    @Test
+    public void testFunctionalInterface() {
+        val increase = classAccess.method("increase").as(IntUnaryOperator.class);
+        assertEquals(3, increase.applyAsInt(2));
+        assertEquals(9L, classAccess.method("square").as(LongUnaryOperator.class).applyAsLong(3));
+        Function<Integer, Long> boxedSquare = classAccess.method("square").as(Function.class);
+        assertEquals(9L, boxedSquare.apply(3));
+        classAccess.method("method").as(Runnable.class).run();
+        assertThrows(IllegalArgumentException.class, () -> classAccess.method("increase").as(Runnable.class));
+        assertThrows(IllegalArgumentException.class, () -> classAccess.method("increase").as(LongUnaryOperator.class));
+        ToIntFunction<List<?>> size = Unreflect.reflect(List.class).method("size").as(ToIntFunction.class);
+        assertEquals(2, size.applyAsInt(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testFunctionalInterfaceClassLoaders() {
+        // Interfaces of the same name from unrelated class loaders, e.g. of two plugins.
+        val length = Unreflect.reflect(String.class).method("length");
+        for (int i = 0; i < 2; i++) {
+            val functionalInterface = new IsolatedClassLoader().define("p.Fn", generateFunctionalInterface("p/Fn"));
+            val implementation = length.as(functionalInterface);
+            assertTrue(functionalInterface.isInstance(implementation));
+            assertEquals(3, functionalInterface.getMethod("apply", String.class).invoke(implementation, "abc"));
+        }
+
+        // Member and interface of class loaders that cannot see each other.
+        val functionalInterface = new IsolatedClassLoader().define("p.Fn", generateFunctionalInterface("p/Fn"));
+        val subject = new IsolatedClassLoader().define("q.Subject", generateSubject("q/Subject"));
+        val implementation = Unreflect.reflect(subject).method("twice").as(functionalInterface);
+        assertEquals(6, functionalInterface.getMethod("apply", String.class).invoke(implementation, "abc"));
+    }
+
+    @Test
+    public void testSharedShape() {
+        assertEquals(3, classAccess.method("increase").unreflect().invokeInt(2));
+        assertEquals(1, classAccess.method("decrease").unreflect().invokeInt(2));
+        val subject = new TestSubject();
+        assertSame(subject, classAccess.method("self").unreflect().invoke(subject));
+        assertEquals("ab", classAccess.method("concat").unreflect().invoke("a", "b"));
+        assertThrows(ClassCastException.class, () -> classAccess.method("self").unreflect().invoke("a"));
+        assertThrows(RuntimeException.class, () -> classAccess.method("concat").unreflect().invoke("a"));
+    }
+
+    @Test
+    public void testInflatingEngine() {
+        val inflations = new AtomicInteger();
+        val engine = new InflatingEngine(new CountingEngine(inflations), 2, false);
+        val increase = classAccess.method("increase").unreflect(engine);
+        assertEquals(3, increase.invokeInt(2));
+        assertEquals(3, increase.<Integer>invoke(2));
+        assertEquals(0, inflations.get());
+        assertEquals(3, increase.<Integer>invoke1(2));
+        assertEquals(3, increase.invokeInt(2));
+        assertEquals(1, inflations.get());
+
+        val bytecodeEngine = BytecodeEngine.getInstance();
+        assertThrows(IllegalArgumentException.class, () -> new InflatingEngine(engine, 1, false));
+        assertThrows(IllegalArgumentException.class, () -> new InflatingEngine(bytecodeEngine, -1, false));
+    }
+
+    @Test
+    public void testInflatingEngineConsistency() {
+        val inflations = new AtomicInteger();
+        val engine = new InflatingEngine(new CountingEngine(inflations), 2, false);
+        val fail = classAccess.method("fail").unreflect(engine);
+        val increase = classAccess.method("increase").unreflect(engine);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> fail.invoke("failure"));
+            assertThrows(ClassCastException.class, () -> fail.invoke(1));
+            assertEquals(2, increase.invokeInt('\u0001'));
+            assertThrows(IllegalArgumentException.class, () -> increase.invoke(1L));
+        }
+        assertEquals(2, inflations.get());
+
+        val shared = new InflatingEngine(new CountingEngine(inflations), 2, false);
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, () -> classAccess.method("fail").unreflect(shared).invoke(""));
+        }
+        assertEquals(3, inflations.get());
+    }
+
+    @Test
+    @SneakyThrows
+    public void testBackgroundInflation() {
+        val inflations = new AtomicInteger();
+        val engine = new InflatingEngine(new CountingEngine(inflations), 0, true);
+        val square = classAccess.method("square").unreflect(engine);
+        assertEquals(9L, square.invokeLong(3L));
+        for (int i = 0; i < 100 && inflations.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, inflations.get());
+        assertEquals(16L, square.invokeLong(4L));
+    }
+
+    @Test
+    public void testAccessorCached() {
+        val method = classAccess.method("increase").source();
+        val generator = AccessorGenerator.getInstance();
+        assertSame(generator.generateInvokableAccessor(method), generator.generateInvokableAccessor(method));
+    }
+
+    @RequiredArgsConstructor
+    private static class CountingEngine implements AccessEngine {
+        private final AtomicInteger accessors;
+
+        @Override
+        public MutableAccessor fieldAccessor(Field field) {
+            accessors.incrementAndGet();
+            return BytecodeEngine.getInstance().fieldAccessor(field);
+        }
+
+        @Override
+        public InvokableAccessor methodAccessor(Method method) {
+            accessors.incrementAndGet();
+            return BytecodeEngine.getInstance().methodAccessor(method);
+        }
+
+        @Override
+        public InvokableAccessor constructorAccessor(Constructor<?> constructor) {
+            accessors.incrementAndGet();
+            return BytecodeEngine.getInstance().constructorAccessor(constructor);
+        }
+    }
+
+    private static byte[] generateFunctionalInterface(String name) {
+        val cw = new ClassWriter(0);
+        cw.visit(V1_8, ACC_PUBLIC | ACC_ABSTRACT | ACC_INTERFACE, name, null, "java/lang/Object", null);
+        cw.visitMethod(ACC_PUBLIC | ACC_ABSTRACT, "apply", "(Ljava/lang/String;)I", null, null).visitEnd();
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static byte[] generateSubject(String name) {
+        val cw = new ClassWriter(0);
+        cw.visit(V1_8, ACC_PUBLIC, name, null, "java/lang/Object", null);
+        val mv = cw.visitMethod(ACC_PRIVATE | ACC_STATIC, "twice", "(Ljava/lang/String;)I", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "length", "()I", false);
+        mv.visitInsn(ICONST_2);
+        mv.visitInsn(IMUL);
+        mv.visitInsn(IRETURN);
+        mv.visitMaxs(2, 1);
+        mv.visitEnd();
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static class IsolatedClassLoader extends ClassLoader {
+        private IsolatedClassLoader() {
+            super(null);
+        }
+
+        private Class<?> define(String name, byte[] bytecode) {
+            return defineClass(name, bytecode, 0, bytecode.length);
+        }
+    }
+
     private static class TestSubject {
         private static int increase(int value) {
             return value + 1;
         }
+        private static int decrease(int value) {
+            return value - 1;
+        }
+        private static TestSubject self(TestSubject subject) {
+            return subject;
+        }
+        private static String concat(String first, String second) {
+            return first + second;
+        }
         private static void method() {
         }
+        private static long square(long value) {
+            return value * value;
+        }
+        private static short halve(short value) {
+            return (short) (value / 2);
+        }
+        private static void fail(String message) {
+            throw new IllegalStateException(message);
+        }
     }
 }
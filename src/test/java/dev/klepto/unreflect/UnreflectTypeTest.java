@@ -41,6 +41,31 @@ public class UnreflectTypeTest {
         assertIterableEquals(expected, actual);
     }
 
+    @Test
+    @SneakyThrows
+    public void testInterned() {
+        val field = TestSubjectC.class.getDeclaredField("field");
+        assertSame(UnreflectType.of(TestSubjectC.class), UnreflectType.of(TestSubjectC.class));
+        assertSame(UnreflectType.of(TestSubjectC.class), UnreflectType.of(TypeToken.of(TestSubjectC.class)));
+        assertSame(UnreflectType.of(TestSubjectC.class), UnreflectType.of(field));
+
+        val genericType = new TypeToken<TestSubject<Short, Integer, Long>>() {};
+        assertEquals(UnreflectType.of(genericType), UnreflectType.of(genericType.getType()));
+        assertEquals(UnreflectType.of(genericType).hashCode(), UnreflectType.of(genericType.getType()).hashCode());
+        assertNotEquals(UnreflectType.of(genericType), UnreflectType.of(TestSubject.class));
+    }
+
+    @Test
+    public void testEvictedEquality() {
+        val superType = UnreflectType.of(TestSubjectC.class).superType();
+        val type = UnreflectType.of(TestSubjectA.class);
+        Unreflect.evict(TestSubjectA.class);
+        assertNotSame(type, UnreflectType.of(TestSubjectA.class));
+        assertEquals(type, UnreflectType.of(TestSubjectA.class));
+        assertEquals(UnreflectType.of(TestSubjectA.class), superType);
+        assertNotEquals(type, UnreflectType.of(TestSubjectC.class));
+    }
+
     @Test
     public void testAllocate() {
         val type = UnreflectType.of(TestSubjectC.class);
@@ -60,6 +85,9 @@ public class UnreflectTypeTest {
         val type = UnreflectType.of(TestSubjectC.class);
         assertEquals(UnreflectType.of(TestSubjectA.class), type.superType());
         assertEquals(UnreflectType.of(Object.class), type.superType(1));
+        assertNull(type.superType(2));
+        assertThrows(IllegalArgumentException.class, () -> type.superType(-1));
+        assertNull(UnreflectType.of(Object.class).superType());
 
         val expected = Arrays.asList(UnreflectType.of(TestSubjectA.class), UnreflectType.of(Object.class));
         val actual = type.superTypes().toList();
@@ -76,6 +104,8 @@ public class UnreflectTypeTest {
         assertTrue(subTypes.contains(UnreflectType.of(TestSubjectA.class)));
         assertTrue(subTypes.contains(UnreflectType.of(typeToken)));
         assertTrue(subTypes.contains(UnreflectType.of(Object.class)));
+        assertEquals(subTypes.get(1), type.subType(1));
+        assertNull(type.subType(subTypes.size()));
     }
 
     @Test
@@ -114,6 +144,26 @@ public class UnreflectTypeTest {
         assertTrue(typeC.matches(new Object()));
     }
 
+    @Test
+    public void testMatchesBoxing() {
+        val integerType = UnreflectType.of(Integer.class);
+        assertTrue(integerType.matches(int.class));
+        assertTrue(integerType.matches(long.class));
+        assertTrue(integerType.matches(double.class));
+        assertFalse(integerType.matches(short.class));
+        assertFalse(integerType.matches(boolean.class));
+        assertFalse(integerType.matches(Long.class));
+
+        val intType = UnreflectType.of(int.class);
+        assertTrue(intType.matches(Integer.class));
+        assertTrue(intType.matches(Number.class));
+        assertTrue(intType.matches(long.class));
+        assertFalse(intType.matches(String.class));
+        assertTrue(UnreflectType.of(Boolean.class).matches(boolean.class));
+        assertTrue(UnreflectType.of(Character.class).matches(int.class));
+        assertFalse(UnreflectType.of(Character.class).matches(short.class));
+    }
+
     @Test
     public void testArray() {
         val type = UnreflectType.of(boolean[][].class);